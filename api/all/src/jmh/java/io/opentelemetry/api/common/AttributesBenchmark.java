@@ -7,6 +7,8 @@ package io.opentelemetry.api.common;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -33,6 +35,24 @@ public class AttributesBenchmark {
     }
   }
 
+  private final Map<Attributes, Object> attributesMap = new ConcurrentHashMap<>();
+  private final Attributes otherTenItems;
+
+  public AttributesBenchmark() {
+    for (int i = 0; i < 100; i++) {
+      attributesMap.put(tenItems("value" + i), new Object());
+    }
+    otherTenItems = tenItems("value50");
+  }
+
+  private static Attributes tenItems(String lastValue) {
+    AttributesBuilder attributesBuilder = Attributes.builder();
+    for (int i = 0; i < 9; i++) {
+      attributesBuilder.put(keys.get(i), values.get(i));
+    }
+    return attributesBuilder.put(keys.get(9), lastValue).build();
+  }
+
   @Benchmark
   @BenchmarkMode({Mode.AverageTime})
   @Fork(1)
@@ -115,4 +135,45 @@ public class AttributesBenchmark {
     }
     return attributesBuilder.build();
   }
+
+  /** Adds keys in reverse order, so that they need sorting. */
+  @Benchmark
+  @BenchmarkMode({Mode.AverageTime})
+  @Fork(1)
+  @Measurement(iterations = 15, time = 1)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @Warmup(iterations = 5, time = 1)
+  public Attributes builderThreeItemsReversed() {
+    AttributesBuilder attributesBuilder = Attributes.builder();
+    for (int i = 2; i >= 0; i--) {
+      attributesBuilder.put(keys.get(i), values.get(i));
+    }
+    return attributesBuilder.build();
+  }
+
+  /** Adds keys in reverse order, so that they need sorting. */
+  @Benchmark
+  @BenchmarkMode({Mode.AverageTime})
+  @Fork(1)
+  @Measurement(iterations = 15, time = 1)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @Warmup(iterations = 5, time = 1)
+  public Attributes builderTenItemsReversed() {
+    AttributesBuilder attributesBuilder = Attributes.builder();
+    for (int i = 9; i >= 0; i--) {
+      attributesBuilder.put(keys.get(i), values.get(i));
+    }
+    return attributesBuilder.build();
+  }
+
+  /** Looks up attributes equal to, but not the same instance as, a key of a map. */
+  @Benchmark
+  @BenchmarkMode({Mode.AverageTime})
+  @Fork(1)
+  @Measurement(iterations = 15, time = 1)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @Warmup(iterations = 5, time = 1)
+  public Object mapLookupTenItems() {
+    return attributesMap.get(otherTenItems);
+  }
 }
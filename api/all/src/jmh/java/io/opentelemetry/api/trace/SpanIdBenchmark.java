@@ -26,8 +26,38 @@ import org.openjdk.jmh.annotations.Warmup;
 @Threads(1)
 public class SpanIdBenchmark {
 
+  private static final String TRACE_ID = "ff000000000000000000000000000041";
+  private static final String SPAN_ID = "ff00000000000041";
+  private static final SpanContext SPAN_CONTEXT =
+      SpanContext.create(TRACE_ID, SPAN_ID, TraceFlags.getSampled(), TraceState.getDefault());
+
   @Benchmark
   public byte[] getSpanIdBytes() {
-    return SpanContext.getInvalid().getSpanIdBytes();
+    return SPAN_CONTEXT.getSpanIdBytes();
+  }
+
+  @Benchmark
+  public byte[] getTraceIdBytes() {
+    return SPAN_CONTEXT.getTraceIdBytes();
+  }
+
+  @Benchmark
+  public String spanIdFromLong() {
+    return SpanId.fromLong(0xff00000000000041L);
+  }
+
+  @Benchmark
+  public String traceIdFromLongs() {
+    return TraceId.fromLongs(0xff00000000000000L, 0x41L);
+  }
+
+  @Benchmark
+  public boolean spanIdIsValid() {
+    return SpanId.isValid(SPAN_ID);
+  }
+
+  @Benchmark
+  public boolean traceIdIsValid() {
+    return TraceId.isValid(TRACE_ID);
   }
 }
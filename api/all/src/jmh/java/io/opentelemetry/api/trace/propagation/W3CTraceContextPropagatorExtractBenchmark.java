@@ -30,6 +30,7 @@ import org.openjdk.jmh.annotations.Warmup;
 public class W3CTraceContextPropagatorExtractBenchmark {
 
   private static final String TRACEPARENT = "traceparent";
+  private static final String TRACESTATE = "tracestate";
   private static final int COUNT = 5;
   private static final List<String> traceparentsHeaders =
       Arrays.asList(
@@ -54,6 +55,14 @@ public class W3CTraceContextPropagatorExtractBenchmark {
       };
   private static final List<Map<String, String>> carriers =
       getCarrierForHeader(traceparentsHeaders);
+  private static final List<Map<String, String>> carriersWithTraceState =
+      getCarrierForHeader(traceparentsHeaders);
+
+  static {
+    for (Map<String, String> carrier : carriersWithTraceState) {
+      carrier.put(TRACESTATE, "congo=t61rcWkgMzE, rojo=00f067aa0ba902b7");
+    }
+  }
 
   /** Benchmark for measuring HttpTraceContext extract. */
   @Benchmark
@@ -72,6 +81,24 @@ public class W3CTraceContextPropagatorExtractBenchmark {
     return result;
   }
 
+  /** Benchmark for measuring HttpTraceContext extract with a tracestate header. */
+  @Benchmark
+  @BenchmarkMode({Mode.AverageTime})
+  @Fork(1)
+  @Measurement(iterations = 15, time = 1)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @Warmup(iterations = 5, time = 1)
+  @OperationsPerInvocation(COUNT)
+  @Nullable
+  public Context measureExtractWithTraceState() {
+    Context result = null;
+    for (int i = 0; i < COUNT; i++) {
+      result =
+          w3cTraceContextPropagator.extract(Context.root(), carriersWithTraceState.get(i), getter);
+    }
+    return result;
+  }
+
   private static List<Map<String, String>> getCarrierForHeader(List<String> headers) {
     List<Map<String, String>> carriers = new ArrayList<>();
     for (String header : headers) {
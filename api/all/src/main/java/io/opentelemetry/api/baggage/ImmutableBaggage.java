@@ -5,6 +5,7 @@
 
 package io.opentelemetry.api.baggage;
 
+import io.opentelemetry.api.internal.DelegatingBaggage;
 import io.opentelemetry.api.internal.ImmutableKeyValuePairs;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -42,6 +43,20 @@ final class ImmutableBaggage extends ImmutableKeyValuePairs<String, BaggageEntry
     return new Builder(new ArrayList<>(data()));
   }
 
+  @Override
+  public boolean equals(@Nullable Object o) {
+    // Keeps equality with a DelegatingBaggage symmetric.
+    if (o instanceof DelegatingBaggage) {
+      o = ((DelegatingBaggage) o).getDelegate();
+    }
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    return super.hashCode();
+  }
+
   private static Baggage sortAndFilterToBaggage(Object[] data) {
     return new ImmutableBaggage(data);
   }
@@ -96,7 +96,7 @@ class Element {
   boolean tryNextChar(char character, int index) {
     if (isWhitespace(character)) {
       return tryNextWhitespace(index);
-    } else if (isExcluded(character)) {
+    } else if (isExcluded(character, excluded)) {
       return false;
     } else {
       return tryNextTokenChar(index);
@@ -114,7 +114,17 @@ class Element {
     return true;
   }
 
-  private boolean isExcluded(char character) {
+  /** Returns whether {@code character} is allowed in a key, other than surrounding whitespace. */
+  static boolean isKeyChar(char character) {
+    return !isExcluded(character, EXCLUDED_KEY_CHARS);
+  }
+
+  /** Returns whether {@code character} is allowed in a value, other than surrounding whitespace. */
+  static boolean isValueChar(char character) {
+    return !isExcluded(character, EXCLUDED_VALUE_CHARS);
+  }
+
+  private static boolean isExcluded(char character, BitSet excluded) {
     return (character <= 32 || character >= 127 || excluded.get(character));
   }
 
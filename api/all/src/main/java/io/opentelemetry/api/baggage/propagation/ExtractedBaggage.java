@@ -0,0 +1,219 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.api.baggage.propagation;
+
+import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.api.baggage.BaggageBuilder;
+import io.opentelemetry.api.baggage.BaggageEntry;
+import io.opentelemetry.api.internal.DelegatingBaggage;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * {@link Baggage} extracted from a {@code baggage} header, which is only parsed when its entries
+ * are first accessed. {@link W3CBaggagePropagator} injects the header it was extracted from as is
+ * if a scan of the header, which does not decode it, shows that every list member is a valid entry.
+ * Services which only propagate such baggage never parse, decode or re-encode it. Other headers are
+ * injected from their parsed entries, as is modified baggage, which is a new {@link Baggage}.
+ *
+ * <p>If the header fails to parse, the baggage is that of the context it was extracted into.
+ *
+ * <p>Equal to, and with the same hash code as, the {@link Baggage} parsed from the header.
+ */
+@AutoValue
+@Immutable
+abstract class ExtractedBaggage implements DelegatingBaggage {
+
+  static ExtractedBaggage create(String header, Baggage fallback) {
+    return new AutoValue_ExtractedBaggage(header, fallback);
+  }
+
+  ExtractedBaggage() {}
+
+  /** Returns the header the baggage was extracted from. */
+  abstract String getHeader();
+
+  /** Returns the baggage of the context the header was extracted into. */
+  abstract Baggage getFallback();
+
+  /** Returns the baggage parsed from the header, or {@code null} if it failed to parse. */
+  @Memoized
+  @Nullable
+  Baggage parseHeader() {
+    BaggageBuilder baggageBuilder = Baggage.builder();
+    try {
+      new Parser(getHeader()).parseInto(baggageBuilder);
+    } catch (RuntimeException e) {
+      return null;
+    }
+    return baggageBuilder.build();
+  }
+
+  /**
+   * Returns whether the header can be injected as is. It is scanned without decoding it, and only
+   * accepted if every list member is a key and a non-empty value, optionally followed by metadata,
+   * with no key repeated and only valid percent-encoding. This is stricter than the parser, for
+   * example values containing {@code '='} are not accepted, so every accepted member parses to an
+   * entry of the same key.
+   */
+  @Memoized
+  boolean isHeaderValid() {
+    String header = getHeader();
+    int length = header.length();
+    int members = 1;
+    for (int i = 0; i < length; i++) {
+      if (header.charAt(i) == ',') {
+        members++;
+      }
+    }
+    // The start and end of the key of each member.
+    int[] keys = new int[members * 2];
+    int member = 0;
+    int i = 0;
+    while (true) {
+      i = skipWhitespace(header, i);
+      int keyStart = i;
+      while (i < length && Element.isKeyChar(header.charAt(i))) {
+        i++;
+      }
+      int keyEnd = i;
+      if (keyEnd == keyStart || isDuplicateKey(header, keys, member, keyStart, keyEnd)) {
+        return false;
+      }
+      keys[member * 2] = keyStart;
+      keys[member * 2 + 1] = keyEnd;
+
+      i = skipWhitespace(header, i);
+      if (i == length || header.charAt(i) != '=') {
+        return false;
+      }
+      i = skipWhitespace(header, i + 1);
+      int valueStart = i;
+      i = skipEncoded(header, i, /* metadata= */ false);
+      if (i == -1 || i == valueStart) {
+        return false;
+      }
+      i = skipWhitespace(header, i);
+      if (i < length && header.charAt(i) == ';') {
+        i = skipEncoded(header, i + 1, /* metadata= */ true);
+        if (i == -1) {
+          return false;
+        }
+      }
+
+      if (i == length) {
+        return true;
+      }
+      if (header.charAt(i) != ',') {
+        return false;
+      }
+      i++;
+      member++;
+    }
+  }
+
+  private static int skipWhitespace(String header, int i) {
+    while (i < header.length() && (header.charAt(i) == ' ' || header.charAt(i) == '\t')) {
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * Returns the index following the value or metadata starting at {@code i}, or {@code -1} if it
+   * contains an invalid percent-encoded octet.
+   */
+  private static int skipEncoded(String header, int i, boolean metadata) {
+    int length = header.length();
+    while (i < length) {
+      char c = header.charAt(i);
+      if (c == '%') {
+        if (i + 2 >= length
+            || Character.digit(header.charAt(i + 1), 16) == -1
+            || Character.digit(header.charAt(i + 2), 16) == -1) {
+          return -1;
+        }
+        i += 3;
+      } else if (metadata ? isMetadataChar(c) : Element.isValueChar(c) && c != '=') {
+        i++;
+      } else {
+        return i;
+      }
+    }
+    return i;
+  }
+
+  private static boolean isMetadataChar(char c) {
+    return c == ' ' || c == '\t' || (c > 32 && c < 127 && c != ',');
+  }
+
+  private static boolean isDuplicateKey(
+      String header, int[] keys, int member, int keyStart, int keyEnd) {
+    int keyLength = keyEnd - keyStart;
+    for (int i = 0; i < member; i++) {
+      int start = keys[i * 2];
+      if (keys[i * 2 + 1] - start == keyLength
+          && header.regionMatches(start, header, keyStart, keyLength)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public Baggage getDelegate() {
+    Baggage parsed = parseHeader();
+    return parsed != null ? parsed : getFallback();
+  }
+
+  @Override
+  public int size() {
+    return getDelegate().size();
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super String, ? super BaggageEntry> consumer) {
+    getDelegate().forEach(consumer);
+  }
+
+  @Override
+  public Map<String, BaggageEntry> asMap() {
+    return getDelegate().asMap();
+  }
+
+  @Override
+  @Nullable
+  public String getEntryValue(String entryKey) {
+    return getDelegate().getEntryValue(entryKey);
+  }
+
+  @Override
+  public BaggageBuilder toBuilder() {
+    return getDelegate().toBuilder();
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (o instanceof DelegatingBaggage) {
+      o = ((DelegatingBaggage) o).getDelegate();
+    }
+    return getDelegate().equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    return getDelegate().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return getDelegate().toString();
+  }
+}
@@ -8,7 +8,6 @@ package io.opentelemetry.api.baggage.propagation;
 import static java.util.Collections.singletonList;
 
 import io.opentelemetry.api.baggage.Baggage;
-import io.opentelemetry.api.baggage.BaggageBuilder;
 import io.opentelemetry.api.baggage.BaggageEntry;
 import io.opentelemetry.api.internal.StringUtils;
 import io.opentelemetry.context.Context;
@@ -47,6 +46,11 @@ public final class W3CBaggagePropagator implements TextMapPropagator {
       return;
     }
     Baggage baggage = Baggage.fromContext(context);
+    if (baggage instanceof ExtractedBaggage && ((ExtractedBaggage) baggage).isHeaderValid()) {
+      // Not modified since it was extracted, so propagate the header as is, without encoding it.
+      setter.set(carrier, FIELD, ((ExtractedBaggage) baggage).getHeader());
+      return;
+    }
     if (baggage.isEmpty()) {
       return;
     }
@@ -102,17 +106,8 @@ public final class W3CBaggagePropagator implements TextMapPropagator {
       return context;
     }
 
-    BaggageBuilder baggageBuilder = Baggage.builder();
-    try {
-      extractEntries(baggageHeader, baggageBuilder);
-    } catch (RuntimeException e) {
-      return context;
-    }
-    return context.with(baggageBuilder.build());
-  }
-
-  private static void extractEntries(String baggageHeader, BaggageBuilder baggageBuilder) {
-    new Parser(baggageHeader).parseInto(baggageBuilder);
+    // Parsed once the baggage is accessed, if at all.
+    return context.with(ExtractedBaggage.create(baggageHeader, Baggage.fromContext(context)));
   }
 
   private static boolean baggageIsInvalid(String key, BaggageEntry baggageEntry) {
@@ -0,0 +1,24 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.api.internal;
+
+import io.opentelemetry.api.baggage.Baggage;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A {@link Baggage} whose entries are those of another {@link Baggage}, such as baggage which is
+ * only parsed from a header when its entries are first accessed. It is equal to the baggage it
+ * delegates to, which in turn treats it as equal to itself.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+@Immutable
+public interface DelegatingBaggage extends Baggage {
+
+  /** Returns the {@link Baggage} whose entries these are. */
+  Baggage getDelegate();
+}
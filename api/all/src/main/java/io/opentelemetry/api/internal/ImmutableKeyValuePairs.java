@@ -31,8 +31,15 @@ import javax.annotation.concurrent.Immutable;
  */
 @Immutable
 public abstract class ImmutableKeyValuePairs<K, V> {
+  // Up to 8 key/value pairs are sorted in place, larger arrays with a merge sort.
+  private static final int INSERTION_SORT_MAX_LENGTH = 16;
+
   private final Object[] data;
 
+  // Computed on first use and cached like String.hashCode(), since these are used as map keys,
+  // e.g. when recording metrics. 0 if not computed yet.
+  private int hashCode;
+
   /**
    * Stores the raw object data directly. Does not do any de-duping or sorting. If you use this
    * constructor, you *must* guarantee that the data has been de-duped and sorted by key before it
@@ -102,14 +109,59 @@ public abstract class ImmutableKeyValuePairs<K, V> {
     checkArgument(
         data.length % 2 == 0, "You must provide an even number of key/value pair arguments.");
 
-    if (data.length == 0) {
+    // Keys are often added in order, e.g. by instrumentation adding the same keys on every call.
+    if (isSortedAndFiltered(data, keyComparator)) {
       return data;
     }
 
-    mergeSort(data, keyComparator);
+    if (data.length <= INSERTION_SORT_MAX_LENGTH) {
+      insertionSort(data, keyComparator);
+    } else {
+      mergeSort(data, keyComparator);
+    }
     return dedupe(data, keyComparator);
   }
 
+  /**
+   * Returns whether the keys in {@code data} are in strictly increasing order, i.e. already sorted
+   * and without duplicates, and no key or value is {@code null}.
+   */
+  @SuppressWarnings("unchecked")
+  private static <K> boolean isSortedAndFiltered(Object[] data, Comparator<K> keyComparator) {
+    Object previousKey = null;
+    for (int i = 0; i < data.length; i += 2) {
+      Object key = data[i];
+      if (key == null || data[i + 1] == null) {
+        return false;
+      }
+      if (previousKey != null && keyComparator.compare((K) previousKey, (K) key) >= 0) {
+        return false;
+      }
+      previousKey = key;
+    }
+    return true;
+  }
+
+  /**
+   * Stable in-place sort for a few key/value pairs, which unlike {@link #mergeSort(Object[],
+   * Comparator)} doesn't allocate a work array.
+   */
+  @SuppressWarnings("unchecked")
+  private static <K> void insertionSort(Object[] data, Comparator<K> keyComparator) {
+    for (int i = 2; i < data.length; i += 2) {
+      Object key = data[i];
+      Object value = data[i + 1];
+      int j = i - 2;
+      while (j >= 0 && compareToNullSafe((K) data[j], (K) key, keyComparator) > 0) {
+        data[j + 2] = data[j];
+        data[j + 3] = data[j + 1];
+        j -= 2;
+      }
+      data[j + 2] = key;
+      data[j + 3] = value;
+    }
+  }
+
   // note: merge sort implementation cribbed from this wikipedia article:
   // https://en.wikipedia.org/wiki/Merge_sort (this is the top-down variant)
   private static void mergeSort(Object[] data, Comparator<?> keyComparator) {
@@ -236,14 +288,21 @@ public abstract class ImmutableKeyValuePairs<K, V> {
       return false;
     }
     ImmutableKeyValuePairs<?, ?> that = (ImmutableKeyValuePairs<?, ?>) o;
+    if (this.hashCode != 0 && that.hashCode != 0 && this.hashCode != that.hashCode) {
+      return false;
+    }
     return Arrays.equals(this.data, that.data);
   }
 
   @Override
   public int hashCode() {
-    int result = 1;
-    result *= 1000003;
-    result ^= Arrays.hashCode(data);
+    int result = hashCode;
+    if (result == 0) {
+      result = 1;
+      result *= 1000003;
+      result ^= Arrays.hashCode(data);
+      hashCode = result;
+    }
     return result;
   }
 
@@ -22,6 +22,7 @@ public final class OtelEncodingUtils {
   private static final char[] ENCODING = buildEncodingArray();
   private static final byte[] DECODING = buildDecodingArray();
   private static final boolean[] VALID_HEX = buildValidHexArray();
+  private static final long HIGH_BITS = 0x8080808080808080L;
 
   private static char[] buildEncodingArray() {
     char[] encoding = new char[512];
@@ -58,14 +59,74 @@ public final class OtelEncodingUtils {
    * @param offset the starting offset in the {@code CharSequence}.
    */
   public static long longFromBase16String(CharSequence chars, int offset) {
-    return (byteFromBase16(chars.charAt(offset), chars.charAt(offset + 1)) & 0xFFL) << 56
-        | (byteFromBase16(chars.charAt(offset + 2), chars.charAt(offset + 3)) & 0xFFL) << 48
-        | (byteFromBase16(chars.charAt(offset + 4), chars.charAt(offset + 5)) & 0xFFL) << 40
-        | (byteFromBase16(chars.charAt(offset + 6), chars.charAt(offset + 7)) & 0xFFL) << 32
-        | (byteFromBase16(chars.charAt(offset + 8), chars.charAt(offset + 9)) & 0xFFL) << 24
-        | (byteFromBase16(chars.charAt(offset + 10), chars.charAt(offset + 11)) & 0xFFL) << 16
-        | (byteFromBase16(chars.charAt(offset + 12), chars.charAt(offset + 13)) & 0xFFL) << 8
-        | (byteFromBase16(chars.charAt(offset + 14), chars.charAt(offset + 15)) & 0xFFL);
+    long high = intFromBase16(chars, offset);
+    long low = intFromBase16(chars, offset + LONG_BASE16 / 2);
+    if (high < 0 || low < 0) {
+      return longFromBase16StringPerByte(chars, offset);
+    }
+    return high << 32 | low;
+  }
+
+  // Only used to throw the exception for the first invalid character.
+  private static long longFromBase16StringPerByte(CharSequence chars, int offset) {
+    long result = 0;
+    for (int i = 0; i < LONG_BASE16; i += BYTE_BASE16) {
+      result =
+          result << 8
+              | (byteFromBase16(chars.charAt(offset + i), chars.charAt(offset + i + 1)) & 0xFFL);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the 32-bit value encoded by the 8 chars of {@code chars} starting from the {@code
+   * offset}, or -1 if any of them is not a lowercase hex character. The chars are decoded together
+   * as the 8 bytes of a {@code long}, with no lookups or branches per char.
+   */
+  private static long intFromBase16(CharSequence chars, int offset) {
+    long word = asciiWord(chars, offset);
+    if (!isBase16Word(word)) {
+      return -1;
+    }
+    // The low nibble of '0' to '9' is their value, the low nibble of 'a' to 'f' is 9 less.
+    long nibbles = (word & 0x0F0F0F0F0F0F0F0FL) + ((hexLetters(word) >>> 7) * 9);
+    // Pack the nibble in each byte into the low 32 bits, keeping their order.
+    nibbles = (nibbles | nibbles >>> 4) & 0x00FF00FF00FF00FFL;
+    nibbles = (nibbles | nibbles >>> 8) & 0x0000FFFF0000FFFFL;
+    return (nibbles | nibbles >>> 16) & 0xFFFFFFFFL;
+  }
+
+  /**
+   * Returns the 8 chars of {@code chars} starting from the {@code offset} as the bytes of a {@code
+   * long}, the first char in the highest byte, or -1 if any of them is not ASCII.
+   */
+  private static long asciiWord(CharSequence chars, int offset) {
+    long word = 0;
+    int allChars = 0;
+    for (int i = 0; i < 8; i++) {
+      char c = chars.charAt(offset + i);
+      allChars |= c;
+      word = word << 8 | c;
+    }
+    return allChars < NUM_ASCII_CHARACTERS ? word : -1;
+  }
+
+  /** Returns whether every byte of {@code word} is a lowercase hex character. */
+  private static boolean isBase16Word(long word) {
+    return word >= 0 && (hexDigits(word) | hexLetters(word)) == HIGH_BITS;
+  }
+
+  // For a word of ASCII bytes, adding (0x80 - lo) sets the high bit of the bytes >= lo, and adding
+  // (0x7F - hi) sets it for the bytes > hi, without carrying into the next byte.
+
+  /** Returns the high bit of each byte of {@code word} which is between '0' and '9'. */
+  private static long hexDigits(long word) {
+    return (word + 0x5050505050505050L) & ~(word + 0x4646464646464646L) & HIGH_BITS;
+  }
+
+  /** Returns the high bit of each byte of {@code word} which is between 'a' and 'f'. */
+  private static long hexLetters(long word) {
+    return (word + 0x1F1F1F1F1F1F1F1FL) & ~(word + 0x1919191919191919L) & HIGH_BITS;
   }
 
   /**
@@ -76,20 +137,36 @@ public final class OtelEncodingUtils {
    * @param destOffset the starting offset in the destination char array.
    */
   public static void longToBase16String(long value, char[] dest, int destOffset) {
-    byteToBase16((byte) (value >> 56 & 0xFFL), dest, destOffset);
-    byteToBase16((byte) (value >> 48 & 0xFFL), dest, destOffset + BYTE_BASE16);
-    byteToBase16((byte) (value >> 40 & 0xFFL), dest, destOffset + 2 * BYTE_BASE16);
-    byteToBase16((byte) (value >> 32 & 0xFFL), dest, destOffset + 3 * BYTE_BASE16);
-    byteToBase16((byte) (value >> 24 & 0xFFL), dest, destOffset + 4 * BYTE_BASE16);
-    byteToBase16((byte) (value >> 16 & 0xFFL), dest, destOffset + 5 * BYTE_BASE16);
-    byteToBase16((byte) (value >> 8 & 0xFFL), dest, destOffset + 6 * BYTE_BASE16);
-    byteToBase16((byte) (value & 0xFFL), dest, destOffset + 7 * BYTE_BASE16);
+    intToBase16((int) (value >>> 32), dest, destOffset);
+    intToBase16((int) value, dest, destOffset + LONG_BASE16 / 2);
+  }
+
+  /** Encodes the 8 nibbles of {@code value} together as the 8 bytes of a {@code long}. */
+  private static void intToBase16(int value, char[] dest, int destOffset) {
+    // Spread the nibbles into the low nibble of each byte, keeping their order.
+    long nibbles = value & 0xFFFFFFFFL;
+    nibbles = (nibbles | nibbles << 16) & 0x0000FFFF0000FFFFL;
+    nibbles = (nibbles | nibbles << 8) & 0x00FF00FF00FF00FFL;
+    nibbles = (nibbles | nibbles << 4) & 0x0F0F0F0F0F0F0F0FL;
+    // Adding 6 carries into bit 4 for the nibbles from 10 to 15, which are mapped to 'a' to 'f'.
+    long letters = ((nibbles + 0x0606060606060606L) >>> 4) & 0x0101010101010101L;
+    long ascii = nibbles + 0x3030303030303030L + letters * ('a' - '0' - 10);
+    for (int i = 0; i < 8; i++) {
+      dest[destOffset + i] = (char) (ascii >>> (56 - 8 * i) & 0xFF);
+    }
   }
 
   /** Returns the {@code byte[]} decoded from the given hex {@link CharSequence}. */
   public static byte[] bytesFromBase16(CharSequence value, int length) {
     byte[] result = new byte[length / 2];
-    for (int i = 0; i < length; i += 2) {
+    int i = 0;
+    for (; i + LONG_BASE16 <= length; i += LONG_BASE16) {
+      long decoded = longFromBase16String(value, i);
+      for (int j = 0; j < LONG_BYTES; j++) {
+        result[i / 2 + j] = (byte) (decoded >>> (56 - 8 * j));
+      }
+    }
+    for (; i < length; i += 2) {
       result[i / 2] = byteFromBase16(value.charAt(i), value.charAt(i + 1));
     }
     return result;
@@ -136,7 +213,13 @@ public final class OtelEncodingUtils {
   /** Returns whether the {@link CharSequence} is a valid hex string. */
   public static boolean isValidBase16String(CharSequence value) {
     int len = value.length();
-    for (int i = 0; i < len; i++) {
+    int i = 0;
+    for (; i + 8 <= len; i += 8) {
+      if (!isBase16Word(asciiWord(value, i))) {
+        return false;
+      }
+    }
+    for (; i < len; i++) {
       char b = value.charAt(i);
       if (!isValidBase16Character(b)) {
         return false;
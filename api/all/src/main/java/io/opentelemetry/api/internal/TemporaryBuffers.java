@@ -5,6 +5,9 @@
 
 package io.opentelemetry.api.internal;
 
+import java.lang.reflect.Method;
+import javax.annotation.Nullable;
+
 /**
  * {@link ThreadLocal} buffers for use when creating new derived objects such as {@link String}s.
  * These buffers are reused within a single thread - it is _not safe_ to use the buffer to generate
@@ -12,6 +15,12 @@ package io.opentelemetry.api.internal;
  * should get a temporary buffer, fill it with data, and finish by converting into the derived
  * object within the same method to avoid multiple usages of the same buffer.
  *
+ * <p>Virtual threads are typically created per task, so a buffer cached for one would rarely be
+ * reused and would only add an entry to its thread local map. For them, a new buffer is returned
+ * without accessing the thread local. Virtual threads are recognized by their class, which is
+ * remembered once the first one is seen, so {@code Thread.isVirtual()} is only called reflectively
+ * for threads which have no buffer yet.
+ *
  * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
  * at any time.
  */
@@ -19,6 +28,12 @@ public final class TemporaryBuffers {
 
   private static final ThreadLocal<char[]> CHAR_ARRAY = new ThreadLocal<>();
 
+  // Thread.isVirtual(), only available on Java 21+.
+  @Nullable private static final Method IS_VIRTUAL = findIsVirtual();
+
+  // The class of virtual threads, once one has been seen.
+  @Nullable private static volatile Class<?> virtualThreadClass;
+
   /**
    * A {@link ThreadLocal} {@code char[]} of size {@code len}. Take care when using a large value of
    * {@code len} as this buffer will remain for the lifetime of the thread. The returned buffer will
@@ -26,7 +41,17 @@ public final class TemporaryBuffers {
    * content to the desired value and set the length explicitly when converting to a {@link String}.
    */
   public static char[] chars(int len) {
+    Thread thread = Thread.currentThread();
+    if (thread.getClass() == virtualThreadClass) {
+      return new char[len];
+    }
     char[] buffer = CHAR_ARRAY.get();
+    if (buffer == null && isVirtual(thread)) {
+      // Only reached until the class of virtual threads is remembered.
+      virtualThreadClass = thread.getClass();
+      CHAR_ARRAY.remove();
+      return new char[len];
+    }
     if (buffer == null || buffer.length < len) {
       buffer = new char[len];
       CHAR_ARRAY.set(buffer);
@@ -34,6 +59,27 @@ public final class TemporaryBuffers {
     return buffer;
   }
 
+  // Visible for testing
+  static boolean isVirtual(Thread thread) {
+    if (IS_VIRTUAL == null) {
+      return false;
+    }
+    try {
+      return (Boolean) IS_VIRTUAL.invoke(thread, (Object[]) null);
+    } catch (ReflectiveOperationException e) {
+      return false;
+    }
+  }
+
+  @Nullable
+  private static Method findIsVirtual() {
+    try {
+      return Thread.class.getMethod("isVirtual");
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
   // Visible for testing
   static void clearChars() {
     CHAR_ARRAY.set(null);
@@ -8,6 +8,7 @@ package io.opentelemetry.api.trace.propagation;
 import static io.opentelemetry.api.trace.propagation.internal.W3CTraceContextEncoding.decodeTraceState;
 import static io.opentelemetry.api.trace.propagation.internal.W3CTraceContextEncoding.encodeTraceState;
 
+import io.opentelemetry.api.internal.ImmutableSpanContext;
 import io.opentelemetry.api.internal.OtelEncodingUtils;
 import io.opentelemetry.api.internal.TemporaryBuffers;
 import io.opentelemetry.api.trace.Span;
@@ -23,9 +24,7 @@ import io.opentelemetry.context.propagation.TextMapSetter;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.logging.Logger;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -59,22 +58,8 @@ public final class W3CTraceContextPropagator implements TextMapPropagator {
   private static final int TRACE_OPTION_OFFSET =
       SPAN_ID_OFFSET + SPAN_ID_HEX_SIZE + TRACEPARENT_DELIMITER_SIZE;
   private static final int TRACEPARENT_HEADER_SIZE = TRACE_OPTION_OFFSET + TRACE_OPTION_HEX_SIZE;
-  private static final Set<String> VALID_VERSIONS;
-  private static final String VERSION_00 = "00";
   private static final W3CTraceContextPropagator INSTANCE = new W3CTraceContextPropagator();
 
-  static {
-    // A valid version is 1 byte representing an 8-bit unsigned integer, version ff is invalid.
-    VALID_VERSIONS = new HashSet<>();
-    for (int i = 0; i < 255; i++) {
-      String version = Long.toHexString(i);
-      if (version.length() < 2) {
-        version = '0' + version;
-      }
-      VALID_VERSIONS.add(version);
-    }
-  }
-
   private W3CTraceContextPropagator() {
     // singleton
   }
@@ -148,34 +133,42 @@ public final class W3CTraceContextPropagator implements TextMapPropagator {
 
   private static <C> SpanContext extractImpl(@Nullable C carrier, TextMapGetter<C> getter) {
     String traceParent = getter.get(carrier, TRACE_PARENT);
-    if (traceParent == null) {
+    if (traceParent == null || !isValidTraceParent(traceParent)) {
       return SpanContext.getInvalid();
     }
 
-    SpanContext contextFromParentHeader = extractContextFromTraceParent(traceParent);
-    if (!contextFromParentHeader.isValid()) {
-      return contextFromParentHeader;
+    String traceId = traceParent.substring(TRACE_ID_OFFSET, TRACE_ID_OFFSET + TRACE_ID_HEX_SIZE);
+    String spanId = traceParent.substring(SPAN_ID_OFFSET, SPAN_ID_OFFSET + SPAN_ID_HEX_SIZE);
+    if (!TraceId.isValid(traceId) || !SpanId.isValid(spanId)) {
+      return SpanContext.getInvalid();
     }
+    TraceFlags traceFlags =
+        TraceFlags.fromByte(
+            OtelEncodingUtils.byteFromBase16(
+                traceParent.charAt(TRACE_OPTION_OFFSET),
+                traceParent.charAt(TRACE_OPTION_OFFSET + 1)));
 
+    // The span context is only created once the trace state is known, with the IDs already
+    // validated.
+    TraceState traceState = TraceState.getDefault();
     String traceStateHeader = getter.get(carrier, TRACE_STATE);
-    if (traceStateHeader == null || traceStateHeader.isEmpty()) {
-      return contextFromParentHeader;
-    }
-
-    try {
-      TraceState traceState = decodeTraceState(traceStateHeader);
-      return SpanContext.createFromRemoteParent(
-          contextFromParentHeader.getTraceId(),
-          contextFromParentHeader.getSpanId(),
-          contextFromParentHeader.getTraceFlags(),
-          traceState);
-    } catch (IllegalArgumentException e) {
-      logger.fine("Unparseable tracestate header. Returning span context without state.");
-      return contextFromParentHeader;
+    if (traceStateHeader != null && !traceStateHeader.isEmpty()) {
+      try {
+        traceState = decodeTraceState(traceStateHeader);
+      } catch (IllegalArgumentException e) {
+        logger.fine("Unparseable tracestate header. Returning span context without state.");
+      }
     }
+    return ImmutableSpanContext.create(
+        traceId,
+        spanId,
+        traceFlags,
+        traceState,
+        /* remote= */ true,
+        /* skipIdValidation= */ true);
   }
 
-  private static SpanContext extractContextFromTraceParent(String traceparent) {
+  private static boolean isValidTraceParent(String traceparent) {
     // TODO(bdrutu): Do we need to verify that version is hex and that
     // for the version the length is the expected one?
     boolean isValid =
@@ -187,30 +180,24 @@ public final class W3CTraceContextPropagator implements TextMapPropagator {
             && traceparent.charAt(TRACE_OPTION_OFFSET - 1) == TRACEPARENT_DELIMITER;
     if (!isValid) {
       logger.fine("Unparseable traceparent header. Returning INVALID span context.");
-      return SpanContext.getInvalid();
+      return false;
     }
 
-    String version = traceparent.substring(0, 2);
-    if (!VALID_VERSIONS.contains(version)) {
-      return SpanContext.getInvalid();
-    }
-    if (version.equals(VERSION_00) && traceparent.length() > TRACEPARENT_HEADER_SIZE) {
-      return SpanContext.getInvalid();
+    // A valid version is 1 byte representing an 8-bit unsigned integer, version ff is invalid.
+    char firstVersionChar = traceparent.charAt(0);
+    char secondVersionChar = traceparent.charAt(1);
+    if (!OtelEncodingUtils.isValidBase16Character(firstVersionChar)
+        || !OtelEncodingUtils.isValidBase16Character(secondVersionChar)
+        || (firstVersionChar == 'f' && secondVersionChar == 'f')) {
+      return false;
     }
-
-    String traceId = traceparent.substring(TRACE_ID_OFFSET, TRACE_ID_OFFSET + TraceId.getLength());
-    String spanId = traceparent.substring(SPAN_ID_OFFSET, SPAN_ID_OFFSET + SpanId.getLength());
-    char firstTraceFlagsChar = traceparent.charAt(TRACE_OPTION_OFFSET);
-    char secondTraceFlagsChar = traceparent.charAt(TRACE_OPTION_OFFSET + 1);
-
-    if (!OtelEncodingUtils.isValidBase16Character(firstTraceFlagsChar)
-        || !OtelEncodingUtils.isValidBase16Character(secondTraceFlagsChar)) {
-      return SpanContext.getInvalid();
+    if (firstVersionChar == '0'
+        && secondVersionChar == '0'
+        && traceparent.length() > TRACEPARENT_HEADER_SIZE) {
+      return false;
     }
 
-    TraceFlags traceFlags =
-        TraceFlags.fromByte(
-            OtelEncodingUtils.byteFromBase16(firstTraceFlagsChar, secondTraceFlagsChar));
-    return SpanContext.createFromRemoteParent(traceId, spanId, traceFlags, TraceState.getDefault());
+    return OtelEncodingUtils.isValidBase16Character(traceparent.charAt(TRACE_OPTION_OFFSET))
+        && OtelEncodingUtils.isValidBase16Character(traceparent.charAt(TRACE_OPTION_OFFSET + 1));
   }
 }
@@ -9,7 +9,6 @@ import static io.opentelemetry.api.internal.Utils.checkArgument;
 
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.api.trace.TraceStateBuilder;
-import java.util.regex.Pattern;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -29,8 +28,6 @@ public final class W3CTraceContextEncoding {
   private static final int TRACESTATE_MAX_MEMBERS = 32;
   private static final char TRACESTATE_KEY_VALUE_DELIMITER = '=';
   private static final char TRACESTATE_ENTRY_DELIMITER = ',';
-  private static final Pattern TRACESTATE_ENTRY_DELIMITER_SPLIT_PATTERN =
-      Pattern.compile("[ \t]*" + TRACESTATE_ENTRY_DELIMITER + "[ \t]*");
 
   /**
    * Decodes a trace state header into a {@link TraceState} object.
@@ -39,26 +36,74 @@ public final class W3CTraceContextEncoding {
    *     specification
    */
   public static TraceState decodeTraceState(String traceStateHeader) {
+    // List members are separated by the entry delimiter and any whitespace around it, with
+    // trailing empty members ignored. The header is scanned in place rather than split, in reverse
+    // order because the builder adds each element to the front of the list.
     TraceStateBuilder traceStateBuilder = TraceState.builder();
-    String[] listMembers = TRACESTATE_ENTRY_DELIMITER_SPLIT_PATTERN.split(traceStateHeader);
-    checkArgument(
-        listMembers.length <= TRACESTATE_MAX_MEMBERS, "TraceState has too many elements.");
-    // Iterate in reverse order because when call builder set the elements is added in the
-    // front of the list.
-    for (int i = listMembers.length - 1; i >= 0; i--) {
-      String listMember = listMembers[i];
-      int index = listMember.indexOf(TRACESTATE_KEY_VALUE_DELIMITER);
-      checkArgument(index != -1, "Invalid TraceState list-member format.");
-      traceStateBuilder.put(listMember.substring(0, index), listMember.substring(index + 1));
+    int membersEnd = withoutTrailingDelimiters(traceStateHeader);
+    if (membersEnd == 0 && !traceStateHeader.isEmpty()) {
+      // Only delimiters, so there are no members.
+      return TraceState.getDefault();
+    }
+    int memberEnd = membersEnd;
+    int members = 0;
+    while (true) {
+      int delimiter = traceStateHeader.lastIndexOf(TRACESTATE_ENTRY_DELIMITER, memberEnd - 1);
+      int memberStart = delimiter + 1;
+      if (delimiter >= 0) {
+        while (memberStart < memberEnd && isWhitespace(traceStateHeader.charAt(memberStart))) {
+          memberStart++;
+        }
+      }
+      int valueEnd = memberEnd;
+      if (memberEnd < membersEnd) {
+        while (valueEnd > memberStart && isWhitespace(traceStateHeader.charAt(valueEnd - 1))) {
+          valueEnd--;
+        }
+      }
+      members++;
+      checkArgument(members <= TRACESTATE_MAX_MEMBERS, "TraceState has too many elements.");
+      int index = traceStateHeader.indexOf(TRACESTATE_KEY_VALUE_DELIMITER, memberStart);
+      checkArgument(index != -1 && index < valueEnd, "Invalid TraceState list-member format.");
+      traceStateBuilder.put(
+          traceStateHeader.substring(memberStart, index),
+          traceStateHeader.substring(index + 1, valueEnd));
+      if (delimiter < 0) {
+        break;
+      }
+      memberEnd = delimiter;
     }
     TraceState traceState = traceStateBuilder.build();
-    if (traceState.size() != listMembers.length) {
+    if (traceState.size() != members) {
       // Validation failure, drop the tracestate
       return TraceState.getDefault();
     }
     return traceState;
   }
 
+  /**
+   * Returns the length of the header without any trailing run of entry delimiters and whitespace,
+   * which would only separate empty members, if that run contains a delimiter.
+   */
+  private static int withoutTrailingDelimiters(String traceStateHeader) {
+    int end = traceStateHeader.length();
+    boolean hasDelimiter = false;
+    while (end > 0) {
+      char c = traceStateHeader.charAt(end - 1);
+      if (c == TRACESTATE_ENTRY_DELIMITER) {
+        hasDelimiter = true;
+      } else if (!isWhitespace(c)) {
+        break;
+      }
+      end--;
+    }
+    return hasDelimiter ? end : traceStateHeader.length();
+  }
+
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t';
+  }
+
   /** Return the trace state encoded as a string according to the W3C specification. */
   public static String encodeTraceState(TraceState traceState) {
     if (traceState.isEmpty()) {
@@ -7,6 +7,7 @@ package io.opentelemetry.api.baggage.propagation;
 
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 import com.google.common.collect.ImmutableMap;
 import io.opentelemetry.api.baggage.Baggage;
@@ -459,6 +460,93 @@ class W3CBaggagePropagatorTest {
                 "meta=meta-value;somemetadata%3B%20someother%3Dfoo,needsEncoding=blah%20blah%20blah,nometa=nometa-value"));
   }
 
+  @Test
+  void inject_extractedBaggage_verbatim() {
+    W3CBaggagePropagator propagator = W3CBaggagePropagator.getInstance();
+    String header = "key1 = value1;meta , key2=value%202";
+    Context context =
+        propagator.extract(Context.root(), ImmutableMap.of("baggage", header), getter);
+
+    Map<String, String> carrier = new HashMap<>();
+    propagator.inject(context, carrier, Map::put);
+    assertThat(carrier).containsExactly(entry("baggage", header));
+
+    Baggage expected =
+        Baggage.builder()
+            .put("key1", "value1", BaggageEntryMetadata.create("meta"))
+            .put("key2", "value 2")
+            .build();
+    assertThat(Baggage.fromContext(context)).isEqualTo(expected);
+    assertThat(expected).isEqualTo(Baggage.fromContext(context));
+    assertThat(Baggage.fromContext(context)).hasSameHashCodeAs(expected);
+    // Reading the baggage doesn't change what is propagated.
+    carrier.clear();
+    propagator.inject(context, carrier, Map::put);
+    assertThat(carrier).containsExactly(entry("baggage", header));
+  }
+
+  @Test
+  void inject_extractedBaggage_invalidEntry() {
+    W3CBaggagePropagator propagator = W3CBaggagePropagator.getInstance();
+    Context context =
+        propagator.extract(
+            Context.root(),
+            ImmutableMap.of("baggage", "key1=value1,broken)key=value,key1=value2"),
+            getter);
+
+    // Entries which are dropped when parsing aren't propagated either.
+    Map<String, String> carrier = new HashMap<>();
+    propagator.inject(context, carrier, Map::put);
+    assertThat(carrier).containsExactly(entry("baggage", "key1=value2"));
+  }
+
+  @Test
+  void extractedBaggage_headerValidatedWithoutParsing() {
+    assertThat(ExtractedBaggage.create("k=v", Baggage.empty()).isHeaderValid()).isTrue();
+    assertThat(
+            ExtractedBaggage.create(" k1 = v%201 ;m=1;n , k2=v2\t", Baggage.empty())
+                .isHeaderValid())
+        .isTrue();
+    assertThat(ExtractedBaggage.create("k=v;m%zz", Baggage.empty()).isHeaderValid()).isFalse();
+    assertThat(ExtractedBaggage.create("k=v%2", Baggage.empty()).isHeaderValid()).isFalse();
+    assertThat(ExtractedBaggage.create("k=v=w", Baggage.empty()).isHeaderValid()).isFalse();
+    assertThat(ExtractedBaggage.create("k=v w", Baggage.empty()).isHeaderValid()).isFalse();
+    assertThat(ExtractedBaggage.create("k=", Baggage.empty()).isHeaderValid()).isFalse();
+    assertThat(ExtractedBaggage.create("=v", Baggage.empty()).isHeaderValid()).isFalse();
+    assertThat(ExtractedBaggage.create("k=v,", Baggage.empty()).isHeaderValid()).isFalse();
+    assertThat(ExtractedBaggage.create("k=v,,k2=v2", Baggage.empty()).isHeaderValid()).isFalse();
+    assertThat(ExtractedBaggage.create("k=v,k=w", Baggage.empty()).isHeaderValid()).isFalse();
+    assertThat(ExtractedBaggage.create("k=v,kk=w", Baggage.empty()).isHeaderValid()).isTrue();
+    assertThat(ExtractedBaggage.create("k(=v", Baggage.empty()).isHeaderValid()).isFalse();
+  }
+
+  @Test
+  void extract_parseFailure_keepsContextBaggage() {
+    W3CBaggagePropagator propagator = W3CBaggagePropagator.getInstance();
+    Baggage previous = Baggage.builder().put("key", "previous").build();
+    Context context =
+        propagator.extract(
+            Context.root().with(previous), ImmutableMap.of("baggage", "key=%zz"), getter);
+    assertThat(Baggage.fromContext(context)).isEqualTo(previous);
+
+    Map<String, String> carrier = new HashMap<>();
+    propagator.inject(context, carrier, Map::put);
+    assertThat(carrier).containsExactly(entry("baggage", "key=previous"));
+  }
+
+  @Test
+  void inject_extractedBaggage_modified() {
+    W3CBaggagePropagator propagator = W3CBaggagePropagator.getInstance();
+    Context context =
+        propagator.extract(
+            Context.root(), ImmutableMap.of("baggage", "key1=value1,broken)key=value"), getter);
+    Baggage baggage = Baggage.fromContext(context).toBuilder().put("key2", "value2").build();
+
+    Map<String, String> carrier = new HashMap<>();
+    propagator.inject(context.with(baggage), carrier, Map::put);
+    assertThat(carrier).containsExactly(entry("baggage", "key1=value1,key2=value2"));
+  }
+
   @Test
   void inject_nullContext() {
     Map<String, String> carrier = new LinkedHashMap<>();
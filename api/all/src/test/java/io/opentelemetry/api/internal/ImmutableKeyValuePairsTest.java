@@ -45,6 +45,42 @@ class ImmutableKeyValuePairsTest {
         .isEqualTo("{one=55, two=\"b\"}");
   }
 
+  @Test
+  void sortsAndDedupes() {
+    // Already sorted.
+    assertThat(new TestPairs(new Object[] {"a", 1, "b", 2, "c", 3}).data())
+        .containsExactly("a", 1, "b", 2, "c", 3);
+    // Sorted in place.
+    assertThat(new TestPairs(new Object[] {"c", 3, "a", 1, "b", 2, "a", 4, null, 5}).data())
+        .containsExactly("a", 4, "b", 2, "c", 3);
+    assertThat(new TestPairs(new Object[] {"b", 2, "a", 1, "b", null}).data())
+        .containsExactly("a", 1);
+    // Merge sorted.
+    Object[] data = new Object[40];
+    for (int i = 0; i < 20; i++) {
+      data[2 * i] = String.valueOf((char) ('t' - i));
+      data[2 * i + 1] = i;
+    }
+    data[2] = "t";
+    assertThat(new TestPairs(data).data())
+        .hasSize(38)
+        .startsWith("a", 19, "b", 18)
+        .endsWith("r", 2, "t", 1);
+  }
+
+  @Test
+  void equalsAndHashCode() {
+    TestPairs pairs = new TestPairs(new Object[] {"one", 55, "two", "b"});
+    TestPairs same = new TestPairs(new Object[] {"two", "b", "one", 55});
+    TestPairs other = new TestPairs(new Object[] {"one", 55, "two", "c"});
+
+    // Before and after the hash codes are computed and cached.
+    assertThat(pairs).isEqualTo(same).isNotEqualTo(other);
+    assertThat(pairs.hashCode()).isEqualTo(same.hashCode()).isNotEqualTo(other.hashCode());
+    assertThat(pairs.hashCode()).isEqualTo(same.hashCode());
+    assertThat(pairs).isEqualTo(same).isNotEqualTo(other);
+  }
+
   @Test
   void doesNotCrash() {
     TestPairs pairs = new TestPairs(new Object[0]);
@@ -65,6 +65,34 @@ class OtelEncodingUtilsTest {
     assertThat(OtelEncodingUtils.isValidBase16String("abcdef1234567890B")).isFalse();
   }
 
+  @Test
+  @SuppressWarnings("checkstyle:AvoidEscapedUnicodeCharacters")
+  void validHex_invalidCharacterAtEachPosition() {
+    // Characters next to the valid ranges, and one which is '0' in its low byte.
+    for (char invalid : new char[] {'/', ':', '`', 'g', 'A', 'F', '\u0130', '\u3030'}) {
+      for (int i = 0; i < 20; i++) {
+        char[] chars = "0123456789abcdef0123".toCharArray();
+        chars[i] = invalid;
+        assertThat(OtelEncodingUtils.isValidBase16String(new String(chars))).isFalse();
+        if (i < OtelEncodingUtils.LONG_BASE16) {
+          assertThatThrownBy(() -> OtelEncodingUtils.longFromBase16String(new String(chars), 0))
+              .isInstanceOf(IllegalArgumentException.class)
+              .hasMessage("invalid character " + invalid);
+        }
+      }
+    }
+  }
+
+  @Test
+  void bytesFromBase16() {
+    assertThat(OtelEncodingUtils.bytesFromBase16(new String(BOTH_CHAR_ARRAY), 32))
+        .containsExactly(
+            0x12, 0x13, 0x14, 0x15, 0x16, 0x17, 0x18, 0x19, 0xff, 0xee, 0xdd, 0xcc, 0xbb, 0xaa,
+            0x99, 0x88);
+    assertThat(OtelEncodingUtils.bytesFromBase16(new String(BOTH_CHAR_ARRAY), 20))
+        .containsExactly(0x12, 0x13, 0x14, 0x15, 0x16, 0x17, 0x18, 0x19, 0xff, 0xee);
+  }
+
   @Test
   void longFromBase16String() {
     assertThat(OtelEncodingUtils.longFromBase16String(CharBuffer.wrap(FIRST_CHAR_ARRAY), 0))
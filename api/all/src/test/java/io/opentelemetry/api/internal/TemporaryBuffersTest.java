@@ -22,4 +22,9 @@ class TemporaryBuffersTest {
     char[] buffer20 = TemporaryBuffers.chars(20);
     assertThat(buffer20).hasSize(20);
   }
+
+  @Test
+  void platformThreadIsNotVirtual() {
+    assertThat(TemporaryBuffers.isVirtual(Thread.currentThread())).isFalse();
+  }
 }
@@ -294,6 +294,42 @@ class W3CTraceContextPropagatorTest {
                 TRACE_ID_BASE16, SPAN_ID_BASE16, TraceFlags.getDefault(), TRACE_STATE));
   }
 
+  @Test
+  void extract_NotSampledContext_TraceStateWithTrailingDelimiters() {
+    Map<String, String> carrier = new LinkedHashMap<>();
+    carrier.put(W3CTraceContextPropagator.TRACE_PARENT, TRACEPARENT_HEADER_NOT_SAMPLED);
+    carrier.put(W3CTraceContextPropagator.TRACE_STATE, "bar=baz,\tfoo=bar , ,");
+    assertThat(
+            getSpanContext(w3cTraceContextPropagator.extract(Context.current(), carrier, getter)))
+        .isEqualTo(
+            SpanContext.createFromRemoteParent(
+                TRACE_ID_BASE16, SPAN_ID_BASE16, TraceFlags.getDefault(), TRACE_STATE));
+  }
+
+  @Test
+  void extract_NotSampledContext_TraceStateOnlyDelimiters() {
+    Map<String, String> carrier = new LinkedHashMap<>();
+    carrier.put(W3CTraceContextPropagator.TRACE_PARENT, TRACEPARENT_HEADER_NOT_SAMPLED);
+    carrier.put(W3CTraceContextPropagator.TRACE_STATE, " , ,");
+    assertThat(
+            getSpanContext(w3cTraceContextPropagator.extract(Context.current(), carrier, getter)))
+        .isEqualTo(
+            SpanContext.createFromRemoteParent(
+                TRACE_ID_BASE16, SPAN_ID_BASE16, TraceFlags.getDefault(), TraceState.getDefault()));
+  }
+
+  @Test
+  void extract_InvalidTracestate_EmptyMember() {
+    Map<String, String> carrier = new LinkedHashMap<>();
+    carrier.put(W3CTraceContextPropagator.TRACE_PARENT, TRACEPARENT_HEADER_NOT_SAMPLED);
+    carrier.put(W3CTraceContextPropagator.TRACE_STATE, "bar=baz, ,foo=bar");
+    assertThat(
+            getSpanContext(w3cTraceContextPropagator.extract(Context.current(), carrier, getter)))
+        .isEqualTo(
+            SpanContext.createFromRemoteParent(
+                TRACE_ID_BASE16, SPAN_ID_BASE16, TraceFlags.getDefault(), TraceState.getDefault()));
+  }
+
   @Test
   void extract_EmptyHeader() {
     Map<String, String> invalidHeaders = new LinkedHashMap<>();
@@ -28,7 +28,16 @@ import org.openjdk.jmh.infra.Blackhole;
 @State(Scope.Benchmark)
 public class ContextBenchmark {
 
-  @Param({"2", "3", "4", "5", "10", "20", "40"})
+  // Keys are created once, like the constants they normally are, so the first of them are indexed.
+  private static final List<ContextKey<String>> KEYS = new ArrayList<>();
+
+  static {
+    for (int i = 0; i < 40; i++) {
+      KEYS.add(ContextKey.named(Integer.toString(i)));
+    }
+  }
+
+  @Param({"1", "2", "3", "4", "5", "10", "16", "20", "40"})
   private int size;
 
   private int middle;
@@ -38,11 +47,9 @@ public class ContextBenchmark {
 
   @Setup
   public void setup() {
-    keys = new ArrayList<>();
-    for (int i = 0; i < size; i++) {
-      ContextKey<String> key = ContextKey.named(Integer.toString(i));
+    keys = KEYS.subList(0, size);
+    for (ContextKey<String> key : keys) {
       context = context.with(key, "value");
-      keys.add(key);
     }
     middle = size / 2;
   }
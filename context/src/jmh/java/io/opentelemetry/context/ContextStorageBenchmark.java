@@ -0,0 +1,92 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.context;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures making a context current within tasks run on a pool of platform threads, and on a
+ * virtual thread per task. Virtual threads require running on Java 21+, otherwise the benchmark
+ * falls back to platform threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContextStorageBenchmark {
+
+  private static final ContextKey<String> KEY = ContextKey.named("key");
+  private static final ContextKey<String> OTHER_KEY = ContextKey.named("other");
+
+  @Param({"PLATFORM", "VIRTUAL"})
+  private String threads;
+
+  private ExecutorService executor;
+  private Context context;
+  private Runnable task;
+
+  @Setup
+  public void setup() {
+    executor = threads.equals("VIRTUAL") ? newVirtualThreadPerTaskExecutor() : newThreadPool();
+    context = Context.root().with(KEY, "value");
+    Context nested = context.with(OTHER_KEY, "other");
+    task =
+        () -> {
+          try (io.opentelemetry.context.Scope ignored = context.makeCurrent()) {
+            try (io.opentelemetry.context.Scope ignored2 = nested.makeCurrent()) {
+              Context.current().get(OTHER_KEY);
+            }
+          }
+        };
+  }
+
+  @TearDown
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  @Benchmark
+  public void makeCurrent() {
+    try (io.opentelemetry.context.Scope ignored = context.makeCurrent()) {
+      Context.current().get(KEY);
+    }
+  }
+
+  @Benchmark
+  public Object makeCurrentInTask() throws ExecutionException, InterruptedException {
+    return executor.submit(task).get();
+  }
+
+  private static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return newThreadPool();
+    }
+  }
+
+  private static ExecutorService newThreadPool() {
+    return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+  }
+}
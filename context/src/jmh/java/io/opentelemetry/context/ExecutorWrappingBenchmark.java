@@ -0,0 +1,88 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.context;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares submitting tasks to an executor directly against submitting them through {@link
+ * Context#taskWrapping(Executor)}, with and without a context other than the root context being
+ * current when submitting. {@code SKIPPED_ROOT} submits from the root context with root context
+ * wrapping skipped, as enabled by the {@value CurrentContextExecutor#SKIP_ROOT_CONTEXT_PROPERTY}
+ * system property. Run with {@code -prof gc} to compare the allocation per task.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExecutorWrappingBenchmark {
+
+  private static final ContextKey<String> KEY = ContextKey.named("key");
+
+  @Param({"RAW", "WRAPPED_ROOT", "SKIPPED_ROOT", "WRAPPED"})
+  private String submission;
+
+  private ExecutorService threadPool;
+  private Executor direct;
+  private ExecutorService pooled;
+  private io.opentelemetry.context.Scope scope;
+  private final Runnable task = () -> Context.current().get(KEY);
+
+  @Setup
+  // Closed in tearDown
+  @SuppressWarnings("MustBeClosedChecker")
+  public void setup() {
+    threadPool = Executors.newSingleThreadExecutor();
+    direct = Runnable::run;
+    pooled = threadPool;
+    if (submission.equals("SKIPPED_ROOT")) {
+      direct = new CurrentContextExecutor(direct, /* skipRootContext= */ true);
+      pooled = new CurrentContextExecutorService(pooled, /* skipRootContext= */ true);
+    } else if (!submission.equals("RAW")) {
+      direct = Context.taskWrapping(direct);
+      pooled = Context.taskWrapping(pooled);
+    }
+    scope =
+        submission.equals("WRAPPED")
+            ? Context.root().with(KEY, "value").makeCurrent()
+            : io.opentelemetry.context.Scope.noop();
+  }
+
+  @TearDown
+  public void tearDown() {
+    scope.close();
+    threadPool.shutdown();
+  }
+
+  /** Runs the task on the submitting thread, which measures only the cost of wrapping. */
+  @Benchmark
+  public void executeDirect() {
+    direct.execute(task);
+  }
+
+  @Benchmark
+  public Object submitToPool() throws ExecutionException, InterruptedException {
+    return pooled.submit(task).get();
+  }
+}
@@ -25,9 +25,15 @@ package io.opentelemetry.context;
 import java.util.Arrays;
 import javax.annotation.Nullable;
 
+/**
+ * A {@link Context} storing the values of keys with an index in a slot array at their index, and
+ * the values of other keys in an array of alternating keys and values.
+ */
 final class ArrayBasedContext implements Context {
 
-  private static final Context ROOT = new ArrayBasedContext(new Object[0]);
+  private static final Object[] EMPTY = new Object[0];
+
+  private static final Context ROOT = new ArrayBasedContext(EMPTY, EMPTY);
 
   // Used by auto-instrumentation agent. Check with auto-instrumentation before making changes to
   // this method.
@@ -45,15 +51,30 @@ final class ArrayBasedContext implements Context {
     return ROOT;
   }
 
+  // Values of indexed keys, long enough for the highest index set.
+  private final Object[] slots;
+  // Keys without an index and their values.
   private final Object[] entries;
 
-  private ArrayBasedContext(Object[] entries) {
+  private ArrayBasedContext(Object[] slots, Object[] entries) {
+    this.slots = slots;
     this.entries = entries;
   }
 
   @Override
   @Nullable
   public <V> V get(ContextKey<V> key) {
+    if (key instanceof DefaultContextKey) {
+      int index = ((DefaultContextKey<V>) key).index;
+      if (index >= 0) {
+        if (index >= slots.length) {
+          return null;
+        }
+        @SuppressWarnings("unchecked")
+        V result = (V) slots[index];
+        return result;
+      }
+    }
     for (int i = 0; i < entries.length; i += 2) {
       if (entries[i] == key) {
         @SuppressWarnings("unchecked")
@@ -66,6 +87,18 @@ final class ArrayBasedContext implements Context {
 
   @Override
   public <V> Context with(ContextKey<V> key, V value) {
+    if (key instanceof DefaultContextKey) {
+      int index = ((DefaultContextKey<V>) key).index;
+      if (index >= 0) {
+        Object current = index < slots.length ? slots[index] : null;
+        if (current == value) {
+          return this;
+        }
+        Object[] newSlots = Arrays.copyOf(slots, Math.max(slots.length, index + 1));
+        newSlots[index] = value;
+        return new ArrayBasedContext(newSlots, entries);
+      }
+    }
     for (int i = 0; i < entries.length; i += 2) {
       if (entries[i] == key) {
         if (entries[i + 1] == value) {
@@ -73,18 +106,23 @@ final class ArrayBasedContext implements Context {
         }
         Object[] newEntries = entries.clone();
         newEntries[i + 1] = value;
-        return new ArrayBasedContext(newEntries);
+        return new ArrayBasedContext(slots, newEntries);
       }
     }
     Object[] newEntries = Arrays.copyOf(entries, entries.length + 2);
     newEntries[newEntries.length - 2] = key;
     newEntries[newEntries.length - 1] = value;
-    return new ArrayBasedContext(newEntries);
+    return new ArrayBasedContext(slots, newEntries);
   }
 
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder("{");
+    for (int i = 0; i < slots.length; i++) {
+      if (slots[i] != null) {
+        sb.append(DefaultContextKey.forIndex(i)).append('=').append(slots[i]).append(", ");
+      }
+    }
     for (int i = 0; i < entries.length; i += 2) {
       sb.append(entries[i]).append('=').append(entries[i + 1]).append(", ");
     }
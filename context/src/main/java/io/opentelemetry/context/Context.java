@@ -114,10 +114,17 @@ public interface Context {
    * dbExecutor = Context.wrapTasks(threadPool)} to ensure calls like {@code dbExecutor.execute(()
    * -> database.query())} have {@link Context} available on the thread executing database queries.
    *
+   * <p>If the {@code io.opentelemetry.context.skipRootContextTaskWrapping} system property is set
+   * to {@code true}, tasks submitted when the current context is the {@linkplain #root() root
+   * context} are not wrapped, saving an allocation and a context switch per task. Such a task then
+   * runs in whatever context the thread executing it has, rather than the root context, e.g. the
+   * context of the task a {@link java.util.concurrent.ForkJoinPool} worker is joining when it runs
+   * the task, or of a thread which runs tasks of the executor within a context of its own.
+   *
    * @since 1.1.0
    */
   static Executor taskWrapping(Executor executor) {
-    return command -> executor.execute(Context.current().wrap(command));
+    return new CurrentContextExecutor(executor, CurrentContextExecutor.SKIP_ROOT_CONTEXT);
   }
 
   /**
@@ -132,10 +139,15 @@ public interface Context {
    * dbExecutor.execute(() -> database.query())} have {@link Context} available on the thread
    * executing database queries.
    *
+   * <p>If the {@code io.opentelemetry.context.skipRootContextTaskWrapping} system property is set
+   * to {@code true}, tasks submitted when the current context is the {@linkplain #root() root
+   * context} are not wrapped, with the same caveats as for {@link #taskWrapping(Executor)}.
+   *
    * @since 1.1.0
    */
   static ExecutorService taskWrapping(ExecutorService executorService) {
-    return new CurrentContextExecutorService(executorService);
+    return new CurrentContextExecutorService(
+        executorService, CurrentContextExecutor.SKIP_ROOT_CONTEXT);
   }
 
   /**
@@ -0,0 +1,68 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.context;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+/**
+ * An {@link Executor} which runs tasks in the {@linkplain Context#current() current context} at
+ * the time they were submitted.
+ *
+ * <p>If {@code skipRootContext} is set, tasks submitted when the current context is the root
+ * context are not wrapped, avoiding a wrapper and making a context current for every task
+ * submitted outside of a trace. They then run in the context of the thread executing them, which
+ * is only the root context if that thread has no context of its own, e.g. not for a {@link
+ * java.util.concurrent.ForkJoinPool} worker running the task while it joins another one. It is
+ * enabled for {@link Context#taskWrapping(Executor)} with the {@value
+ * #SKIP_ROOT_CONTEXT_PROPERTY} system property.
+ */
+final class CurrentContextExecutor implements Executor {
+
+  static final String SKIP_ROOT_CONTEXT_PROPERTY =
+      "io.opentelemetry.context.skipRootContextTaskWrapping";
+
+  static final boolean SKIP_ROOT_CONTEXT = Boolean.getBoolean(SKIP_ROOT_CONTEXT_PROPERTY);
+
+  private final Executor delegate;
+  private final boolean skipRootContext;
+
+  CurrentContextExecutor(Executor delegate, boolean skipRootContext) {
+    this.delegate = delegate;
+    this.skipRootContext = skipRootContext;
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    delegate.execute(wrapInCurrent(command, skipRootContext));
+  }
+
+  static Runnable wrapInCurrent(Runnable task, boolean skipRootContext) {
+    Context current = Context.current();
+    return skipRootContext && current == Context.root() ? task : current.wrap(task);
+  }
+
+  static <T> Callable<T> wrapInCurrent(Callable<T> task, boolean skipRootContext) {
+    Context current = Context.current();
+    return skipRootContext && current == Context.root() ? task : current.wrap(task);
+  }
+
+  static <T> Collection<? extends Callable<T>> wrapInCurrent(
+      Collection<? extends Callable<T>> tasks, boolean skipRootContext) {
+    Context current = Context.current();
+    if (skipRootContext && current == Context.root()) {
+      return tasks;
+    }
+    List<Callable<T>> wrapped = new ArrayList<>(tasks.size());
+    for (Callable<T> task : tasks) {
+      wrapped.add(current.wrap(task));
+    }
+    return wrapped;
+  }
+}
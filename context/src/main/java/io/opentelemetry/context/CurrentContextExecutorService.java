@@ -14,54 +14,64 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+/**
+ * An {@link ExecutorService} which runs tasks in the {@linkplain Context#current() current context}
+ * at the time they were submitted, skipping the root context like {@link CurrentContextExecutor}
+ * if {@code skipRootContext} is set.
+ */
 final class CurrentContextExecutorService extends ForwardingExecutorService {
 
-  CurrentContextExecutorService(ExecutorService delegate) {
+  private final boolean skipRootContext;
+
+  CurrentContextExecutorService(ExecutorService delegate, boolean skipRootContext) {
     super(delegate);
+    this.skipRootContext = skipRootContext;
   }
 
   @Override
   public <T> Future<T> submit(Callable<T> task) {
-    return delegate().submit(Context.current().wrap(task));
+    return delegate().submit(CurrentContextExecutor.wrapInCurrent(task, skipRootContext));
   }
 
   @Override
   public <T> Future<T> submit(Runnable task, T result) {
-    return delegate().submit(Context.current().wrap(task), result);
+    return delegate().submit(CurrentContextExecutor.wrapInCurrent(task, skipRootContext), result);
   }
 
   @Override
   public Future<?> submit(Runnable task) {
-    return delegate().submit(Context.current().wrap(task));
+    return delegate().submit(CurrentContextExecutor.wrapInCurrent(task, skipRootContext));
   }
 
   @Override
   public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks)
       throws InterruptedException {
-    return delegate().invokeAll(wrap(Context.current(), tasks));
+    return delegate().invokeAll(CurrentContextExecutor.wrapInCurrent(tasks, skipRootContext));
   }
 
   @Override
   public <T> List<Future<T>> invokeAll(
       Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
       throws InterruptedException {
-    return delegate().invokeAll(wrap(Context.current(), tasks), timeout, unit);
+    return delegate()
+        .invokeAll(CurrentContextExecutor.wrapInCurrent(tasks, skipRootContext), timeout, unit);
   }
 
   @Override
   public <T> T invokeAny(Collection<? extends Callable<T>> tasks)
       throws InterruptedException, ExecutionException {
-    return delegate().invokeAny(wrap(Context.current(), tasks));
+    return delegate().invokeAny(CurrentContextExecutor.wrapInCurrent(tasks, skipRootContext));
   }
 
   @Override
   public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
       throws InterruptedException, ExecutionException, TimeoutException {
-    return delegate().invokeAny(wrap(Context.current(), tasks), timeout, unit);
+    return delegate()
+        .invokeAny(CurrentContextExecutor.wrapInCurrent(tasks, skipRootContext), timeout, unit);
   }
 
   @Override
   public void execute(Runnable command) {
-    delegate().execute(Context.current().wrap(command));
+    delegate().execute(CurrentContextExecutor.wrapInCurrent(command, skipRootContext));
   }
 }
@@ -5,12 +5,49 @@
 
 package io.opentelemetry.context;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.annotation.Nullable;
+
 final class DefaultContextKey<T> implements ContextKey<T> {
 
+  // Keys are normally constants, so the first keys created are given a dense index, which lets
+  // ArrayBasedContext store their values in a slot array. Keys created after are stored in a list
+  // of entries instead.
+  static final int MAX_INDEXED_KEYS = 32;
+
+  private static final AtomicInteger nextIndex = new AtomicInteger();
+  private static final AtomicReferenceArray<DefaultContextKey<?>> indexedKeys =
+      new AtomicReferenceArray<>(MAX_INDEXED_KEYS);
+
   private final String name;
+  // The index of the key, or -1 if it has none.
+  final int index;
 
   DefaultContextKey(String name) {
     this.name = name;
+    this.index = claimIndex();
+    if (index >= 0) {
+      indexedKeys.set(index, this);
+    }
+  }
+
+  /** Returns the key with the given index, or {@code null} if there is none yet. */
+  @Nullable
+  static DefaultContextKey<?> forIndex(int index) {
+    return indexedKeys.get(index);
+  }
+
+  private static int claimIndex() {
+    while (true) {
+      int index = nextIndex.get();
+      if (index >= MAX_INDEXED_KEYS) {
+        return -1;
+      }
+      if (nextIndex.compareAndSet(index, index + 1)) {
+        return index;
+      }
+    }
   }
 
   @Override
@@ -30,6 +30,12 @@ enum ThreadLocalContextStorage implements ContextStorage {
 
     THREAD_LOCAL_STORAGE.set(toAttach);
 
+    if (beforeAttach == null) {
+      // Nothing was attached before, as for a task run on a thread of its own such as a virtual
+      // thread, so there is nothing for the scope to capture and it can be shared.
+      return RestoreEmptyScope.INSTANCE;
+    }
+
     return () -> {
       if (current() != toAttach) {
         logger.log(
@@ -52,4 +58,15 @@ enum ThreadLocalContextStorage implements ContextStorage {
     @Override
     public void close() {}
   }
+
+  enum RestoreEmptyScope implements Scope {
+    INSTANCE;
+
+    @Override
+    public void close() {
+      // The attached context isn't known, so unlike other scopes this can't detect being closed out
+      // of order. StrictContextStorage does so for all scopes.
+      THREAD_LOCAL_STORAGE.set(null);
+    }
+  }
 }
@@ -10,14 +10,19 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.annotation.Nullable;
 
 final class MultiTextMapPropagator implements TextMapPropagator {
   private final TextMapPropagator[] textPropagators;
   private final Collection<String> allFields;
+  // The fields declared by more than one propagator, which extract fetches at most once.
+  private final Map<String, Integer> sharedFieldIndexes;
 
   MultiTextMapPropagator(TextMapPropagator... textPropagators) {
     this(Arrays.asList(textPropagators));
@@ -27,6 +32,7 @@ final class MultiTextMapPropagator implements TextMapPropagator {
     this.textPropagators = new TextMapPropagator[textPropagators.size()];
     textPropagators.toArray(this.textPropagators);
     this.allFields = Collections.unmodifiableList(getAllFields(this.textPropagators));
+    this.sharedFieldIndexes = getSharedFieldIndexes(this.textPropagators);
   }
 
   @Override
@@ -43,6 +49,20 @@ final class MultiTextMapPropagator implements TextMapPropagator {
     return new ArrayList<>(fields);
   }
 
+  private static Map<String, Integer> getSharedFieldIndexes(TextMapPropagator[] textPropagators) {
+    Set<String> seen = new HashSet<>();
+    Map<String, Integer> sharedFieldIndexes = new HashMap<>();
+    for (TextMapPropagator textPropagator : textPropagators) {
+      // A propagator may declare a field more than once, which doesn't make it shared.
+      for (String field : new HashSet<>(textPropagator.fields())) {
+        if (!seen.add(field) && !sharedFieldIndexes.containsKey(field)) {
+          sharedFieldIndexes.put(field, sharedFieldIndexes.size());
+        }
+      }
+    }
+    return sharedFieldIndexes;
+  }
+
   @Override
   public <C> void inject(Context context, @Nullable C carrier, TextMapSetter<C> setter) {
     if (context == null || setter == null) {
@@ -61,9 +81,55 @@ final class MultiTextMapPropagator implements TextMapPropagator {
     if (getter == null) {
       return context;
     }
+    if (!sharedFieldIndexes.isEmpty()) {
+      // Propagators often read the same fields, e.g. when several propagators support the same
+      // format, so fetch each shared field from the carrier at most once.
+      getter = new FieldCachingGetter<>(getter, sharedFieldIndexes);
+    }
     for (TextMapPropagator textPropagator : textPropagators) {
       context = textPropagator.extract(context, carrier, getter);
     }
     return context;
   }
+
+  /**
+   * A {@link TextMapGetter} which remembers the values of the fields shared by the propagators,
+   * passing through lookups of other keys. Used for a single extraction from a single carrier.
+   */
+  private static final class FieldCachingGetter<C> implements TextMapGetter<C> {
+
+    private static final Object ABSENT = new Object();
+
+    private final TextMapGetter<C> delegate;
+    private final Map<String, Integer> fieldIndexes;
+    // null if not fetched yet, ABSENT if the carrier doesn't have the field.
+    private final Object[] values;
+
+    private FieldCachingGetter(TextMapGetter<C> delegate, Map<String, Integer> fieldIndexes) {
+      this.delegate = delegate;
+      this.fieldIndexes = fieldIndexes;
+      this.values = new Object[fieldIndexes.size()];
+    }
+
+    @Override
+    public Iterable<String> keys(C carrier) {
+      return delegate.keys(carrier);
+    }
+
+    @Nullable
+    @Override
+    public String get(@Nullable C carrier, String key) {
+      Integer index = fieldIndexes.get(key);
+      if (index == null) {
+        return delegate.get(carrier, key);
+      }
+      Object value = values[index];
+      if (value == null) {
+        String fetched = delegate.get(carrier, key);
+        values[index] = fetched != null ? fetched : ABSENT;
+        return fetched;
+      }
+      return value != ABSENT ? (String) value : null;
+    }
+  }
 }
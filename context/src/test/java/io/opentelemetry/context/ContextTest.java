@@ -16,6 +16,7 @@ import static org.mockito.Mockito.when;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.MoreExecutors;
 import io.github.netmikey.logunit.api.LogCapturer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.Callable;
@@ -117,6 +118,28 @@ class ContextTest {
     }
   }
 
+  @Test
+  void attachingOnNewThreadSharesScope() throws Exception {
+    AtomicReference<Scope> first = new AtomicReference<>();
+    AtomicReference<Scope> second = new AtomicReference<>();
+    AtomicReference<Context> afterClose = new AtomicReference<>();
+    Thread thread =
+        new Thread(
+            () -> {
+              try (Scope scope = ThreadLocalContextStorage.INSTANCE.attach(CAT)) {
+                first.set(scope);
+              }
+              try (Scope scope = ThreadLocalContextStorage.INSTANCE.attach(CAT.with(BAG, 1))) {
+                second.set(scope);
+              }
+              afterClose.set(ThreadLocalContextStorage.INSTANCE.current());
+            });
+    thread.start();
+    thread.join();
+    assertThat(first.get()).isSameAs(second.get());
+    assertThat(afterClose.get()).isNull();
+  }
+
   @Test
   public void closingScopeWhenNotActiveIsLogged() {
     Context initial = Context.current();
@@ -337,6 +360,40 @@ class ContextTest {
     }
   }
 
+  @Test
+  void taskWrapping_rootContextWrapped() {
+    AtomicReference<String> value = new AtomicReference<>("unset");
+    List<Runnable> executed = new ArrayList<>();
+    Executor executor = Context.taskWrapping((Executor) executed::add);
+    Runnable callback = () -> value.set(Context.current().get(ANIMAL));
+
+    executor.execute(callback);
+    assertThat(executed.get(0)).isNotSameAs(callback);
+    // The task runs in the root context even on a thread with a context of its own.
+    try (Scope ignored = CAT.makeCurrent()) {
+      executed.get(0).run();
+    }
+    assertThat(value).hasValue(null);
+  }
+
+  @Test
+  void taskWrapping_skipRootContext() {
+    AtomicReference<String> value = new AtomicReference<>();
+    List<Runnable> executed = new ArrayList<>();
+    Executor executor = new CurrentContextExecutor(executed::add, /* skipRootContext= */ true);
+    Runnable callback = () -> value.set(Context.current().get(ANIMAL));
+
+    executor.execute(callback);
+    assertThat(executed.get(0)).isSameAs(callback);
+
+    try (Scope ignored = CAT.makeCurrent()) {
+      executor.execute(callback);
+    }
+    assertThat(executed.get(1)).isNotSameAs(callback);
+    executed.get(1).run();
+    assertThat(value).hasValue("cat");
+  }
+
   @Nested
   @TestInstance(Lifecycle.PER_CLASS)
   class WrapExecutorService {
@@ -509,6 +566,30 @@ class ContextTest {
     assertThat(ANIMAL.toString()).isEqualTo("animal");
   }
 
+  @Test
+  void moreKeysThanIndexed() {
+    List<ContextKey<Integer>> keys = new ArrayList<>();
+    Context context = Context.root();
+    for (int i = 0; i < DefaultContextKey.MAX_INDEXED_KEYS + 10; i++) {
+      ContextKey<Integer> key = ContextKey.named("key" + i);
+      keys.add(key);
+      context = context.with(key, i);
+    }
+    for (int i = 0; i < keys.size(); i++) {
+      assertThat(context.get(keys.get(i))).isEqualTo(i);
+      assertThat(Context.root().get(keys.get(i))).isNull();
+      assertThat(context.with(keys.get(i), i)).isSameAs(context);
+    }
+    Context updated = context.with(keys.get(0), -1).with(keys.get(keys.size() - 1), -1);
+    assertThat(updated.get(keys.get(0))).isEqualTo(-1);
+    assertThat(updated.get(keys.get(keys.size() - 1))).isEqualTo(-1);
+    assertThat(context.get(keys.get(0))).isEqualTo(0);
+    assertThat(context.get(keys.get(keys.size() - 1))).isEqualTo(keys.size() - 1);
+    ContextKey<Integer> last = keys.get(keys.size() - 1);
+    assertThat(Context.root().with(ANIMAL, "cat").with(last, 1).toString())
+        .contains("animal=cat", last + "=1");
+  }
+
   @Test
   void attachSameContext() {
     Context context = Context.current().with(ANIMAL, "cat");
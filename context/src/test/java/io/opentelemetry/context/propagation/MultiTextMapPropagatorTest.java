@@ -7,6 +7,7 @@ package io.opentelemetry.context.propagation;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -136,6 +137,52 @@ class MultiTextMapPropagatorTest {
     assertThat(result).isSameAs(context);
   }
 
+  @Test
+  void extract_fieldsFetchedOnce() {
+    ContextKey<String> otherKey = ContextKey.named("other");
+    TextMapPropagator prop =
+        new MultiTextMapPropagator(
+            new ReadingPropagator(KEY, "foo"),
+            new ReadingPropagator(otherKey, "foo"),
+            new ReadingPropagator(otherKey, "bar"));
+    Map<String, Integer> lookups = new HashMap<>();
+    TextMapGetter<Map<String, String>> countingGetter =
+        new TextMapGetter<Map<String, String>>() {
+          @Override
+          public Iterable<String> keys(Map<String, String> carrier) {
+            return carrier.keySet();
+          }
+
+          @Nullable
+          @Override
+          public String get(Map<String, String> carrier, String key) {
+            lookups.merge(key, 1, Integer::sum);
+            return carrier.get(key);
+          }
+        };
+
+    Context result =
+        prop.extract(Context.root(), Collections.singletonMap("foo", "fooValue"), countingGetter);
+
+    assertThat(result.get(KEY)).isEqualTo("fooValue");
+    assertThat(result.get(otherKey)).isEqualTo("fooValue");
+    assertThat(lookups).containsOnly(entry("foo", 1), entry("bar", 1));
+  }
+
+  @Test
+  void extract_noSharedFields_getterNotWrapped() {
+    Map<String, String> carrier = new HashMap<>();
+    Context context = mock(Context.class);
+    when(propagator1.fields()).thenReturn(Arrays.asList("foo", "foo"));
+    when(propagator2.fields()).thenReturn(Collections.singletonList("bar"));
+    when(propagator1.extract(context, carrier, getter)).thenReturn(context);
+    when(propagator2.extract(context, carrier, getter)).thenReturn(context);
+
+    // Only fields read by several propagators are cached, so the getter is used as is.
+    TextMapPropagator prop = new MultiTextMapPropagator(propagator1, propagator2);
+    assertThat(prop.extract(context, carrier, getter)).isSameAs(context);
+  }
+
   @Test
   void extract_nullContext() {
     assertThat(
@@ -167,4 +214,30 @@ class MultiTextMapPropagatorTest {
     new MultiTextMapPropagator(propagator1, propagator2).inject(context, carrier, null);
     assertThat(carrier).isEmpty();
   }
+
+  /** Puts the value of a field into the context, if present. */
+  private static final class ReadingPropagator implements TextMapPropagator {
+
+    private final ContextKey<String> key;
+    private final String field;
+
+    private ReadingPropagator(ContextKey<String> key, String field) {
+      this.key = key;
+      this.field = field;
+    }
+
+    @Override
+    public Collection<String> fields() {
+      return Collections.singletonList(field);
+    }
+
+    @Override
+    public <C> void inject(Context context, @Nullable C carrier, TextMapSetter<C> setter) {}
+
+    @Override
+    public <C> Context extract(Context context, @Nullable C carrier, TextMapGetter<C> getter) {
+      String value = getter.get(carrier, field);
+      return value != null ? context.with(key, value) : context;
+    }
+  }
 }
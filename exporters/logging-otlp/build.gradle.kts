@@ -15,8 +15,6 @@ dependencies {
 
   implementation(project(":exporters:otlp:common"))
 
-  implementation("com.fasterxml.jackson.core:jackson-core")
-
   testImplementation(project(":sdk:testing"))
   testImplementation(project(":sdk:logs"))
   testImplementation(project(":sdk:metrics"))
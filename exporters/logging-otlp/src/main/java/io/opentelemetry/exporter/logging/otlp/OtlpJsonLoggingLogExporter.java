@@ -5,10 +5,6 @@
 
 package io.opentelemetry.exporter.logging.otlp;
 
-import static io.opentelemetry.exporter.logging.otlp.JsonUtil.JSON_FACTORY;
-
-import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.core.io.SegmentedStringWriter;
 import io.opentelemetry.exporter.internal.otlp.logs.ResourceLogsMarshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.logs.data.LogData;
@@ -37,14 +33,14 @@ public final class OtlpJsonLoggingLogExporter implements LogExporter {
   public CompletableResultCode export(Collection<LogData> logs) {
     ResourceLogsMarshaler[] allResourceLogs = ResourceLogsMarshaler.create(logs);
     for (ResourceLogsMarshaler resourceLogs : allResourceLogs) {
-      SegmentedStringWriter sw = new SegmentedStringWriter(JSON_FACTORY._getBufferRecycler());
-      try (JsonGenerator gen = JsonUtil.create(sw)) {
-        resourceLogs.writeJsonTo(gen);
+      String json;
+      try {
+        json = JsonUtil.toJson(resourceLogs);
       } catch (IOException e) {
         // Shouldn't happen in practice, just skip it.
         continue;
       }
-      logger.log(Level.INFO, sw.getAndClear());
+      logger.log(Level.INFO, json);
     }
     return CompletableResultCode.ofSuccess();
   }
@@ -5,10 +5,6 @@
 
 package io.opentelemetry.exporter.logging.otlp;
 
-import static io.opentelemetry.exporter.logging.otlp.JsonUtil.JSON_FACTORY;
-
-import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.core.io.SegmentedStringWriter;
 import io.opentelemetry.exporter.internal.otlp.metrics.ResourceMetricsMarshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.metrics.InstrumentType;
@@ -70,14 +66,14 @@ public final class OtlpJsonLoggingMetricExporter implements MetricExporter {
   public CompletableResultCode export(Collection<MetricData> metrics) {
     ResourceMetricsMarshaler[] allResourceMetrics = ResourceMetricsMarshaler.create(metrics);
     for (ResourceMetricsMarshaler resourceMetrics : allResourceMetrics) {
-      SegmentedStringWriter sw = new SegmentedStringWriter(JSON_FACTORY._getBufferRecycler());
-      try (JsonGenerator gen = JsonUtil.create(sw)) {
-        resourceMetrics.writeJsonTo(gen);
+      String json;
+      try {
+        json = JsonUtil.toJson(resourceMetrics);
       } catch (IOException e) {
         // Shouldn't happen in practice, just skip it.
         continue;
       }
-      logger.log(Level.INFO, sw.getAndClear());
+      logger.log(Level.INFO, json);
     }
     return CompletableResultCode.ofSuccess();
   }
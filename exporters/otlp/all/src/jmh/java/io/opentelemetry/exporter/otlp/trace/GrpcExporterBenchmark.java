@@ -29,6 +29,7 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 
 @BenchmarkMode({Mode.AverageTime})
@@ -60,6 +61,7 @@ public class GrpcExporterBenchmark {
 
   private static GrpcExporter<TraceRequestMarshaler> defaultGrpcExporter;
   private static GrpcExporter<TraceRequestMarshaler> okhttpGrpcExporter;
+  private static GrpcExporter<TraceRequestMarshaler> coalescingOkhttpGrpcExporter;
 
   @Setup(Level.Trial)
   public void setUp() {
@@ -87,12 +89,24 @@ public class GrpcExporterBenchmark {
                 () -> MarshalerTraceServiceGrpc::newFutureStub,
                 OtlpGrpcSpanExporterBuilder.GRPC_ENDPOINT_PATH)
             .build();
+
+    coalescingOkhttpGrpcExporter =
+        GrpcExporter.builder(
+                "otlp",
+                "span",
+                10,
+                URI.create("http://localhost:" + server.activeLocalPort()),
+                () -> MarshalerTraceServiceGrpc::newFutureStub,
+                OtlpGrpcSpanExporterBuilder.GRPC_ENDPOINT_PATH)
+            .setMaxConcurrentExports(2)
+            .build();
   }
 
   @TearDown(Level.Trial)
   public void tearDown() {
     defaultGrpcExporter.shutdown().join(10, TimeUnit.SECONDS);
     okhttpGrpcExporter.shutdown().join(10, TimeUnit.SECONDS);
+    coalescingOkhttpGrpcExporter.shutdown().join(10, TimeUnit.SECONDS);
     defaultGrpcChannel.shutdownNow();
     server.stop().join();
   }
@@ -120,4 +134,27 @@ public class GrpcExporterBenchmark {
     }
     return result;
   }
+
+  // Many threads exporting small batches at once, as with many processors sharing an exporter.
+  @Benchmark
+  @Threads(8)
+  public CompletableResultCode okhttpGrpcExporterConcurrent(RequestMarshalState state) {
+    return export(okhttpGrpcExporter, state);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public CompletableResultCode coalescingOkhttpGrpcExporterConcurrent(RequestMarshalState state) {
+    return export(coalescingOkhttpGrpcExporter, state);
+  }
+
+  private static CompletableResultCode export(
+      GrpcExporter<TraceRequestMarshaler> exporter, RequestMarshalState state) {
+    CompletableResultCode result =
+        exporter.export(state.traceRequestMarshaler, state.numSpans).join(10, TimeUnit.SECONDS);
+    if (!result.isSuccess()) {
+      throw new AssertionError();
+    }
+    return result;
+  }
 }
@@ -102,17 +102,53 @@ public final class OtlpGrpcMetricExporterBuilder {
 
   /**
    * Sets the method used to compress payloads. If unset, compression is disabled. Currently
-   * supported compression methods include "gzip" and "none".
+   * supported compression methods include "gzip" and "none", as well as any additional methods
+   * provided by compressor plugins found on the classpath.
    */
   public OtlpGrpcMetricExporterBuilder setCompression(String compressionMethod) {
     requireNonNull(compressionMethod, "compressionMethod");
-    checkArgument(
-        compressionMethod.equals("gzip") || compressionMethod.equals("none"),
-        "Unsupported compression method. Supported compression methods include: gzip, none.");
     delegate.setCompression(compressionMethod);
     return this;
   }
 
+  /**
+   * Sets the level at which payloads are compressed, whose meaning is specific to the compression
+   * method set with {@link #setCompression(String)}. For "gzip", it is between {@code 1} (fastest)
+   * and {@code 9} (smallest), or {@code -1} for the default of {@code 6}. If unset, the default
+   * level of the compression method is used. Ignored if compression is disabled. A compression
+   * level cannot be set when a channel is set with {@link #setChannel(ManagedChannel)}, which
+   * compresses at the default level.
+   */
+  public OtlpGrpcMetricExporterBuilder setCompressionLevel(int compressionLevel) {
+    delegate.setCompressionLevel(compressionLevel);
+    return this;
+  }
+
+  /**
+   * Sets the maximum serialized size in bytes of a single export request. Batches of metrics which
+   * would exceed it are split into multiple requests, keeping metrics grouped by resource and
+   * instrumentation scope, which are sent concurrently. The export only succeeds if all requests
+   * succeed. A metric which alone exceeds the limit is sent in a request of its own. If unset or
+   * {@code 0}, requests are not split.
+   */
+  public OtlpGrpcMetricExporterBuilder setMaxRequestSize(int maxRequestSize) {
+    checkArgument(maxRequestSize >= 0, "maxRequestSize must be non-negative");
+    delegate.setMaxRequestSize(maxRequestSize);
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of export calls in flight at once. Batches of metrics exported while
+   * that many calls are in flight are queued, and merged into a single call once one completes,
+   * which amortizes the per-call overhead when many small batches are exported concurrently. If
+   * unset or {@code 0}, every batch is sent immediately in its own call.
+   */
+  public OtlpGrpcMetricExporterBuilder setMaxConcurrentExports(int maxConcurrentExports) {
+    checkArgument(maxConcurrentExports >= 0, "maxConcurrentExports must be non-negative");
+    delegate.setMaxConcurrentExports(maxConcurrentExports);
+    return this;
+  }
+
   /**
    * Sets the certificate chain to use for verifying servers when TLS is enabled. The {@code byte[]}
    * should contain an X.509 certificate collection in PEM format. If not set, TLS connections will
@@ -27,12 +27,14 @@ import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.exporter.internal.okhttp.OkHttpExporter;
 import io.opentelemetry.exporter.internal.otlp.traces.ResourceSpansMarshaler;
+import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
 import io.opentelemetry.exporter.internal.retry.RetryPolicy;
 import io.opentelemetry.exporter.internal.retry.RetryUtil;
 import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceResponse;
 import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.testing.trace.TestSpanData;
@@ -45,6 +47,7 @@ import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -180,6 +183,14 @@ class OtlpHttpSpanExporterTest {
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage(
             "Unsupported compression method. Supported compression methods include: gzip, none.");
+    assertThatThrownBy(
+            () ->
+                OtlpHttpSpanExporter.builder()
+                    .setCompression("gzip")
+                    .setCompressionLevel(10)
+                    .build())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid gzip compression level: 10");
   }
 
   @Test
@@ -238,6 +249,71 @@ class OtlpHttpSpanExporterTest {
     assertThat(parseRequestBody(gzipDecompress(request.content().array()))).isEqualTo(payload);
   }
 
+  @Test
+  void testExportGzipCompressionLevel() {
+    List<SpanData> spans = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      spans.add(generateFakeSpan());
+    }
+    byte[] fastest = exportGzipCompressed(builder.setCompressionLevel(1), spans);
+    byte[] smallest = exportGzipCompressed(builder.setCompressionLevel(9), spans);
+
+    assertThat(gzipDecompress(smallest)).isEqualTo(gzipDecompress(fastest));
+    assertThat(smallest.length).isLessThan(fastest.length);
+  }
+
+  private static byte[] exportGzipCompressed(
+      OtlpHttpSpanExporterBuilder exporterBuilder, List<SpanData> spans) {
+    server.enqueue(successResponse());
+    OtlpHttpSpanExporter exporter = exporterBuilder.setCompression("gzip").build();
+    CompletableResultCode resultCode = exporter.export(spans);
+    resultCode.join(10, TimeUnit.SECONDS);
+    assertThat(resultCode.isSuccess()).isTrue();
+    exporter.shutdown();
+
+    AggregatedHttpRequest request = server.takeRequest().request();
+    assertRequestCommon(request);
+    assertThat(request.headers().get("Content-Encoding")).isEqualTo("gzip");
+    byte[] body = request.content().array();
+    ExportTraceServiceRequest payload = parseRequestBody(gzipDecompress(body));
+    assertThat(payload.getResourceSpans(0).getScopeSpans(0).getSpansCount())
+        .isEqualTo(spans.size());
+    return body;
+  }
+
+  @Test
+  void testExportMaxRequestSize() {
+    // Like the collector's max receive size, no request may be larger than this.
+    int maxRequestSize = 16 * 1024;
+    List<SpanData> spans = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      spans.add(generateFakeSpan());
+    }
+    int numRequests = TraceRequestMarshaler.create(spans).split(maxRequestSize).size();
+    assertThat(numRequests).isGreaterThan(1);
+    for (int i = 0; i < numRequests; i++) {
+      server.enqueue(successResponse());
+    }
+    OtlpHttpSpanExporter exporter = builder.setMaxRequestSize(maxRequestSize).build();
+
+    CompletableResultCode resultCode = exporter.export(spans);
+    resultCode.join(10, TimeUnit.SECONDS);
+    assertThat(resultCode.isSuccess()).isTrue();
+    int exportedSpans = 0;
+    for (int i = 0; i < numRequests; i++) {
+      AggregatedHttpRequest request = server.takeRequest().request();
+      assertRequestCommon(request);
+      byte[] body = request.content().array();
+      assertThat(body.length).isLessThanOrEqualTo(maxRequestSize);
+      for (ResourceSpans resourceSpans : parseRequestBody(body).getResourceSpansList()) {
+        for (ScopeSpans scopeSpans : resourceSpans.getScopeSpansList()) {
+          exportedSpans += scopeSpans.getSpansCount();
+        }
+      }
+    }
+    assertThat(exportedSpans).isEqualTo(spans.size());
+  }
+
   private static void assertRequestCommon(AggregatedHttpRequest request) {
     assertThat(request.method()).isEqualTo(HttpMethod.POST);
     assertThat(request.path()).isEqualTo("/v1/traces");
@@ -27,7 +27,6 @@ dependencies {
 
   // We include helpers shared by gRPC or okhttp exporters but do not want to impose these
   // dependency on all of our consumers.
-  compileOnly("com.fasterxml.jackson.core:jackson-core")
   compileOnly("io.grpc:grpc-netty")
   compileOnly("io.grpc:grpc-netty-shaded")
   compileOnly("io.grpc:grpc-okhttp")
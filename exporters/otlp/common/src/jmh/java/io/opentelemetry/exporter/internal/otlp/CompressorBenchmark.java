@@ -0,0 +1,126 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp;
+
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import io.opentelemetry.exporter.internal.compression.CompressorUtil;
+import io.opentelemetry.exporter.internal.compression.GzipCompressor;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.otlp.metrics.MetricsRequestMarshaler;
+import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares CPU time and compression ratio of the available compressors on span and metric
+ * payloads. The {@code compressedBytes} and {@code uncompressedBytes} secondary results are totals
+ * per iteration, their quotient is the compression ratio.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class CompressorBenchmark {
+
+  private static final Compressor GZIP_BEST_SPEED = GzipCompressor.create(1);
+  private static final Compressor GZIP_BEST_COMPRESSION = GzipCompressor.create(9);
+
+  @State(Scope.Benchmark)
+  public static class PayloadState {
+
+    // "okio-gzip" is the previous implementation, a new GzipSink per request.
+    @Param({"none", "okio-gzip", "gzip", "gzip-1", "gzip-9"})
+    String compression;
+
+    @Param({"spans", "metrics"})
+    String payload;
+
+    byte[] serialized;
+
+    @Setup
+    public void setup(RequestMarshalState state) throws IOException {
+      Marshaler marshaler =
+          payload.equals("spans")
+              ? TraceRequestMarshaler.create(state.spanDataList)
+              : MetricsRequestMarshaler.create(state.metricDataList);
+      ByteArrayOutputStream bos = new ByteArrayOutputStream(marshaler.getBinarySerializedSize());
+      marshaler.writeBinaryTo(bos);
+      serialized = bos.toByteArray();
+    }
+
+    void compress(Buffer output) throws IOException {
+      switch (compression) {
+        case "none":
+          output.write(serialized);
+          return;
+        case "okio-gzip":
+          try (BufferedSink gzipSink = Okio.buffer(new GzipSink(output))) {
+            gzipSink.write(serialized);
+          }
+          return;
+        case "gzip-1":
+          compress(GZIP_BEST_SPEED, output);
+          return;
+        case "gzip-9":
+          compress(GZIP_BEST_COMPRESSION, output);
+          return;
+        default:
+          compress(CompressorUtil.validateAndResolveCompressor(compression), output);
+      }
+    }
+
+    private void compress(Compressor compressor, Buffer output) throws IOException {
+      try (OutputStream os = compressor.compress(output.outputStream())) {
+        os.write(serialized);
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class SizeCounters {
+    public long compressedBytes;
+    public long uncompressedBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      compressedBytes = 0;
+      uncompressedBytes = 0;
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Buffer compress(PayloadState state, SizeCounters counters) throws IOException {
+    Buffer output = new Buffer();
+    state.compress(output);
+    counters.compressedBytes += output.size();
+    counters.uncompressedBytes += state.serialized.length;
+    output.clear();
+    return output;
+  }
+}
@@ -13,6 +13,7 @@ import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.concurrent.TimeUnit;
+import okio.Buffer;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -47,4 +48,36 @@ public class MarshalerInputStreamBenchmarks {
         new MarshalerInputStream(TraceRequestMarshaler.create(state.spanDataList));
     stream.drainTo(new ByteArrayOutputStream(stream.available()));
   }
+
+  @Benchmark
+  @Threads(1)
+  public void marshalToOkioBufferOutputStream(RequestMarshalState state) throws IOException {
+    // How request bodies were written before encoding straight into segments.
+    Buffer buffer = new Buffer();
+    TraceRequestMarshaler.create(state.spanDataList).writeBinaryTo(buffer.outputStream());
+    buffer.clear();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void marshalToOkioBuffer(RequestMarshalState state) throws IOException {
+    Buffer buffer = new Buffer();
+    TraceRequestMarshaler.create(state.spanDataList).writeBinaryTo(buffer);
+    buffer.clear();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public int marshalAndRead(RequestMarshalState state) throws IOException {
+    // The non-drainable path, used when a transport reads the stream instead of draining it.
+    MarshalerInputStream stream =
+        new MarshalerInputStream(TraceRequestMarshaler.create(state.spanDataList));
+    byte[] chunk = new byte[8192];
+    int total = 0;
+    int read;
+    while ((read = stream.read(chunk, 0, chunk.length)) != -1) {
+      total += read;
+    }
+    return total;
+  }
 }
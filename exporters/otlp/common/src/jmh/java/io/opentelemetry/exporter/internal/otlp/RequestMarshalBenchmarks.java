@@ -5,6 +5,7 @@
 
 package io.opentelemetry.exporter.internal.otlp;
 
+import io.opentelemetry.exporter.internal.marshal.JacksonJsonSerializer;
 import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -50,4 +51,13 @@ public class RequestMarshalBenchmarks {
     requestMarshaler.writeJsonTo(customOutput);
     return customOutput;
   }
+
+  @Benchmark
+  @Threads(1)
+  public ByteArrayOutputStream marshalJsonJackson(RequestMarshalState state) throws IOException {
+    TraceRequestMarshaler requestMarshaler = TraceRequestMarshaler.create(state.spanDataList);
+    ByteArrayOutputStream customOutput = new ByteArrayOutputStream();
+    JacksonJsonSerializer.writeJsonTo(requestMarshaler, customOutput);
+    return customOutput;
+  }
 }
@@ -7,12 +7,18 @@ package io.opentelemetry.exporter.internal.otlp;
 
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import io.opentelemetry.sdk.testing.trace.TestSpanData;
 import io.opentelemetry.sdk.trace.data.EventData;
 import io.opentelemetry.sdk.trace.data.LinkData;
@@ -20,6 +26,7 @@ import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.data.StatusData;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
@@ -68,12 +75,38 @@ public class RequestMarshalState {
 
   List<SpanData> spanDataList;
 
+  // Contains one series per span for each of a counter and a histogram.
+  Collection<MetricData> metricDataList;
+
   @Setup
   public void setup() {
     spanDataList = new ArrayList<>(numSpans);
     for (int i = 0; i < numSpans; i++) {
       spanDataList.add(createSpanData());
     }
+    metricDataList = createMetricData(numSpans);
+  }
+
+  private static Collection<MetricData> createMetricData(int numSeries) {
+    InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+    SdkMeterProvider meterProvider =
+        SdkMeterProvider.builder().registerMetricReader(metricReader).setResource(RESOURCE).build();
+    Meter meter = meterProvider.get("name");
+    LongCounter counter =
+        meter.counterBuilder("counter").setDescription("counter description").build();
+    DoubleHistogram histogram =
+        meter.histogramBuilder("histogram").setDescription("histogram description").build();
+    for (int i = 0; i < numSeries; i++) {
+      Attributes attributes =
+          Attributes.builder()
+              .put(KEY_STRING, "GET /api/endpoint/" + i)
+              .put(KEY_INT, i % 5 == 0 ? 500L : 200L)
+              .build();
+      counter.add(i, attributes);
+      histogram.record(i * 1.5, attributes);
+      histogram.record(i * 7.0, attributes);
+    }
+    return metricReader.collectAllMetrics();
   }
 
   private static SpanData createSpanData() {
@@ -0,0 +1,222 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal;
+
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.SplittableMarshaler;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.ThrottlingLogger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * Limits the number of concurrent export calls, pipelining requests over at most {@code
+ * maxConcurrentExports} in-flight calls. Requests which arrive while all calls are in flight are
+ * queued, and when a call completes all queued requests are merged into the next call, amortizing
+ * the per-call overhead (headers, HTTP/2 stream setup, response handling) across them.
+ *
+ * <p>At most {@code maxPendingRequests} requests are queued, further requests fail immediately.
+ * Queued requests also fail when the coalescer is {@linkplain #shutdown() shut down}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ExportRequestCoalescer<T extends Marshaler> {
+
+  // Each request is typically a full batch from a BatchSpanProcessor or PeriodicMetricReader, so
+  // this is already far more than a healthy exporter ever queues.
+  private static final int DEFAULT_MAX_PENDING_REQUESTS = 1024;
+
+  private static final Logger internalLogger =
+      Logger.getLogger(ExportRequestCoalescer.class.getName());
+
+  private final ThrottlingLogger logger = new ThrottlingLogger(internalLogger);
+
+  private final BiFunction<T, Integer, CompletableResultCode> exporter;
+  private final int maxConcurrentExports;
+  private final int maxRequestSize;
+  private final int maxPendingRequests;
+
+  private final Object lock = new Object();
+  private final ArrayDeque<PendingRequest<T>> pending = new ArrayDeque<>();
+  private int inFlight;
+  private boolean isShutdown;
+
+  /**
+   * Creates a new {@link ExportRequestCoalescer} sending requests with {@code exporter}. Merged
+   * requests are kept within {@code maxRequestSize} when it is positive, though a single request
+   * larger than it is still sent on its own.
+   */
+  public ExportRequestCoalescer(
+      BiFunction<T, Integer, CompletableResultCode> exporter,
+      int maxConcurrentExports,
+      int maxRequestSize) {
+    this(exporter, maxConcurrentExports, maxRequestSize, DEFAULT_MAX_PENDING_REQUESTS);
+  }
+
+  ExportRequestCoalescer(
+      BiFunction<T, Integer, CompletableResultCode> exporter,
+      int maxConcurrentExports,
+      int maxRequestSize,
+      int maxPendingRequests) {
+    if (maxConcurrentExports <= 0) {
+      throw new IllegalArgumentException("maxConcurrentExports must be positive");
+    }
+    this.exporter = exporter;
+    this.maxConcurrentExports = maxConcurrentExports;
+    this.maxRequestSize = maxRequestSize;
+    this.maxPendingRequests = maxPendingRequests;
+  }
+
+  /** Exports the request, possibly merged with other requests exported concurrently. */
+  public CompletableResultCode export(T exportRequest, int numItems) {
+    if (!(exportRequest instanceof SplittableMarshaler)) {
+      return exporter.apply(exportRequest, numItems);
+    }
+    PendingRequest<T> request =
+        new PendingRequest<>(exportRequest, numItems, exportRequest.getBinarySerializedSize());
+    synchronized (lock) {
+      if (isShutdown) {
+        return CompletableResultCode.ofFailure();
+      }
+      if (pending.size() >= maxPendingRequests) {
+        logger.log(
+            Level.WARNING,
+            "Dropping "
+                + numItems
+                + " items, "
+                + pending.size()
+                + " export requests are already waiting for an in-flight export.");
+        return CompletableResultCode.ofFailure();
+      }
+      pending.add(request);
+      if (inFlight >= maxConcurrentExports) {
+        return request.result;
+      }
+      inFlight++;
+    }
+    sendPending();
+    return request.result;
+  }
+
+  /** Fails all queued requests, and any request exported later. */
+  public CompletableResultCode shutdown() {
+    List<PendingRequest<T>> dropped;
+    synchronized (lock) {
+      isShutdown = true;
+      dropped = new ArrayList<>(pending);
+      pending.clear();
+    }
+    complete(dropped, /* success= */ false);
+    return CompletableResultCode.ofSuccess();
+  }
+
+  /**
+   * Sends batches of queued requests for an acquired in-flight slot until the queue is empty,
+   * releasing the slot. Export calls which complete synchronously continue the loop instead of
+   * recursing from their completion callback.
+   */
+  private void sendPending() {
+    while (true) {
+      List<PendingRequest<T>> batch = nextBatch();
+      if (batch == null) {
+        return;
+      }
+      CompletableResultCode result;
+      try {
+        result = send(batch);
+      } catch (RuntimeException e) {
+        logger.log(Level.WARNING, "Failed to export.", e);
+        complete(batch, /* success= */ false);
+        continue;
+      }
+      // Set by whichever of this loop and the completion callback gets to it first. If the call
+      // completes before the callback is even registered, the loop sends the next batch,
+      // otherwise the callback does once the call completes.
+      AtomicBoolean handedOff = new AtomicBoolean();
+      result.whenComplete(
+          () -> {
+            complete(batch, result.isSuccess());
+            if (!handedOff.compareAndSet(false, true)) {
+              sendPending();
+            }
+          });
+      if (handedOff.compareAndSet(false, true)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Removes the next batch of queued requests, or releases the in-flight slot and returns {@code
+   * null} if none are queued.
+   */
+  @Nullable
+  private List<PendingRequest<T>> nextBatch() {
+    synchronized (lock) {
+      if (pending.isEmpty()) {
+        inFlight--;
+        return null;
+      }
+      List<PendingRequest<T>> batch = new ArrayList<>();
+      int batchSize = 0;
+      PendingRequest<T> next;
+      while ((next = pending.peek()) != null) {
+        if (!batch.isEmpty() && maxRequestSize > 0 && batchSize + next.size > maxRequestSize) {
+          break;
+        }
+        batch.add(pending.remove());
+        batchSize += next.size;
+      }
+      return batch;
+    }
+  }
+
+  private CompletableResultCode send(List<PendingRequest<T>> batch) {
+    T request = batch.get(0).request;
+    int numItems = batch.get(0).numItems;
+    if (batch.size() > 1) {
+      List<T> others = new ArrayList<>(batch.size() - 1);
+      for (int i = 1; i < batch.size(); i++) {
+        others.add(batch.get(i).request);
+        numItems += batch.get(i).numItems;
+      }
+      @SuppressWarnings("unchecked")
+      T merged = ((SplittableMarshaler<T>) request).mergeWith(others);
+      request = merged;
+    }
+    return exporter.apply(request, numItems);
+  }
+
+  private static void complete(List<? extends PendingRequest<?>> requests, boolean success) {
+    for (PendingRequest<?> request : requests) {
+      if (success) {
+        request.result.succeed();
+      } else {
+        request.result.fail();
+      }
+    }
+  }
+
+  private static final class PendingRequest<R> {
+    private final R request;
+    private final int numItems;
+    private final int size;
+    private final CompletableResultCode result = new CompletableResultCode();
+
+    private PendingRequest(R request, int numItems, int size) {
+      this.request = request;
+      this.numItems = numItems;
+      this.size = size;
+    }
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal;
+
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.ProtoFieldInfo;
+import io.opentelemetry.exporter.internal.marshal.SplittableMarshaler;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Splits export requests which exceed a maximum serialized size.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ExportRequestSplitter {
+
+  /**
+   * Exports {@code exportRequest} with {@code exporter}, first splitting it into multiple requests
+   * if its serialized size exceeds {@code maxRequestSize}. Split requests are all passed to {@code
+   * exporter} before any completes, so they are sent concurrently by asynchronous exporters. The
+   * returned result only succeeds if all requests succeed. A {@code maxRequestSize} of {@code 0}
+   * disables splitting.
+   */
+  public static <T extends Marshaler> CompletableResultCode export(
+      T exportRequest,
+      int numItems,
+      int maxRequestSize,
+      BiFunction<T, Integer, CompletableResultCode> exporter) {
+    if (maxRequestSize <= 0
+        || exportRequest.getBinarySerializedSize() <= maxRequestSize
+        || !(exportRequest instanceof SplittableMarshaler)) {
+      return exporter.apply(exportRequest, numItems);
+    }
+
+    @SuppressWarnings("unchecked")
+    List<T> requests = ((SplittableMarshaler<T>) exportRequest).split(maxRequestSize);
+    List<CompletableResultCode> results = new ArrayList<>(requests.size());
+    for (T request : requests) {
+      results.add(exporter.apply(request, ((SplittableMarshaler<?>) request).getItemCount()));
+    }
+    return CompletableResultCode.ofAll(results);
+  }
+
+  /**
+   * Splits {@code resources} into groups whose serialized export request size does not exceed
+   * {@code maxRequestSize}, reusing the already created item marshalers. An item which alone
+   * exceeds the limit is put into a group of its own.
+   *
+   * @param resourcesField the repeated resource field of the export request
+   * @param scopesField the repeated scope field of a resource
+   * @param itemsField the repeated item (span, metric or log) field of a scope
+   */
+  public static <
+          R extends Marshaler & SplittableResource<R, S>,
+          S extends Marshaler & SplittableScope<S, I>,
+          I extends Marshaler>
+      List<List<R>> splitResources(
+          R[] resources,
+          ProtoFieldInfo resourcesField,
+          ProtoFieldInfo scopesField,
+          ProtoFieldInfo itemsField,
+          int maxRequestSize) {
+    List<List<R>> groups = new ArrayList<>();
+    List<R> currentGroup = new ArrayList<>();
+    // Upper bound of the serialized size of currentGroup, it is exact except for length prefixes.
+    int currentSize = 0;
+    for (R resource : resources) {
+      S[] scopes = resource.getScopes();
+      int resourceSize =
+          MarshalerUtil.sizeMessageUpperBound(
+              resourcesField,
+              resource.getBinarySerializedSize()
+                  - MarshalerUtil.sizeRepeatedMessage(scopesField, scopes));
+      List<S> currentScopes = new ArrayList<>();
+      for (S scope : scopes) {
+        List<I> items = scope.getItems();
+        int scopeSize =
+            MarshalerUtil.sizeMessageUpperBound(
+                scopesField,
+                scope.getBinarySerializedSize()
+                    - MarshalerUtil.sizeRepeatedMessage(itemsField, items));
+        List<I> currentItems = new ArrayList<>();
+        for (I item : items) {
+          int itemSize = MarshalerUtil.sizeMessage(itemsField, item);
+          int addedSize = itemSize;
+          if (currentItems.isEmpty()) {
+            addedSize += scopeSize;
+            if (currentScopes.isEmpty()) {
+              addedSize += resourceSize;
+            }
+          }
+          if (currentSize > 0 && currentSize + addedSize > maxRequestSize) {
+            if (!currentItems.isEmpty()) {
+              currentScopes.add(scope.withItems(currentItems));
+              currentItems = new ArrayList<>();
+            }
+            if (!currentScopes.isEmpty()) {
+              currentGroup.add(resource.withScopes(currentScopes));
+              currentScopes = new ArrayList<>();
+            }
+            groups.add(currentGroup);
+            currentGroup = new ArrayList<>();
+            currentSize = 0;
+            addedSize = resourceSize + scopeSize + itemSize;
+          }
+          currentItems.add(item);
+          currentSize += addedSize;
+        }
+        if (!currentItems.isEmpty()) {
+          currentScopes.add(scope.withItems(currentItems));
+        }
+      }
+      if (!currentScopes.isEmpty()) {
+        currentGroup.add(resource.withScopes(currentScopes));
+      }
+    }
+    if (!currentGroup.isEmpty()) {
+      groups.add(currentGroup);
+    }
+    return groups;
+  }
+
+  /** Returns the number of items (spans, metrics or logs) in {@code resources}. */
+  public static <R extends SplittableResource<R, S>, S extends SplittableScope<S, ?>>
+      int countItems(List<R> resources) {
+    int count = 0;
+    for (R resource : resources) {
+      for (S scope : resource.getScopes()) {
+        count += scope.getItems().size();
+      }
+    }
+    return count;
+  }
+
+  /**
+   * A marshaler of the resource level message of an export request, which {@link
+   * #splitResources} can split by instrumentation scope.
+   */
+  public interface SplittableResource<R, S extends SplittableScope<S, ?>> {
+
+    /** Returns the instrumentation scope messages of this resource. */
+    S[] getScopes();
+
+    /** Returns a marshaler for the same resource containing only {@code scopes}. */
+    R withScopes(List<S> scopes);
+  }
+
+  /**
+   * A marshaler of the instrumentation scope level message of an export request, which {@link
+   * #splitResources} can split by item.
+   */
+  public interface SplittableScope<S, I extends Marshaler> {
+
+    /** Returns the items (spans, metrics or logs) of this scope. */
+    List<I> getItems();
+
+    /** Returns a marshaler for the same scope containing only {@code items}. */
+    S withItems(List<I> items);
+  }
+
+  private ExportRequestSplitter() {}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * An abstraction for compressing export request payloads.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+@ThreadSafe
+public interface Compressor {
+
+  /**
+   * The name of the compressor encoding. Used to identify the compressor when configuring
+   * exporters and sent as the {@code Content-Encoding} or {@code grpc-encoding} header value.
+   */
+  String getEncoding();
+
+  /**
+   * Wrap the {@code outputStream} with a compressing output stream. Closing the returned stream
+   * finishes compression but does not close {@code outputStream}.
+   */
+  OutputStream compress(OutputStream outputStream) throws IOException;
+
+  /**
+   * Returns a compressor with the same encoding which compresses at the given {@code level}, whose
+   * meaning is specific to the encoding.
+   *
+   * @throws IllegalArgumentException if the encoding has no compression levels, or {@code level}
+   *     is not one of them
+   */
+  default Compressor withLevel(int level) {
+    throw new IllegalArgumentException(
+        "Compression method does not support compression levels: " + getEncoding());
+  }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.compression;
+
+/**
+ * A service provider interface (SPI) for providing {@link Compressor}s backed by different
+ * compression libraries. Implementations are discovered with {@link java.util.ServiceLoader}, so a
+ * compression codec only becomes available when both its provider and the library it wraps are on
+ * the classpath. A provider whose {@link Compressor#getEncoding()} is {@code gzip} replaces the
+ * built-in gzip compressor.
+ *
+ * <p>Compressors are only used by exporters which send requests with OkHttp. Exporters using a
+ * user provided gRPC channel only support gzip, which is performed by grpc-java.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface CompressorProvider {
+
+  /** Return the {@link Compressor}. */
+  Compressor getInstance();
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.compression;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import javax.annotation.Nullable;
+
+/**
+ * Utilities for resolving SPI {@link Compressor}s.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class CompressorUtil {
+
+  private static final String NONE = "none";
+
+  private static final Map<String, Compressor> compressorRegistry = buildCompressorRegistry();
+
+  /**
+   * Validate that the {@code compressionMethod} is "none" or matches a registered compressor.
+   *
+   * @return {@code null} if {@code compressionMethod} is "none" or the registered compressor
+   * @throws IllegalArgumentException if no match is found
+   */
+  @Nullable
+  public static Compressor validateAndResolveCompressor(String compressionMethod) {
+    if (NONE.equals(compressionMethod)) {
+      return null;
+    }
+    Compressor compressor = compressorRegistry.get(compressionMethod);
+    if (compressor == null) {
+      throw new IllegalArgumentException(
+          "Unsupported compression method. Supported compression methods include: "
+              + String.join(", ", compressorRegistry.keySet())
+              + ", "
+              + NONE
+              + ".");
+    }
+    return compressor;
+  }
+
+  /**
+   * Returns {@code compressor} compressing at {@code level}, or {@code compressor} as is if no
+   * level is configured. The level is ignored if compression is disabled.
+   *
+   * @throws IllegalArgumentException if {@code compressor} does not support {@code level}
+   */
+  @Nullable
+  public static Compressor applyLevel(@Nullable Compressor compressor, @Nullable Integer level) {
+    if (compressor == null || level == null) {
+      return compressor;
+    }
+    return compressor.withLevel(level);
+  }
+
+  /** Returns the registered compressors keyed by {@link Compressor#getEncoding()}. */
+  public static Map<String, Compressor> getCompressors() {
+    return compressorRegistry;
+  }
+
+  private static Map<String, Compressor> buildCompressorRegistry() {
+    Map<String, Compressor> compressors = new LinkedHashMap<>();
+    GzipCompressor gzip = GzipCompressor.getInstance();
+    compressors.put(gzip.getEncoding(), gzip);
+    for (CompressorProvider provider :
+        ServiceLoader.load(CompressorProvider.class, CompressorUtil.class.getClassLoader())) {
+      Compressor compressor = provider.getInstance();
+      compressors.put(compressor.getEncoding(), compressor);
+    }
+    return Collections.unmodifiableMap(compressors);
+  }
+
+  private CompressorUtil() {}
+}
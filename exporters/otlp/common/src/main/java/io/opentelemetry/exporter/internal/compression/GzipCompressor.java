@@ -0,0 +1,167 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Gzip {@link Compressor}. Unlike {@link java.util.zip.GZIPOutputStream}, {@link Deflater}
+ * instances are pooled and reused across requests, avoiding the allocation of the native zlib state
+ * (around 256KB) for every export. Exporters use the default compression level
+ * unless one is configured with {@link #withLevel(int)}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class GzipCompressor implements Compressor {
+
+  private static final GzipCompressor DEFAULT = new GzipCompressor(Deflater.DEFAULT_COMPRESSION);
+
+  // Exporters rarely have more than a handful of requests in flight at a time.
+  private static final int MAX_POOLED_DEFLATERS = 8;
+  private static final int BUFFER_SIZE = 8192;
+
+  private static final int GZIP_MAGIC = 0x8b1f;
+  private static final byte[] HEADER = {
+    (byte) GZIP_MAGIC, // Magic number (short)
+    (byte) (GZIP_MAGIC >> 8), // Magic number (short)
+    Deflater.DEFLATED, // Compression method (CM)
+    0, // Flags (FLG)
+    0, // Modification time MTIME (int)
+    0, // Modification time MTIME (int)
+    0, // Modification time MTIME (int)
+    0, // Modification time MTIME (int)
+    0, // Extra flags (XFLG)
+    0 // Operating system (OS)
+  };
+
+  private final int level;
+  private final BlockingQueue<Deflater> deflaterPool =
+      new ArrayBlockingQueue<>(MAX_POOLED_DEFLATERS);
+
+  /** Returns the {@link GzipCompressor} using the default zlib compression level. */
+  public static GzipCompressor getInstance() {
+    return DEFAULT;
+  }
+
+  /**
+   * Returns a new {@link GzipCompressor} using the given compression {@code level}, which must be
+   * between {@link Deflater#BEST_SPEED} and {@link Deflater#BEST_COMPRESSION}, or {@link
+   * Deflater#DEFAULT_COMPRESSION}.
+   */
+  public static GzipCompressor create(int level) {
+    if (level != Deflater.DEFAULT_COMPRESSION
+        && (level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION)) {
+      throw new IllegalArgumentException("Invalid gzip compression level: " + level);
+    }
+    return new GzipCompressor(level);
+  }
+
+  private GzipCompressor(int level) {
+    this.level = level;
+  }
+
+  /** Returns the compression level. */
+  public int getLevel() {
+    return level;
+  }
+
+  @Override
+  public String getEncoding() {
+    return "gzip";
+  }
+
+  /**
+   * Returns a {@link GzipCompressor} using the given compression {@code level}, as {@link
+   * #create(int)} does, or this compressor if it already uses it.
+   */
+  @Override
+  public GzipCompressor withLevel(int level) {
+    return level == this.level ? this : create(level);
+  }
+
+  @Override
+  public OutputStream compress(OutputStream outputStream) throws IOException {
+    return new PooledGzipOutputStream(outputStream, acquireDeflater());
+  }
+
+  @Override
+  public String toString() {
+    return "GzipCompressor{level=" + level + "}";
+  }
+
+  private Deflater acquireDeflater() {
+    Deflater deflater = deflaterPool.poll();
+    if (deflater == null) {
+      // Gzip wraps raw deflate data, so the zlib header and checksum are not written.
+      deflater = new Deflater(level, /* nowrap= */ true);
+    }
+    return deflater;
+  }
+
+  private void releaseDeflater(Deflater deflater) {
+    deflater.reset();
+    if (!deflaterPool.offer(deflater)) {
+      deflater.end();
+    }
+  }
+
+  private final class PooledGzipOutputStream extends DeflaterOutputStream {
+
+    private final CRC32 crc = new CRC32();
+    private boolean trailerWritten;
+    private boolean closed;
+
+    private PooledGzipOutputStream(OutputStream out, Deflater deflater) throws IOException {
+      super(out, deflater, BUFFER_SIZE);
+      out.write(HEADER);
+    }
+
+    @Override
+    public void write(byte[] buf, int off, int len) throws IOException {
+      super.write(buf, off, len);
+      crc.update(buf, off, len);
+    }
+
+    @Override
+    public void finish() throws IOException {
+      super.finish();
+      if (!trailerWritten) {
+        trailerWritten = true;
+        writeIntLe((int) crc.getValue());
+        writeIntLe((int) def.getBytesRead());
+      }
+    }
+
+    // Does not close the underlying stream, it is owned by the caller.
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      try {
+        finish();
+        out.flush();
+      } finally {
+        releaseDeflater(def);
+      }
+    }
+
+    private void writeIntLe(int value) throws IOException {
+      out.write(value & 0xff);
+      out.write((value >> 8) & 0xff);
+      out.write((value >> 16) & 0xff);
+      out.write((value >> 24) & 0xff);
+    }
+  }
+}
@@ -0,0 +1,10 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/** Compression of export request payloads. */
+@ParametersAreNonnullByDefault
+package io.opentelemetry.exporter.internal.compression;
+
+import javax.annotation.ParametersAreNonnullByDefault;
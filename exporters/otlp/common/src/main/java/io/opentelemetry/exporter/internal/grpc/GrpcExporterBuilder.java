@@ -7,13 +7,14 @@ package io.opentelemetry.exporter.internal.grpc;
 
 import io.grpc.Channel;
 import io.grpc.ClientInterceptors;
-import io.grpc.Codec;
 import io.grpc.ManagedChannel;
 import io.grpc.Metadata;
 import io.grpc.stub.MetadataUtils;
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.exporter.internal.ExporterBuilderUtil;
 import io.opentelemetry.exporter.internal.TlsUtil;
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import io.opentelemetry.exporter.internal.compression.CompressorUtil;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.okhttp.OkHttpUtil;
 import io.opentelemetry.exporter.internal.retry.RetryInterceptor;
@@ -52,7 +53,10 @@ public class GrpcExporterBuilder<T extends Marshaler> {
 
   private long timeoutNanos;
   private URI endpoint;
-  private boolean compressionEnabled = false;
+  @Nullable private Compressor compressor;
+  @Nullable private Integer compressionLevel;
+  private int maxRequestSize = 0;
+  private int maxConcurrentExports = 0;
   private final Map<String, String> headers = new HashMap<>();
   @Nullable private byte[] trustedCertificatesPem;
   @Nullable private byte[] privateKeyPem;
@@ -98,7 +102,22 @@ public class GrpcExporterBuilder<T extends Marshaler> {
   }
 
   public GrpcExporterBuilder<T> setCompression(String compressionMethod) {
-    this.compressionEnabled = true;
+    this.compressor = CompressorUtil.validateAndResolveCompressor(compressionMethod);
+    return this;
+  }
+
+  public GrpcExporterBuilder<T> setCompressionLevel(int compressionLevel) {
+    this.compressionLevel = compressionLevel;
+    return this;
+  }
+
+  public GrpcExporterBuilder<T> setMaxRequestSize(int maxRequestSize) {
+    this.maxRequestSize = maxRequestSize;
+    return this;
+  }
+
+  public GrpcExporterBuilder<T> setMaxConcurrentExports(int maxConcurrentExports) {
+    this.maxConcurrentExports = maxConcurrentExports;
     return this;
   }
 
@@ -130,9 +149,15 @@ public class GrpcExporterBuilder<T extends Marshaler> {
 
   public GrpcExporter<T> build() {
     if (grpcChannel != null) {
+      if (compressor != null && compressionLevel != null) {
+        throw new IllegalStateException(
+            "A compression level cannot be configured for a user provided channel.");
+      }
       return new UpstreamGrpcExporterFactory().buildWithChannel((Channel) grpcChannel);
     }
 
+    Compressor compressor = CompressorUtil.applyLevel(this.compressor, compressionLevel);
+
     OkHttpClient.Builder clientBuilder =
         new OkHttpClient.Builder().dispatcher(OkHttpUtil.newDispatcher());
 
@@ -164,8 +189,8 @@ public class GrpcExporterBuilder<T extends Marshaler> {
     this.headers.forEach(headers::add);
 
     headers.add("te", "trailers");
-    if (compressionEnabled) {
-      headers.add("grpc-encoding", "gzip");
+    if (compressor != null) {
+      headers.add("grpc-encoding", compressor.getEncoding());
     }
 
     if (retryPolicy != null) {
@@ -180,7 +205,29 @@ public class GrpcExporterBuilder<T extends Marshaler> {
         meterProvider,
         endpoint,
         headers.build(),
-        compressionEnabled);
+        compressor,
+        maxRequestSize,
+        maxConcurrentExports);
+  }
+
+  /**
+   * Returns the message encoding to request from a user provided channel. Compression is then
+   * performed by grpc-java with its own gzip implementation, using the compressors registered with
+   * the channel, which only include gzip by default. Other compressors can only be used with the
+   * default OkHttp based exporter.
+   */
+  static String upstreamMessageEncoding(@Nullable Compressor compressor) {
+    if (compressor == null) {
+      return "identity";
+    }
+    String encoding = compressor.getEncoding();
+    if (!encoding.equals("gzip")) {
+      throw new IllegalStateException(
+          "Unsupported compression method for a user provided channel: "
+              + encoding
+              + ". Supported compression methods include: gzip, none.");
+    }
+    return encoding;
   }
 
   // Use an inner class to ensure GrpcExporterBuilder does not have classloading dependencies on
@@ -203,13 +250,19 @@ public class GrpcExporterBuilder<T extends Marshaler> {
           ClientInterceptors.intercept(
               channel, MetadataUtils.newAttachHeadersInterceptor(metadata));
 
-      Codec codec = compressionEnabled ? new Codec.Gzip() : Codec.Identity.NONE;
       MarshalerServiceStub<T, ?, ?> stub =
           grpcStubFactory
               .get()
               .apply(channel, authorityOverride)
-              .withCompression(codec.getMessageEncoding());
-      return new UpstreamGrpcExporter<>(exporterName, type, stub, meterProvider, timeoutNanos);
+              .withCompression(upstreamMessageEncoding(compressor));
+      return new UpstreamGrpcExporter<>(
+          exporterName,
+          type,
+          stub,
+          meterProvider,
+          timeoutNanos,
+          maxRequestSize,
+          maxConcurrentExports);
     }
   }
 }
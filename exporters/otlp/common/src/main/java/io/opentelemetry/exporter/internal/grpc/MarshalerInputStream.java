@@ -22,16 +22,14 @@
 
 package io.opentelemetry.exporter.internal.grpc;
 
-import com.google.common.io.ByteStreams;
 import io.grpc.Drainable;
 import io.grpc.KnownLength;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import javax.annotation.Nullable;
+import okio.Buffer;
 
 /**
  * Adapter from {@link Marshaler} to gRPC types.
@@ -44,7 +42,7 @@ import javax.annotation.Nullable;
 public final class MarshalerInputStream extends InputStream implements Drainable, KnownLength {
 
   @Nullable private Marshaler message;
-  @Nullable private ByteArrayInputStream partial;
+  @Nullable private Buffer partial;
 
   /** Creates a new {@link MarshalerInputStream}. */
   public MarshalerInputStream(Marshaler message) {
@@ -59,7 +57,8 @@ public final class MarshalerInputStream extends InputStream implements Drainable
       message.writeBinaryTo(target);
       message = null;
     } else if (partial != null) {
-      written = (int) ByteStreams.copy(partial, target);
+      written = (int) partial.size();
+      partial.writeTo(target);
       partial = null;
     } else {
       written = 0;
@@ -70,11 +69,11 @@ public final class MarshalerInputStream extends InputStream implements Drainable
   @Override
   public int read() throws IOException {
     if (message != null) {
-      partial = new ByteArrayInputStream(toByteArray(message));
+      partial = toBuffer(message);
       message = null;
     }
-    if (partial != null) {
-      return partial.read();
+    if (partial != null && partial.size() > 0) {
+      return partial.readByte() & 0xFF;
     }
     return -1;
   }
@@ -90,11 +89,9 @@ public final class MarshalerInputStream extends InputStream implements Drainable
       }
 
       // NB: Because this class is Drainable and KnownLength, we do not expect the read methods to
-      // be called in practice. Therefore, we have not copied the branch from upstream that would
-      // serialize straight into the provided array without toByteArray (which requires an entire
-      // CodedOutputStream implementation). If this method were to be called, it is two extra copies
-      // because we also wrap in a ByteArrayOutputStream
-      partial = new ByteArrayInputStream(toByteArray(message));
+      // be called in practice. If they are, we encode straight into the segments of an Okio
+      // buffer and read out of those, which is a single copy into the caller's array.
+      partial = toBuffer(message);
       message = null;
     }
     if (partial != null) {
@@ -103,10 +100,10 @@ public final class MarshalerInputStream extends InputStream implements Drainable
     return -1;
   }
 
-  private static byte[] toByteArray(Marshaler message) throws IOException {
-    ByteArrayOutputStream bos = new ByteArrayOutputStream(message.getBinarySerializedSize());
-    message.writeBinaryTo(bos);
-    return bos.toByteArray();
+  private static Buffer toBuffer(Marshaler message) throws IOException {
+    Buffer buffer = new Buffer();
+    message.writeBinaryTo(buffer);
+    return buffer;
   }
 
   @Override
@@ -114,7 +111,7 @@ public final class MarshalerInputStream extends InputStream implements Drainable
     if (message != null) {
       return message.getBinarySerializedSize();
     } else if (partial != null) {
-      return partial.available();
+      return (int) partial.size();
     }
     return 0;
   }
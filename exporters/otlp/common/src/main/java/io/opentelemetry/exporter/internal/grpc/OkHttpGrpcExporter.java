@@ -24,7 +24,10 @@
 package io.opentelemetry.exporter.internal.grpc;
 
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.exporter.internal.ExportRequestCoalescer;
+import io.opentelemetry.exporter.internal.ExportRequestSplitter;
 import io.opentelemetry.exporter.internal.ExporterMetrics;
+import io.opentelemetry.exporter.internal.compression.Compressor;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.retry.RetryUtil;
 import io.opentelemetry.sdk.common.CompletableResultCode;
@@ -67,7 +70,9 @@ public final class OkHttpGrpcExporter<T extends Marshaler> implements GrpcExport
   private final OkHttpClient client;
   private final String endpoint;
   private final Headers headers;
-  private final boolean compressionEnabled;
+  @Nullable private final Compressor compressor;
+  private final int maxRequestSize;
+  @Nullable private final ExportRequestCoalescer<T> coalescer;
 
   /** Creates a new {@link OkHttpGrpcExporter}. */
   OkHttpGrpcExporter(
@@ -77,22 +82,41 @@ public final class OkHttpGrpcExporter<T extends Marshaler> implements GrpcExport
       MeterProvider meterProvider,
       String endpoint,
       Headers headers,
-      boolean compressionEnabled) {
+      @Nullable Compressor compressor,
+      int maxRequestSize,
+      int maxConcurrentExports) {
     this.type = type;
     this.exporterMetrics = ExporterMetrics.createGrpcOkHttp(exporterName, type, meterProvider);
     this.client = client;
     this.endpoint = endpoint;
     this.headers = headers;
-    this.compressionEnabled = compressionEnabled;
+    this.compressor = compressor;
+    this.maxRequestSize = maxRequestSize;
+    this.coalescer =
+        maxConcurrentExports > 0
+            ? new ExportRequestCoalescer<>(
+                this::splitAndExport, maxConcurrentExports, maxRequestSize)
+            : null;
   }
 
   @Override
   public CompletableResultCode export(T exportRequest, int numItems) {
+    if (coalescer != null) {
+      return coalescer.export(exportRequest, numItems);
+    }
+    return splitAndExport(exportRequest, numItems);
+  }
+
+  private CompletableResultCode splitAndExport(T exportRequest, int numItems) {
+    return ExportRequestSplitter.export(exportRequest, numItems, maxRequestSize, this::doExport);
+  }
+
+  private CompletableResultCode doExport(T exportRequest, int numItems) {
     exporterMetrics.addSeen(numItems);
 
     Request.Builder requestBuilder = new Request.Builder().url(endpoint).headers(headers);
 
-    RequestBody requestBody = new GrpcRequestBody(exportRequest, compressionEnabled);
+    RequestBody requestBody = new GrpcRequestBody(exportRequest, compressor);
     requestBuilder.post(requestBody);
 
     CompletableResultCode result = new CompletableResultCode();
@@ -206,6 +230,9 @@ public final class OkHttpGrpcExporter<T extends Marshaler> implements GrpcExport
 
   @Override
   public CompletableResultCode shutdown() {
+    if (coalescer != null) {
+      coalescer.shutdown();
+    }
     client.dispatcher().cancelAll();
     client.dispatcher().executorService().shutdownNow();
     client.connectionPool().evictAll();
@@ -10,6 +10,8 @@ import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.MoreExecutors;
 import io.grpc.Status;
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.exporter.internal.ExportRequestCoalescer;
+import io.opentelemetry.exporter.internal.ExportRequestSplitter;
 import io.opentelemetry.exporter.internal.ExporterMetrics;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
@@ -40,6 +42,8 @@ public final class UpstreamGrpcExporter<T extends Marshaler> implements GrpcExpo
   private final ExporterMetrics exporterMetrics;
   private final MarshalerServiceStub<T, ?, ?> stub;
   private final long timeoutNanos;
+  private final int maxRequestSize;
+  @Nullable private final ExportRequestCoalescer<T> coalescer;
 
   /** Creates a new {@link UpstreamGrpcExporter}. */
   UpstreamGrpcExporter(
@@ -47,15 +51,34 @@ public final class UpstreamGrpcExporter<T extends Marshaler> implements GrpcExpo
       String type,
       MarshalerServiceStub<T, ?, ?> stub,
       MeterProvider meterProvider,
-      long timeoutNanos) {
+      long timeoutNanos,
+      int maxRequestSize,
+      int maxConcurrentExports) {
     this.type = type;
     this.exporterMetrics = ExporterMetrics.createGrpc(exporterName, type, meterProvider);
     this.timeoutNanos = timeoutNanos;
+    this.maxRequestSize = maxRequestSize;
+    this.coalescer =
+        maxConcurrentExports > 0
+            ? new ExportRequestCoalescer<>(
+                this::splitAndExport, maxConcurrentExports, maxRequestSize)
+            : null;
     this.stub = stub;
   }
 
   @Override
   public CompletableResultCode export(T exportRequest, int numItems) {
+    if (coalescer != null) {
+      return coalescer.export(exportRequest, numItems);
+    }
+    return splitAndExport(exportRequest, numItems);
+  }
+
+  private CompletableResultCode splitAndExport(T exportRequest, int numItems) {
+    return ExportRequestSplitter.export(exportRequest, numItems, maxRequestSize, this::doExport);
+  }
+
+  private CompletableResultCode doExport(T exportRequest, int numItems) {
     exporterMetrics.addSeen(numItems);
 
     CompletableResultCode result = new CompletableResultCode();
@@ -117,6 +140,9 @@ public final class UpstreamGrpcExporter<T extends Marshaler> implements GrpcExpo
 
   @Override
   public CompletableResultCode shutdown() {
+    if (coalescer != null) {
+      return coalescer.shutdown();
+    }
     return CompletableResultCode.ofSuccess();
   }
 }
@@ -43,6 +43,8 @@ import static io.opentelemetry.exporter.internal.marshal.WireFormat.MAX_VARINT_S
 
 import java.io.IOException;
 import java.io.OutputStream;
+import okio.Buffer;
+import okio.BufferedSink;
 
 /**
  * Protobuf wire encoder.
@@ -61,6 +63,7 @@ import java.io.OutputStream;
 // - No support for Java String, only UTF-8 bytes
 // - No support for writing fields with tag, we alway write tags separately
 // - Allow resetting and use a ThreadLocal instance
+// - Encoder writing directly into the segments of an Okio BufferedSink
 //
 @SuppressWarnings({"UnnecessaryFinal", "UngroupedOverloads", "InlineMeSuggester", "UnusedVariable"})
 public abstract class CodedOutputStream {
@@ -99,6 +102,15 @@ public abstract class CodedOutputStream {
     return cos;
   }
 
+  /**
+   * Create a new {@code CodedOutputStream} writing directly into the segments of the buffer of the
+   * given {@link BufferedSink}, without an intermediate copy. Complete segments are emitted to the
+   * sink as encoding proceeds.
+   */
+  static CodedOutputStream newInstance(final BufferedSink sink) {
+    return new BufferedSinkEncoder(sink);
+  }
+
   // Disallow construction outside of this class.
   private CodedOutputStream() {}
 
@@ -375,8 +387,8 @@ public abstract class CodedOutputStream {
 
   /** Abstract base class for buffered encoders. */
   private abstract static class AbstractBufferedEncoder extends CodedOutputStream {
-    final byte[] buffer;
-    final int limit;
+    byte[] buffer;
+    int limit;
     int position;
     int totalBytesWritten;
 
@@ -385,6 +397,12 @@ public abstract class CodedOutputStream {
       this.limit = buffer.length;
     }
 
+    AbstractBufferedEncoder(byte[] buffer, int position, int limit) {
+      this.buffer = buffer;
+      this.position = position;
+      this.limit = limit;
+    }
+
     /**
      * This method does not perform bounds checking on the array. Checking array bounds is the
      * responsibility of the caller.
@@ -578,4 +596,125 @@ public abstract class CodedOutputStream {
       position = 0;
     }
   }
+
+  /**
+   * A {@link CodedOutputStream} that writes directly into the segments of the {@link Buffer}
+   * backing a {@link BufferedSink} using a {@link Buffer.UnsafeCursor}, instead of encoding into a
+   * private array which {@link BufferedSink#outputStream()} then copies into segments.
+   */
+  private static final class BufferedSinkEncoder extends AbstractBufferedEncoder {
+    private static final byte[] EMPTY = new byte[0];
+
+    private final BufferedSink sink;
+    private final Buffer sinkBuffer;
+    private final Buffer.UnsafeCursor cursor = new Buffer.UnsafeCursor();
+    private boolean cursorOpen;
+
+    BufferedSinkEncoder(BufferedSink sink) {
+      super(EMPTY, 0, 0);
+      this.sink = sink;
+      this.sinkBuffer = sink.getBuffer();
+    }
+
+    @Override
+    void writeByteArrayNoTag(final byte[] value, int offset, int length) throws IOException {
+      writeUInt32NoTag(length);
+      write(value, offset, length);
+    }
+
+    @Override
+    void write(byte value) throws IOException {
+      if (position == limit) {
+        nextSegment(1);
+      }
+
+      buffer(value);
+    }
+
+    @Override
+    void writeInt32NoTag(int value) throws IOException {
+      if (value >= 0) {
+        writeUInt32NoTag(value);
+      } else {
+        // Must sign-extend.
+        writeUInt64NoTag(value);
+      }
+    }
+
+    @Override
+    void writeUInt32NoTag(int value) throws IOException {
+      ensureAvailable(MAX_VARINT32_SIZE);
+      bufferUInt32NoTag(value);
+    }
+
+    @Override
+    void writeFixed32NoTag(final int value) throws IOException {
+      ensureAvailable(FIXED32_SIZE);
+      bufferFixed32NoTag(value);
+    }
+
+    @Override
+    void writeUInt64NoTag(long value) throws IOException {
+      ensureAvailable(MAX_VARINT_SIZE);
+      bufferUInt64NoTag(value);
+    }
+
+    @Override
+    void writeFixed64NoTag(final long value) throws IOException {
+      ensureAvailable(FIXED64_SIZE);
+      bufferFixed64NoTag(value);
+    }
+
+    @Override
+    void write(byte[] value, int offset, int length) throws IOException {
+      while (length > 0) {
+        if (position == limit) {
+          nextSegment(1);
+        }
+        int bytesWritten = Math.min(length, limit - position);
+        System.arraycopy(value, offset, buffer, position, bytesWritten);
+        position += bytesWritten;
+        totalBytesWritten += bytesWritten;
+        offset += bytesWritten;
+        length -= bytesWritten;
+      }
+    }
+
+    @Override
+    void flush() throws IOException {
+      releaseSegment();
+    }
+
+    private void ensureAvailable(int requiredSize) throws IOException {
+      if (limit - position < requiredSize) {
+        nextSegment(requiredSize);
+      }
+    }
+
+    private void nextSegment(int requiredSize) throws IOException {
+      releaseSegment();
+      // Hand off complete segments to the sink before growing the buffer, as the sink's
+      // OutputStream would do after each write.
+      sink.emitCompleteSegments();
+      sinkBuffer.readAndWriteUnsafe(cursor);
+      cursorOpen = true;
+      cursor.expandBuffer(requiredSize);
+      buffer = cursor.data;
+      position = cursor.start;
+      limit = cursor.end;
+    }
+
+    private void releaseSegment() {
+      if (!cursorOpen) {
+        return;
+      }
+      // Trim the part of the segment that expandBuffer reserved but was not written.
+      cursor.resizeBuffer(sinkBuffer.size() - (limit - position));
+      cursor.close();
+      cursorOpen = false;
+      buffer = EMPTY;
+      position = 0;
+      limit = 0;
+    }
+  }
 }
@@ -5,181 +5,412 @@
 
 package io.opentelemetry.exporter.internal.marshal;
 
-import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.core.JsonGenerator;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+/**
+ * Serializer for the proto JSON format. Writes UTF-8 bytes directly to the {@link OutputStream}
+ * without a general purpose JSON library - field names and enum values are encoded once per {@link
+ * ProtoFieldInfo} and {@link ProtoEnumInfo}, and strings are already UTF-8 encoded by marshalers so
+ * only need escaping.
+ */
 final class JsonSerializer extends Serializer {
 
-  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final int BUFFER_SIZE = 4096;
+
+  private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+  private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+  private static final byte[] HEX_DIGITS = {
+    '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'
+  };
+  private static final byte[] BASE64_ALPHABET =
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/"
+          .getBytes(StandardCharsets.US_ASCII);
 
-  private final JsonGenerator generator;
+  // Escape character for each ASCII byte that needs escaping, 'u' for the \\u00XX form and 0 for
+  // bytes that are written as is.
+  private static final byte[] ESCAPES = new byte[128];
 
-  JsonSerializer(OutputStream output) throws IOException {
-    this(JSON_FACTORY.createGenerator(output));
+  static {
+    for (int i = 0; i < 0x20; i++) {
+      ESCAPES[i] = 'u';
+    }
+    ESCAPES['\b'] = 'b';
+    ESCAPES['\t'] = 't';
+    ESCAPES['\n'] = 'n';
+    ESCAPES['\f'] = 'f';
+    ESCAPES['\r'] = 'r';
+    ESCAPES['"'] = '"';
+    ESCAPES['\\'] = '\\';
   }
 
-  JsonSerializer(JsonGenerator generator) {
-    this.generator = generator;
+  private final OutputStream output;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int position;
+  // Whether the next field or value is the first in its enclosing object or array, i.e. is not
+  // preceded by a comma.
+  private boolean first = true;
+
+  JsonSerializer(OutputStream output) {
+    this.output = output;
   }
 
   @Override
   protected void writeTraceId(ProtoFieldInfo field, String traceId) throws IOException {
-    generator.writeStringField(field.getJsonName(), traceId);
+    writeFieldName(field);
+    writeAsciiString(traceId);
   }
 
   @Override
   protected void writeSpanId(ProtoFieldInfo field, String spanId) throws IOException {
-    generator.writeStringField(field.getJsonName(), spanId);
+    writeFieldName(field);
+    writeAsciiString(spanId);
   }
 
   @Override
   public void writeBool(ProtoFieldInfo field, boolean value) throws IOException {
-    generator.writeBooleanField(field.getJsonName(), value);
+    writeFieldName(field);
+    writeRaw(value ? TRUE : FALSE);
   }
 
   @Override
   protected void writeEnum(ProtoFieldInfo field, ProtoEnumInfo enumValue) throws IOException {
-    generator.writeStringField(field.getJsonName(), enumValue.getJsonName());
+    writeFieldName(field);
+    writeRaw(enumValue.getJsonValue());
   }
 
   @Override
   protected void writeUint32(ProtoFieldInfo field, int value) throws IOException {
-    generator.writeNumberField(field.getJsonName(), value);
+    writeFieldName(field);
+    writeLong(value);
   }
 
   @Override
   protected void writeSInt32(ProtoFieldInfo field, int value) throws IOException {
-    generator.writeNumberField(field.getJsonName(), value);
+    writeFieldName(field);
+    writeLong(value);
   }
 
   @Override
   protected void writeint32(ProtoFieldInfo field, int value) throws IOException {
-    generator.writeNumberField(field.getJsonName(), value);
+    writeFieldName(field);
+    writeLong(value);
   }
 
   @Override
   public void writeInt64(ProtoFieldInfo field, long value) throws IOException {
-    generator.writeStringField(field.getJsonName(), Long.toString(value));
+    writeFieldName(field);
+    writeQuotedLong(value);
   }
 
   @Override
   protected void writeFixed64(ProtoFieldInfo field, long value) throws IOException {
-    generator.writeStringField(field.getJsonName(), Long.toString(value));
+    writeFieldName(field);
+    writeQuotedLong(value);
   }
 
   @Override
   protected void writeFixed64Value(long value) throws IOException {
-    generator.writeString(Long.toString(value));
+    writeValueSeparator();
+    writeQuotedLong(value);
   }
 
   @Override
   protected void writeUInt64Value(long value) throws IOException {
-    generator.writeString(Long.toString(value));
+    writeValueSeparator();
+    writeQuotedLong(value);
   }
 
   @Override
   protected void writeFixed32(ProtoFieldInfo field, int value) throws IOException {
-    generator.writeNumberField(field.getJsonName(), value);
+    writeFieldName(field);
+    writeLong(value);
   }
 
   @Override
   public void writeDouble(ProtoFieldInfo field, double value) throws IOException {
-    generator.writeNumberField(field.getJsonName(), value);
+    writeFieldName(field);
+    writeDoubleNoSeparator(value);
   }
 
   @Override
   protected void writeDoubleValue(double value) throws IOException {
-    generator.writeNumber(value);
+    writeValueSeparator();
+    writeDoubleNoSeparator(value);
   }
 
   @Override
   public void writeString(ProtoFieldInfo field, byte[] utf8Bytes) throws IOException {
-    generator.writeFieldName(field.getJsonName());
-    // Marshalers encoded String into UTF-8 bytes to optimize for binary serialization where
-    // we are able to avoid the encoding process happening twice, one for size computation and one
-    // for actual writing. JsonGenerator actually has a writeUTF8String that would be able to accept
-    // this, but it only works when writing to an OutputStream, but not to a String like we do for
-    // writing to logs. It's wasteful to take a String, convert it to bytes, and convert back to
-    // the same String but we can see if this can be improved in the future.
-    generator.writeString(new String(utf8Bytes, StandardCharsets.UTF_8));
+    writeFieldName(field);
+    writeByte('"');
+    int runStart = 0;
+    for (int i = 0; i < utf8Bytes.length; i++) {
+      byte b = utf8Bytes[i];
+      // Bytes of multi-byte UTF-8 sequences are negative and never need escaping.
+      if (b >= 0 && ESCAPES[b] != 0) {
+        writeRaw(utf8Bytes, runStart, i - runStart);
+        writeEscape(b);
+        runStart = i + 1;
+      }
+    }
+    writeRaw(utf8Bytes, runStart, utf8Bytes.length - runStart);
+    writeByte('"');
   }
 
   @Override
   protected void writeBytes(ProtoFieldInfo field, byte[] value) throws IOException {
-    generator.writeBinaryField(field.getJsonName(), value);
+    writeFieldName(field);
+    writeByte('"');
+    int i = 0;
+    for (; i + 3 <= value.length; i += 3) {
+      int bits = (value[i] & 0xFF) << 16 | (value[i + 1] & 0xFF) << 8 | (value[i + 2] & 0xFF);
+      ensureCapacity(4);
+      buffer[position++] = BASE64_ALPHABET[bits >>> 18];
+      buffer[position++] = BASE64_ALPHABET[(bits >>> 12) & 0x3F];
+      buffer[position++] = BASE64_ALPHABET[(bits >>> 6) & 0x3F];
+      buffer[position++] = BASE64_ALPHABET[bits & 0x3F];
+    }
+    int remaining = value.length - i;
+    if (remaining > 0) {
+      int bits = (value[i] & 0xFF) << 16 | (remaining == 2 ? (value[i + 1] & 0xFF) << 8 : 0);
+      ensureCapacity(4);
+      buffer[position++] = BASE64_ALPHABET[bits >>> 18];
+      buffer[position++] = BASE64_ALPHABET[(bits >>> 12) & 0x3F];
+      buffer[position++] = remaining == 2 ? BASE64_ALPHABET[(bits >>> 6) & 0x3F] : (byte) '=';
+      buffer[position++] = '=';
+    }
+    writeByte('"');
   }
 
   @Override
   protected void writeStartMessage(ProtoFieldInfo field, int protoMessageSize) throws IOException {
-    generator.writeObjectFieldStart(field.getJsonName());
+    writeFieldName(field);
+    writeStartContainer('{');
   }
 
   @Override
   protected void writeEndMessage() throws IOException {
-    generator.writeEndObject();
+    writeEndContainer('}');
   }
 
   @Override
   protected void writeStartRepeatedPrimitive(
       ProtoFieldInfo field, int protoSizePerElement, int numElements) throws IOException {
-    generator.writeArrayFieldStart(field.getJsonName());
+    writeFieldName(field);
+    writeStartContainer('[');
   }
 
   @Override
   protected void writeEndRepeatedPrimitive() throws IOException {
-    generator.writeEndArray();
+    writeEndContainer(']');
   }
 
   @Override
   protected void writeStartRepeatedVarint(ProtoFieldInfo field, int payloadSize)
       throws IOException {
-    generator.writeArrayFieldStart(field.getJsonName());
+    writeFieldName(field);
+    writeStartContainer('[');
   }
 
   @Override
   protected void writeEndRepeatedVarint() throws IOException {
-    generator.writeEndArray();
+    writeEndContainer(']');
   }
 
   @Override
   public void serializeRepeatedMessage(ProtoFieldInfo field, Marshaler[] repeatedMessage)
       throws IOException {
-    generator.writeArrayFieldStart(field.getJsonName());
+    writeFieldName(field);
+    writeStartContainer('[');
     for (Marshaler marshaler : repeatedMessage) {
       writeMessageValue(marshaler);
     }
-    generator.writeEndArray();
+    writeEndContainer(']');
   }
 
   @Override
   public void serializeRepeatedMessage(
       ProtoFieldInfo field, List<? extends Marshaler> repeatedMessage) throws IOException {
-    generator.writeArrayFieldStart(field.getJsonName());
+    writeFieldName(field);
+    writeStartContainer('[');
     for (Marshaler marshaler : repeatedMessage) {
       writeMessageValue(marshaler);
     }
-    generator.writeEndArray();
+    writeEndContainer(']');
   }
 
   // Not a field.
   void writeMessageValue(Marshaler message) throws IOException {
-    generator.writeStartObject();
+    writeValueSeparator();
+    writeStartContainer('{');
     message.writeTo(this);
-    generator.writeEndObject();
+    writeEndContainer('}');
   }
 
   @Override
   public void writeSerializedMessage(byte[] protoSerialized, String jsonSerialized)
       throws IOException {
-    generator.writeRaw(jsonSerialized);
+    // Preserialized messages may have no fields, in which case there is nothing to separate.
+    if (jsonSerialized.isEmpty()) {
+      return;
+    }
+    writeValueSeparator();
+    byte[] bytes = jsonSerialized.getBytes(StandardCharsets.UTF_8);
+    writeRaw(bytes, 0, bytes.length);
   }
 
   @Override
   public void close() throws IOException {
-    generator.close();
+    if (position > 0) {
+      output.write(buffer, 0, position);
+      position = 0;
+    }
+  }
+
+  private void writeFieldName(ProtoFieldInfo field) throws IOException {
+    writeValueSeparator();
+    writeRaw(field.getJsonFieldPrefix());
+  }
+
+  private void writeValueSeparator() throws IOException {
+    if (first) {
+      first = false;
+    } else {
+      writeByte(',');
+    }
+  }
+
+  private void writeStartContainer(char start) throws IOException {
+    writeByte(start);
+    first = true;
+  }
+
+  private void writeEndContainer(char end) throws IOException {
+    writeByte(end);
+    first = false;
+  }
+
+  private void writeEscape(byte b) throws IOException {
+    byte escape = ESCAPES[b];
+    ensureCapacity(6);
+    buffer[position++] = '\\';
+    if (escape == 'u') {
+      buffer[position++] = 'u';
+      buffer[position++] = '0';
+      buffer[position++] = '0';
+      buffer[position++] = HEX_DIGITS[b >> 4];
+      buffer[position++] = HEX_DIGITS[b & 0xF];
+    } else {
+      buffer[position++] = escape;
+    }
+  }
+
+  private void writeAsciiString(String value) throws IOException {
+    int length = value.length();
+    ensureCapacity(length + 2);
+    if (length + 2 > buffer.length) {
+      // Not expected for IDs, but keep correctness for arbitrarily long input.
+      writeByte('"');
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      writeRaw(bytes, 0, bytes.length);
+      writeByte('"');
+      return;
+    }
+    buffer[position++] = '"';
+    for (int i = 0; i < length; i++) {
+      buffer[position++] = (byte) value.charAt(i);
+    }
+    buffer[position++] = '"';
+  }
+
+  private void writeDoubleNoSeparator(double value) throws IOException {
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      // Proto JSON represents non-finite values as the strings "NaN", "Infinity" and "-Infinity".
+      writeAsciiString(Double.toString(value));
+      return;
+    }
+    String str = Double.toString(value);
+    int length = str.length();
+    ensureCapacity(length);
+    for (int i = 0; i < length; i++) {
+      buffer[position++] = (byte) str.charAt(i);
+    }
+  }
+
+  private void writeQuotedLong(long value) throws IOException {
+    writeByte('"');
+    writeLong(value);
+    writeByte('"');
+  }
+
+  private void writeLong(long value) throws IOException {
+    // Long.MIN_VALUE is 20 characters including the sign.
+    ensureCapacity(20);
+    if (value == Long.MIN_VALUE) {
+      writeAsciiDigits("-9223372036854775808");
+      return;
+    }
+    if (value < 0) {
+      buffer[position++] = '-';
+      value = -value;
+    }
+    int end = position + digitCount(value);
+    int i = end;
+    do {
+      buffer[--i] = (byte) ('0' + (value % 10));
+      value /= 10;
+    } while (value != 0);
+    position = end;
+  }
+
+  private void writeAsciiDigits(String digits) {
+    for (int i = 0; i < digits.length(); i++) {
+      buffer[position++] = (byte) digits.charAt(i);
+    }
+  }
+
+  private static int digitCount(long value) {
+    long limit = 10;
+    for (int digits = 1; digits < 19; digits++) {
+      if (value < limit) {
+        return digits;
+      }
+      limit *= 10;
+    }
+    return 19;
+  }
+
+  private void writeByte(char value) throws IOException {
+    ensureCapacity(1);
+    buffer[position++] = (byte) value;
+  }
+
+  private void writeRaw(byte[] value) throws IOException {
+    writeRaw(value, 0, value.length);
+  }
+
+  private void writeRaw(byte[] value, int offset, int length) throws IOException {
+    if (length > buffer.length - position) {
+      flushBuffer();
+      if (length > buffer.length) {
+        output.write(value, offset, length);
+        return;
+      }
+    }
+    System.arraycopy(value, offset, buffer, position, length);
+    position += length;
+  }
+
+  private void ensureCapacity(int length) throws IOException {
+    if (length > buffer.length - position) {
+      flushBuffer();
+    }
+  }
+
+  private void flushBuffer() throws IOException {
+    output.write(buffer, 0, position);
+    position = 0;
   }
 }
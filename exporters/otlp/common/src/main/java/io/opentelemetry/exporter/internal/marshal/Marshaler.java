@@ -5,9 +5,9 @@
 
 package io.opentelemetry.exporter.internal.marshal;
 
-import com.fasterxml.jackson.core.JsonGenerator;
 import java.io.IOException;
 import java.io.OutputStream;
+import okio.BufferedSink;
 
 /**
  * Marshaler from an SDK structure to protobuf wire format.
@@ -24,15 +24,18 @@ public abstract class Marshaler {
     }
   }
 
-  /** Marshals into the {@link OutputStream} in proto JSON format. */
-  public final void writeJsonTo(OutputStream output) throws IOException {
-    try (JsonSerializer serializer = new JsonSerializer(output)) {
-      serializer.writeMessageValue(this);
+  /**
+   * Marshals into the {@link BufferedSink} in proto binary format, encoding directly into the
+   * segments of its buffer.
+   */
+  public final void writeBinaryTo(BufferedSink sink) throws IOException {
+    try (Serializer serializer = new ProtoSerializer(sink)) {
+      writeTo(serializer);
     }
   }
 
-  /** Marshals into the {@link JsonGenerator} in proto JSON format. */
-  public final void writeJsonTo(JsonGenerator output) throws IOException {
+  /** Marshals into the {@link OutputStream} in proto JSON format. */
+  public final void writeJsonTo(OutputStream output) throws IOException {
     try (JsonSerializer serializer = new JsonSerializer(output)) {
       serializer.writeMessageValue(this);
     }
@@ -33,19 +33,6 @@ public final class MarshalerUtil {
   private static final int SPAN_ID_VALUE_SIZE =
       CodedOutputStream.computeLengthDelimitedFieldSize(SpanId.getLength() / 2);
 
-  private static final boolean JSON_AVAILABLE;
-
-  static {
-    boolean jsonAvailable = false;
-    try {
-      Class.forName("com.fasterxml.jackson.core.JsonFactory");
-      jsonAvailable = true;
-    } catch (ClassNotFoundException e) {
-      // Not available
-    }
-    JSON_AVAILABLE = jsonAvailable;
-  }
-
   private static final byte[] EMPTY_BYTES = new byte[0];
 
   /** Groups SDK items by resource and instrumentation scope. */
@@ -71,10 +58,6 @@ public final class MarshalerUtil {
 
   /** Preserialize into JSON format. */
   public static String preserializeJsonFields(Marshaler marshaler) {
-    if (!MarshalerUtil.JSON_AVAILABLE) {
-      return "";
-    }
-
     ByteArrayOutputStream jsonBos = new ByteArrayOutputStream();
     try {
       marshaler.writeJsonTo(jsonBos);
@@ -83,11 +66,8 @@ public final class MarshalerUtil {
           "Serialization error, this is likely a bug in OpenTelemetry.", e);
     }
 
-    // We effectively cache `writeTo`, however Jackson would not allow us to only write out
-    // fields
-    // which is what writeTo does. So we need to write to an object but skip the object start
-    // /
-    // end.
+    // We effectively cache `writeTo`, which only writes out fields. So we write to an object and
+    // skip the object start / end.
     byte[] jsonBytes = jsonBos.toByteArray();
     return new String(jsonBytes, 1, jsonBytes.length - 2, StandardCharsets.UTF_8);
   }
@@ -164,6 +144,15 @@ public final class MarshalerUtil {
     return field.getTagSize() + CodedOutputStream.computeUInt32SizeNoTag(fieldSize) + fieldSize;
   }
 
+  /**
+   * Returns an upper bound of the size of a message field whose content is {@code contentSize}
+   * bytes so far, assuming the longest possible length prefix so that more content can be added
+   * without exceeding the bound for the prefix.
+   */
+  public static int sizeMessageUpperBound(ProtoFieldInfo field, int contentSize) {
+    return field.getTagSize() + WireFormat.MAX_VARINT32_SIZE + contentSize;
+  }
+
   /** Returns the size of a bool field. */
   public static int sizeBool(ProtoFieldInfo field, boolean value) {
     if (!value) {
@@ -6,6 +6,8 @@
 package io.opentelemetry.exporter.internal.marshal;
 
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Information about a field in a proto definition.
@@ -23,4 +25,10 @@ public abstract class ProtoEnumInfo {
   public abstract int getEnumNumber();
 
   public abstract String getJsonName();
+
+  /** Returns the JSON name as a quoted string, encoded as UTF-8. */
+  @Memoized
+  byte[] getJsonValue() {
+    return ('"' + getJsonName() + '"').getBytes(StandardCharsets.UTF_8);
+  }
 }
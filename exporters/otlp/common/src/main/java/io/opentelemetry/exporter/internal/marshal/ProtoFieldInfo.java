@@ -6,6 +6,8 @@
 package io.opentelemetry.exporter.internal.marshal;
 
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Information about a field in a proto definition.
@@ -28,4 +30,10 @@ public abstract class ProtoFieldInfo {
   public abstract int getTagSize();
 
   public abstract String getJsonName();
+
+  /** Returns the JSON field name, quoted and followed by a colon, encoded as UTF-8. */
+  @Memoized
+  byte[] getJsonFieldPrefix() {
+    return ('"' + getJsonName() + "\":").getBytes(StandardCharsets.UTF_8);
+  }
 }
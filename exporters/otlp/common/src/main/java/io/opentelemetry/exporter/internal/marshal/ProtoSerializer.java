@@ -13,6 +13,7 @@ import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import okio.BufferedSink;
 
 /** Serializer for the protobuf binary wire format. */
 final class ProtoSerializer extends Serializer implements AutoCloseable {
@@ -28,7 +29,15 @@ final class ProtoSerializer extends Serializer implements AutoCloseable {
   private final Map<String, byte[]> idCache;
 
   ProtoSerializer(OutputStream output) {
-    this.output = CodedOutputStream.newInstance(output);
+    this(CodedOutputStream.newInstance(output));
+  }
+
+  ProtoSerializer(BufferedSink sink) {
+    this(CodedOutputStream.newInstance(sink));
+  }
+
+  private ProtoSerializer(CodedOutputStream output) {
+    this.output = output;
     idCache = getIdCache();
   }
 
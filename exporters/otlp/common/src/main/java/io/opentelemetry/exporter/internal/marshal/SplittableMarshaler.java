@@ -0,0 +1,34 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import java.util.List;
+
+/**
+ * An export request {@link Marshaler} which can be split into multiple smaller requests, or merged
+ * with other requests, without marshaling its telemetry items again.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface SplittableMarshaler<T extends Marshaler> {
+
+  /** Returns the number of telemetry items (spans, metrics or logs) in this request. */
+  int getItemCount();
+
+  /**
+   * Splits this request into requests whose serialized size does not exceed {@code
+   * maxRequestSize}, keeping items grouped by resource and instrumentation scope. An item which
+   * alone exceeds the limit is put into a request of its own.
+   */
+  List<T> split(int maxRequestSize);
+
+  /**
+   * Returns a request containing the items of this request followed by the items of {@code
+   * others}. Resources and instrumentation scopes are not deduplicated across requests.
+   */
+  T mergeWith(List<T> others);
+}
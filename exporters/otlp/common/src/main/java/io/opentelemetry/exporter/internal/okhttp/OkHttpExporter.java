@@ -6,7 +6,9 @@
 package io.opentelemetry.exporter.internal.okhttp;
 
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.exporter.internal.ExportRequestSplitter;
 import io.opentelemetry.exporter.internal.ExporterMetrics;
+import io.opentelemetry.exporter.internal.compression.Compressor;
 import io.opentelemetry.exporter.internal.grpc.GrpcStatusUtil;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.retry.RetryUtil;
@@ -27,7 +29,6 @@ import okhttp3.RequestBody;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
 import okio.BufferedSink;
-import okio.GzipSink;
 import okio.Okio;
 
 /**
@@ -47,8 +48,9 @@ public final class OkHttpExporter<T extends Marshaler> {
   private final OkHttpClient client;
   private final String endpoint;
   @Nullable private final Headers headers;
-  private final boolean compressionEnabled;
+  @Nullable private final Compressor compressor;
   private final Function<T, RequestBody> requestBodyCreator;
+  private final int maxRequestSize;
 
   private final ExporterMetrics exporterMetrics;
 
@@ -59,18 +61,24 @@ public final class OkHttpExporter<T extends Marshaler> {
       MeterProvider meterProvider,
       String endpoint,
       @Nullable Headers headers,
-      boolean compressionEnabled,
-      boolean exportAsJson) {
+      @Nullable Compressor compressor,
+      boolean exportAsJson,
+      int maxRequestSize) {
     this.type = type;
     this.client = client;
     this.endpoint = endpoint;
     this.headers = headers;
-    this.compressionEnabled = compressionEnabled;
+    this.compressor = compressor;
     this.requestBodyCreator = exportAsJson ? JsonRequestBody::new : ProtoRequestBody::new;
+    this.maxRequestSize = maxRequestSize;
     this.exporterMetrics = ExporterMetrics.createHttpProtobuf(exporterName, type, meterProvider);
   }
 
   public CompletableResultCode export(T exportRequest, int numItems) {
+    return ExportRequestSplitter.export(exportRequest, numItems, maxRequestSize, this::doExport);
+  }
+
+  private CompletableResultCode doExport(T exportRequest, int numItems) {
     exporterMetrics.addSeen(numItems);
 
     Request.Builder requestBuilder = new Request.Builder().url(endpoint);
@@ -78,9 +86,9 @@ public final class OkHttpExporter<T extends Marshaler> {
       requestBuilder.headers(headers);
     }
     RequestBody requestBody = requestBodyCreator.apply(exportRequest);
-    if (compressionEnabled) {
-      requestBuilder.addHeader("Content-Encoding", "gzip");
-      requestBuilder.post(gzipRequestBody(requestBody));
+    if (compressor != null) {
+      requestBuilder.addHeader("Content-Encoding", compressor.getEncoding());
+      requestBuilder.post(compressedRequestBody(requestBody, compressor));
     } else {
       requestBuilder.post(requestBody);
     }
@@ -145,7 +153,8 @@ public final class OkHttpExporter<T extends Marshaler> {
     return RetryUtil.retryableHttpResponseCodes().contains(response.code());
   }
 
-  private static RequestBody gzipRequestBody(RequestBody requestBody) {
+  private static RequestBody compressedRequestBody(
+      RequestBody requestBody, Compressor compressor) {
     return new RequestBody() {
       @Override
       public MediaType contentType() {
@@ -159,9 +168,10 @@ public final class OkHttpExporter<T extends Marshaler> {
 
       @Override
       public void writeTo(BufferedSink bufferedSink) throws IOException {
-        BufferedSink gzipSink = Okio.buffer(new GzipSink(bufferedSink));
-        requestBody.writeTo(gzipSink);
-        gzipSink.close();
+        BufferedSink compressedSink =
+            Okio.buffer(Okio.sink(compressor.compress(bufferedSink.outputStream())));
+        requestBody.writeTo(compressedSink);
+        compressedSink.close();
       }
     };
   }
@@ -8,6 +8,8 @@ package io.opentelemetry.exporter.internal.okhttp;
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.exporter.internal.ExporterBuilderUtil;
 import io.opentelemetry.exporter.internal.TlsUtil;
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import io.opentelemetry.exporter.internal.compression.CompressorUtil;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.retry.RetryInterceptor;
 import io.opentelemetry.exporter.internal.retry.RetryPolicy;
@@ -37,8 +39,10 @@ public final class OkHttpExporterBuilder<T extends Marshaler> {
   private String endpoint;
 
   private long timeoutNanos = TimeUnit.SECONDS.toNanos(DEFAULT_TIMEOUT_SECS);
-  private boolean compressionEnabled = false;
+  @Nullable private Compressor compressor;
+  @Nullable private Integer compressionLevel;
   private boolean exportAsJson = false;
+  private int maxRequestSize = 0;
   @Nullable private Headers.Builder headersBuilder;
   @Nullable private byte[] trustedCertificatesPem;
   @Nullable private byte[] privateKeyPem;
@@ -69,9 +73,12 @@ public final class OkHttpExporterBuilder<T extends Marshaler> {
   }
 
   public OkHttpExporterBuilder<T> setCompression(String compressionMethod) {
-    if (compressionMethod.equals("gzip")) {
-      this.compressionEnabled = true;
-    }
+    this.compressor = CompressorUtil.validateAndResolveCompressor(compressionMethod);
+    return this;
+  }
+
+  public OkHttpExporterBuilder<T> setCompressionLevel(int compressionLevel) {
+    this.compressionLevel = compressionLevel;
     return this;
   }
 
@@ -104,12 +111,19 @@ public final class OkHttpExporterBuilder<T extends Marshaler> {
     return this;
   }
 
+  public OkHttpExporterBuilder<T> setMaxRequestSize(int maxRequestSize) {
+    this.maxRequestSize = maxRequestSize;
+    return this;
+  }
+
   public OkHttpExporterBuilder<T> exportAsJson() {
     this.exportAsJson = true;
     return this;
   }
 
   public OkHttpExporter<T> build() {
+    Compressor compressor = CompressorUtil.applyLevel(this.compressor, compressionLevel);
+
     OkHttpClient.Builder clientBuilder =
         new OkHttpClient.Builder()
             .dispatcher(OkHttpUtil.newDispatcher())
@@ -144,7 +158,8 @@ public final class OkHttpExporterBuilder<T extends Marshaler> {
         meterProvider,
         endpoint,
         headers,
-        compressionEnabled,
-        exportAsJson);
+        compressor,
+        exportAsJson,
+        maxRequestSize);
   }
 }
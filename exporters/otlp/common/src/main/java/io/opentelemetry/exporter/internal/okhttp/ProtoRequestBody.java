@@ -42,6 +42,6 @@ final class ProtoRequestBody extends RequestBody {
 
   @Override
   public void writeTo(BufferedSink bufferedSink) throws IOException {
-    marshaler.writeBinaryTo(bufferedSink.outputStream());
+    marshaler.writeBinaryTo(bufferedSink);
   }
 }
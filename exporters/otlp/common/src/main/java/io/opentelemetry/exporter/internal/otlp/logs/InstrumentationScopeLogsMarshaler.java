@@ -5,6 +5,7 @@
 
 package io.opentelemetry.exporter.internal.otlp.logs;
 
+import io.opentelemetry.exporter.internal.ExportRequestSplitter.SplittableScope;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
@@ -14,7 +15,8 @@ import io.opentelemetry.proto.logs.v1.internal.ScopeLogs;
 import java.io.IOException;
 import java.util.List;
 
-final class InstrumentationScopeLogsMarshaler extends MarshalerWithSize {
+final class InstrumentationScopeLogsMarshaler extends MarshalerWithSize
+    implements SplittableScope<InstrumentationScopeLogsMarshaler, Marshaler> {
   private final InstrumentationScopeMarshaller instrumentationScope;
   private final List<Marshaler> logMarshalers;
   private final byte[] schemaUrlUtf8;
@@ -29,6 +31,17 @@ final class InstrumentationScopeLogsMarshaler extends MarshalerWithSize {
     this.logMarshalers = logMarshalers;
   }
 
+  @Override
+  public List<Marshaler> getItems() {
+    return logMarshalers;
+  }
+
+  @Override
+  public InstrumentationScopeLogsMarshaler withItems(List<Marshaler> logMarshalers) {
+    return new InstrumentationScopeLogsMarshaler(
+        instrumentationScope, schemaUrlUtf8, logMarshalers);
+  }
+
   @Override
   public void writeTo(Serializer output) throws IOException {
     output.serializeMessage(ScopeLogs.SCOPE, instrumentationScope);
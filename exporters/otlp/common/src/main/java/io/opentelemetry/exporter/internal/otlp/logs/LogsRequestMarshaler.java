@@ -5,15 +5,22 @@
 
 package io.opentelemetry.exporter.internal.otlp.logs;
 
+import io.opentelemetry.exporter.internal.ExportRequestSplitter;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.SplittableMarshaler;
 import io.opentelemetry.proto.collector.logs.v1.internal.ExportLogsServiceRequest;
+import io.opentelemetry.proto.logs.v1.internal.ResourceLogs;
+import io.opentelemetry.proto.logs.v1.internal.ScopeLogs;
 import io.opentelemetry.sdk.logs.data.LogData;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * {@link Marshaler} to convert SDK {@link LogData} to OTLP ExportLogsServiceRequest.
@@ -21,23 +28,68 @@ import java.util.Collection;
  * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
  * at any time.
  */
-public final class LogsRequestMarshaler extends MarshalerWithSize {
+public final class LogsRequestMarshaler extends MarshalerWithSize
+    implements SplittableMarshaler<LogsRequestMarshaler> {
 
   private final ResourceLogsMarshaler[] resourceLogsMarshalers;
+  private final int logCount;
 
   /**
    * Returns a {@link LogsRequestMarshaler} that can be used to convert the provided {@link
    * SpanData} into a serialized OTLP ExportLogsServiceRequest.
    */
   public static LogsRequestMarshaler create(Collection<LogData> logs) {
-    return new LogsRequestMarshaler(ResourceLogsMarshaler.create(logs));
+    return new LogsRequestMarshaler(ResourceLogsMarshaler.create(logs), logs.size());
   }
 
-  private LogsRequestMarshaler(ResourceLogsMarshaler[] resourceLogsMarshalers) {
+  private LogsRequestMarshaler(ResourceLogsMarshaler[] resourceLogsMarshalers, int logCount) {
     super(
         MarshalerUtil.sizeRepeatedMessage(
             ExportLogsServiceRequest.RESOURCE_LOGS, resourceLogsMarshalers));
     this.resourceLogsMarshalers = resourceLogsMarshalers;
+    this.logCount = logCount;
+  }
+
+  @Override
+  public int getItemCount() {
+    return logCount;
+  }
+
+  @Override
+  public List<LogsRequestMarshaler> split(int maxRequestSize) {
+    List<List<ResourceLogsMarshaler>> groups =
+        ExportRequestSplitter.splitResources(
+            resourceLogsMarshalers,
+            ExportLogsServiceRequest.RESOURCE_LOGS,
+            ResourceLogs.SCOPE_LOGS,
+            ScopeLogs.LOG_RECORDS,
+            maxRequestSize);
+    List<LogsRequestMarshaler> requests = new ArrayList<>(groups.size());
+    for (List<ResourceLogsMarshaler> group : groups) {
+      requests.add(
+          new LogsRequestMarshaler(
+              group.toArray(new ResourceLogsMarshaler[0]),
+              ExportRequestSplitter.countItems(group)));
+    }
+    return requests;
+  }
+
+  @Override
+  public LogsRequestMarshaler mergeWith(List<LogsRequestMarshaler> others) {
+    int length = resourceLogsMarshalers.length;
+    int itemCount = logCount;
+    for (LogsRequestMarshaler other : others) {
+      length += other.resourceLogsMarshalers.length;
+      itemCount += other.logCount;
+    }
+    ResourceLogsMarshaler[] merged = Arrays.copyOf(resourceLogsMarshalers, length);
+    int offset = resourceLogsMarshalers.length;
+    for (LogsRequestMarshaler other : others) {
+      System.arraycopy(
+          other.resourceLogsMarshalers, 0, merged, offset, other.resourceLogsMarshalers.length);
+      offset += other.resourceLogsMarshalers.length;
+    }
+    return new LogsRequestMarshaler(merged, itemCount);
   }
 
   @Override
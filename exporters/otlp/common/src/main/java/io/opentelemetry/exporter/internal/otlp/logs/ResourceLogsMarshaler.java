@@ -5,6 +5,7 @@
 
 package io.opentelemetry.exporter.internal.otlp.logs;
 
+import io.opentelemetry.exporter.internal.ExportRequestSplitter.SplittableResource;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
@@ -26,7 +27,8 @@ import java.util.Map;
  * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
  * at any time.
  */
-public final class ResourceLogsMarshaler extends MarshalerWithSize {
+public final class ResourceLogsMarshaler extends MarshalerWithSize
+    implements SplittableResource<ResourceLogsMarshaler, InstrumentationScopeLogsMarshaler> {
   private final ResourceMarshaler resourceMarshaler;
   private final byte[] schemaUrl;
   private final InstrumentationScopeLogsMarshaler[] instrumentationScopeLogsMarshalers;
@@ -72,6 +74,17 @@ public final class ResourceLogsMarshaler extends MarshalerWithSize {
     this.instrumentationScopeLogsMarshalers = instrumentationScopeLogsMarshalers;
   }
 
+  @Override
+  public InstrumentationScopeLogsMarshaler[] getScopes() {
+    return instrumentationScopeLogsMarshalers;
+  }
+
+  @Override
+  public ResourceLogsMarshaler withScopes(List<InstrumentationScopeLogsMarshaler> scopes) {
+    return new ResourceLogsMarshaler(
+        resourceMarshaler, schemaUrl, scopes.toArray(new InstrumentationScopeLogsMarshaler[0]));
+  }
+
   @Override
   public void writeTo(Serializer output) throws IOException {
     output.serializeMessage(ResourceLogs.RESOURCE, resourceMarshaler);
@@ -5,6 +5,7 @@
 
 package io.opentelemetry.exporter.internal.otlp.metrics;
 
+import io.opentelemetry.exporter.internal.ExportRequestSplitter.SplittableScope;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
@@ -14,7 +15,8 @@ import io.opentelemetry.proto.metrics.v1.internal.ScopeMetrics;
 import java.io.IOException;
 import java.util.List;
 
-final class InstrumentationScopeMetricsMarshaler extends MarshalerWithSize {
+final class InstrumentationScopeMetricsMarshaler extends MarshalerWithSize
+    implements SplittableScope<InstrumentationScopeMetricsMarshaler, Marshaler> {
   private final InstrumentationScopeMarshaller instrumentationScope;
   private final List<Marshaler> metricMarshalers;
   private final byte[] schemaUrlUtf8;
@@ -29,6 +31,17 @@ final class InstrumentationScopeMetricsMarshaler extends MarshalerWithSize {
     this.metricMarshalers = metricMarshalers;
   }
 
+  @Override
+  public List<Marshaler> getItems() {
+    return metricMarshalers;
+  }
+
+  @Override
+  public InstrumentationScopeMetricsMarshaler withItems(List<Marshaler> metricMarshalers) {
+    return new InstrumentationScopeMetricsMarshaler(
+        instrumentationScope, schemaUrlUtf8, metricMarshalers);
+  }
+
   @Override
   public void writeTo(Serializer output) throws IOException {
     output.serializeMessage(ScopeMetrics.SCOPE, instrumentationScope);
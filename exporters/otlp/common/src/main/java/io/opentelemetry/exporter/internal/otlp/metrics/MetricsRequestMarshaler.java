@@ -5,14 +5,21 @@
 
 package io.opentelemetry.exporter.internal.otlp.metrics;
 
+import io.opentelemetry.exporter.internal.ExportRequestSplitter;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.SplittableMarshaler;
 import io.opentelemetry.proto.collector.metrics.v1.internal.ExportMetricsServiceRequest;
+import io.opentelemetry.proto.metrics.v1.internal.ResourceMetrics;
+import io.opentelemetry.proto.metrics.v1.internal.ScopeMetrics;
 import io.opentelemetry.sdk.metrics.data.MetricData;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * {@link Marshaler} to convert SDK {@link MetricData} to OTLP ExportMetricsServiceRequest.
@@ -20,21 +27,72 @@ import java.util.Collection;
  * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
  * at any time.
  */
-public final class MetricsRequestMarshaler extends MarshalerWithSize {
+public final class MetricsRequestMarshaler extends MarshalerWithSize
+    implements SplittableMarshaler<MetricsRequestMarshaler> {
 
   private final ResourceMetricsMarshaler[] resourceMetricsMarshalers;
+  private final int metricCount;
 
   /**
    * Returns a {@link MetricsRequestMarshaler} that can be used to convert the provided {@link
    * MetricData} into a serialized OTLP ExportMetricsServiceRequest.
    */
   public static MetricsRequestMarshaler create(Collection<MetricData> metricDataList) {
-    return new MetricsRequestMarshaler(ResourceMetricsMarshaler.create(metricDataList));
+    return new MetricsRequestMarshaler(
+        ResourceMetricsMarshaler.create(metricDataList), metricDataList.size());
   }
 
-  private MetricsRequestMarshaler(ResourceMetricsMarshaler[] resourceMetricsMarshalers) {
+  private MetricsRequestMarshaler(
+      ResourceMetricsMarshaler[] resourceMetricsMarshalers, int metricCount) {
     super(calculateSize(resourceMetricsMarshalers));
     this.resourceMetricsMarshalers = resourceMetricsMarshalers;
+    this.metricCount = metricCount;
+  }
+
+  @Override
+  public int getItemCount() {
+    return metricCount;
+  }
+
+  @Override
+  public List<MetricsRequestMarshaler> split(int maxRequestSize) {
+    List<List<ResourceMetricsMarshaler>> groups =
+        ExportRequestSplitter.splitResources(
+            resourceMetricsMarshalers,
+            ExportMetricsServiceRequest.RESOURCE_METRICS,
+            ResourceMetrics.SCOPE_METRICS,
+            ScopeMetrics.METRICS,
+            maxRequestSize);
+    List<MetricsRequestMarshaler> requests = new ArrayList<>(groups.size());
+    for (List<ResourceMetricsMarshaler> group : groups) {
+      requests.add(
+          new MetricsRequestMarshaler(
+              group.toArray(new ResourceMetricsMarshaler[0]),
+              ExportRequestSplitter.countItems(group)));
+    }
+    return requests;
+  }
+
+  @Override
+  public MetricsRequestMarshaler mergeWith(List<MetricsRequestMarshaler> others) {
+    int length = resourceMetricsMarshalers.length;
+    int itemCount = metricCount;
+    for (MetricsRequestMarshaler other : others) {
+      length += other.resourceMetricsMarshalers.length;
+      itemCount += other.metricCount;
+    }
+    ResourceMetricsMarshaler[] merged = Arrays.copyOf(resourceMetricsMarshalers, length);
+    int offset = resourceMetricsMarshalers.length;
+    for (MetricsRequestMarshaler other : others) {
+      System.arraycopy(
+          other.resourceMetricsMarshalers,
+          0,
+          merged,
+          offset,
+          other.resourceMetricsMarshalers.length);
+      offset += other.resourceMetricsMarshalers.length;
+    }
+    return new MetricsRequestMarshaler(merged, itemCount);
   }
 
   @Override
@@ -5,6 +5,7 @@
 
 package io.opentelemetry.exporter.internal.otlp.metrics;
 
+import io.opentelemetry.exporter.internal.ExportRequestSplitter.SplittableResource;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
@@ -26,7 +27,8 @@ import java.util.Map;
  * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
  * at any time.
  */
-public final class ResourceMetricsMarshaler extends MarshalerWithSize {
+public final class ResourceMetricsMarshaler extends MarshalerWithSize
+    implements SplittableResource<ResourceMetricsMarshaler, InstrumentationScopeMetricsMarshaler> {
   private final ResourceMarshaler resourceMarshaler;
   private final byte[] schemaUrl;
   private final InstrumentationScopeMetricsMarshaler[] instrumentationScopeMetricsMarshalers;
@@ -72,6 +74,17 @@ public final class ResourceMetricsMarshaler extends MarshalerWithSize {
     this.instrumentationScopeMetricsMarshalers = instrumentationScopeMetricsMarshalers;
   }
 
+  @Override
+  public InstrumentationScopeMetricsMarshaler[] getScopes() {
+    return instrumentationScopeMetricsMarshalers;
+  }
+
+  @Override
+  public ResourceMetricsMarshaler withScopes(List<InstrumentationScopeMetricsMarshaler> scopes) {
+    return new ResourceMetricsMarshaler(
+        resourceMarshaler, schemaUrl, scopes.toArray(new InstrumentationScopeMetricsMarshaler[0]));
+  }
+
   @Override
   public void writeTo(Serializer output) throws IOException {
     output.serializeMessage(ResourceMetrics.RESOURCE, resourceMarshaler);
@@ -5,6 +5,7 @@
 
 package io.opentelemetry.exporter.internal.otlp.traces;
 
+import io.opentelemetry.exporter.internal.ExportRequestSplitter.SplittableScope;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
@@ -13,7 +14,8 @@ import io.opentelemetry.proto.trace.v1.internal.ScopeSpans;
 import java.io.IOException;
 import java.util.List;
 
-final class InstrumentationScopeSpansMarshaler extends MarshalerWithSize {
+final class InstrumentationScopeSpansMarshaler extends MarshalerWithSize
+    implements SplittableScope<InstrumentationScopeSpansMarshaler, SpanMarshaler> {
   private final InstrumentationScopeMarshaller instrumentationScope;
   private final List<SpanMarshaler> spanMarshalers;
   private final byte[] schemaUrlUtf8;
@@ -28,6 +30,17 @@ final class InstrumentationScopeSpansMarshaler extends MarshalerWithSize {
     this.spanMarshalers = spanMarshalers;
   }
 
+  @Override
+  public List<SpanMarshaler> getItems() {
+    return spanMarshalers;
+  }
+
+  @Override
+  public InstrumentationScopeSpansMarshaler withItems(List<SpanMarshaler> spanMarshalers) {
+    return new InstrumentationScopeSpansMarshaler(
+        instrumentationScope, schemaUrlUtf8, spanMarshalers);
+  }
+
   @Override
   public void writeTo(Serializer output) throws IOException {
     output.serializeMessage(ScopeSpans.SCOPE, instrumentationScope);
@@ -5,6 +5,7 @@
 
 package io.opentelemetry.exporter.internal.otlp.traces;
 
+import io.opentelemetry.exporter.internal.ExportRequestSplitter.SplittableResource;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
@@ -25,7 +26,8 @@ import java.util.Map;
  * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
  * at any time.
  */
-public final class ResourceSpansMarshaler extends MarshalerWithSize {
+public final class ResourceSpansMarshaler extends MarshalerWithSize
+    implements SplittableResource<ResourceSpansMarshaler, InstrumentationScopeSpansMarshaler> {
   private final ResourceMarshaler resourceMarshaler;
   private final byte[] schemaUrlUtf8;
   private final InstrumentationScopeSpansMarshaler[] instrumentationScopeSpansMarshalers;
@@ -70,6 +72,19 @@ public final class ResourceSpansMarshaler extends MarshalerWithSize {
     this.instrumentationScopeSpansMarshalers = instrumentationScopeSpansMarshalers;
   }
 
+  @Override
+  public InstrumentationScopeSpansMarshaler[] getScopes() {
+    return instrumentationScopeSpansMarshalers;
+  }
+
+  @Override
+  public ResourceSpansMarshaler withScopes(List<InstrumentationScopeSpansMarshaler> scopes) {
+    return new ResourceSpansMarshaler(
+        resourceMarshaler,
+        schemaUrlUtf8,
+        scopes.toArray(new InstrumentationScopeSpansMarshaler[0]));
+  }
+
   @Override
   public void writeTo(Serializer output) throws IOException {
     output.serializeMessage(ResourceSpans.RESOURCE, resourceMarshaler);
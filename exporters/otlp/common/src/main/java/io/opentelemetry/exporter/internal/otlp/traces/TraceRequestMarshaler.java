@@ -5,14 +5,21 @@
 
 package io.opentelemetry.exporter.internal.otlp.traces;
 
+import io.opentelemetry.exporter.internal.ExportRequestSplitter;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.SplittableMarshaler;
 import io.opentelemetry.proto.collector.trace.v1.internal.ExportTraceServiceRequest;
+import io.opentelemetry.proto.trace.v1.internal.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.internal.ScopeSpans;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * {@link Marshaler} to convert SDK {@link SpanData} to OTLP ExportTraceServiceRequest.
@@ -20,23 +27,69 @@ import java.util.Collection;
  * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
  * at any time.
  */
-public final class TraceRequestMarshaler extends MarshalerWithSize {
+public final class TraceRequestMarshaler extends MarshalerWithSize
+    implements SplittableMarshaler<TraceRequestMarshaler> {
 
   private final ResourceSpansMarshaler[] resourceSpansMarshalers;
+  private final int spanCount;
 
   /**
    * Returns a {@link TraceRequestMarshaler} that can be used to convert the provided {@link
    * SpanData} into a serialized OTLP ExportTraceServiceRequest.
    */
   public static TraceRequestMarshaler create(Collection<SpanData> spanDataList) {
-    return new TraceRequestMarshaler(ResourceSpansMarshaler.create(spanDataList));
+    return new TraceRequestMarshaler(
+        ResourceSpansMarshaler.create(spanDataList), spanDataList.size());
   }
 
-  private TraceRequestMarshaler(ResourceSpansMarshaler[] resourceSpansMarshalers) {
+  private TraceRequestMarshaler(ResourceSpansMarshaler[] resourceSpansMarshalers, int spanCount) {
     super(
         MarshalerUtil.sizeRepeatedMessage(
             ExportTraceServiceRequest.RESOURCE_SPANS, resourceSpansMarshalers));
     this.resourceSpansMarshalers = resourceSpansMarshalers;
+    this.spanCount = spanCount;
+  }
+
+  @Override
+  public int getItemCount() {
+    return spanCount;
+  }
+
+  @Override
+  public List<TraceRequestMarshaler> split(int maxRequestSize) {
+    List<List<ResourceSpansMarshaler>> groups =
+        ExportRequestSplitter.splitResources(
+            resourceSpansMarshalers,
+            ExportTraceServiceRequest.RESOURCE_SPANS,
+            ResourceSpans.SCOPE_SPANS,
+            ScopeSpans.SPANS,
+            maxRequestSize);
+    List<TraceRequestMarshaler> requests = new ArrayList<>(groups.size());
+    for (List<ResourceSpansMarshaler> group : groups) {
+      requests.add(
+          new TraceRequestMarshaler(
+              group.toArray(new ResourceSpansMarshaler[0]),
+              ExportRequestSplitter.countItems(group)));
+    }
+    return requests;
+  }
+
+  @Override
+  public TraceRequestMarshaler mergeWith(List<TraceRequestMarshaler> others) {
+    int length = resourceSpansMarshalers.length;
+    int itemCount = spanCount;
+    for (TraceRequestMarshaler other : others) {
+      length += other.resourceSpansMarshalers.length;
+      itemCount += other.spanCount;
+    }
+    ResourceSpansMarshaler[] merged = Arrays.copyOf(resourceSpansMarshalers, length);
+    int offset = resourceSpansMarshalers.length;
+    for (TraceRequestMarshaler other : others) {
+      System.arraycopy(
+          other.resourceSpansMarshalers, 0, merged, offset, other.resourceSpansMarshalers.length);
+      offset += other.resourceSpansMarshalers.length;
+    }
+    return new TraceRequestMarshaler(merged, itemCount);
   }
 
   @Override
@@ -0,0 +1,211 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.trace.TestSpanData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ExportRequestCoalescerTest {
+
+  private final List<TraceRequestMarshaler> sent = new ArrayList<>();
+  private final List<Integer> sentItems = new ArrayList<>();
+  private final List<CompletableResultCode> results = new ArrayList<>();
+
+  private CompletableResultCode export(TraceRequestMarshaler request, int numItems) {
+    sent.add(request);
+    sentItems.add(numItems);
+    CompletableResultCode result = new CompletableResultCode();
+    results.add(result);
+    return result;
+  }
+
+  @Test
+  void invalidMaxConcurrentExports() {
+    assertThatThrownBy(() -> new ExportRequestCoalescer<>(this::export, 0, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxConcurrentExports must be positive");
+  }
+
+  @Test
+  void coalescesWhileInFlight() {
+    ExportRequestCoalescer<TraceRequestMarshaler> coalescer =
+        new ExportRequestCoalescer<>(this::export, 1, 0);
+
+    CompletableResultCode first = coalescer.export(request(1), 1);
+    CompletableResultCode second = coalescer.export(request(2), 2);
+    CompletableResultCode third = coalescer.export(request(3), 3);
+
+    // Only the first request is in flight, the others wait for it.
+    assertThat(sent).hasSize(1);
+    assertThat(sentItems).containsExactly(1);
+
+    results.get(0).succeed();
+    assertThat(first.isSuccess()).isTrue();
+    assertThat(second.isDone()).isFalse();
+
+    // The queued requests are merged into a single call.
+    assertThat(sent).hasSize(2);
+    assertThat(sentItems).containsExactly(1, 5);
+    assertThat(sent.get(1).getItemCount()).isEqualTo(5);
+    assertThat(sent.get(1).getBinarySerializedSize())
+        .isEqualTo(request(2).getBinarySerializedSize() + request(3).getBinarySerializedSize());
+
+    results.get(1).fail();
+    assertThat(second.isDone()).isTrue();
+    assertThat(second.isSuccess()).isFalse();
+    assertThat(third.isDone()).isTrue();
+    assertThat(third.isSuccess()).isFalse();
+
+    // Nothing is queued, so the next request is sent immediately.
+    coalescer.export(request(1), 1);
+    assertThat(sent).hasSize(3);
+  }
+
+  @Test
+  void respectsMaxRequestSize() {
+    int requestSize = request(1).getBinarySerializedSize();
+    ExportRequestCoalescer<TraceRequestMarshaler> coalescer =
+        new ExportRequestCoalescer<>(this::export, 1, requestSize * 2);
+
+    for (int i = 0; i < 6; i++) {
+      coalescer.export(request(1), 1);
+    }
+    assertThat(sentItems).containsExactly(1);
+
+    results.get(0).succeed();
+    assertThat(sentItems).containsExactly(1, 2);
+    results.get(1).succeed();
+    assertThat(sentItems).containsExactly(1, 2, 2);
+    results.get(2).succeed();
+    assertThat(sentItems).containsExactly(1, 2, 2, 1);
+    results.get(3).succeed();
+    assertThat(sentItems).containsExactly(1, 2, 2, 1);
+  }
+
+  @Test
+  void concurrentCalls() {
+    ExportRequestCoalescer<TraceRequestMarshaler> coalescer =
+        new ExportRequestCoalescer<>(this::export, 2, 0);
+
+    coalescer.export(request(1), 1);
+    coalescer.export(request(1), 1);
+    coalescer.export(request(1), 1);
+    coalescer.export(request(1), 1);
+    assertThat(sentItems).containsExactly(1, 1);
+
+    results.get(1).succeed();
+    assertThat(sentItems).containsExactly(1, 1, 2);
+  }
+
+  @Test
+  void exporterThrows() {
+    AtomicInteger calls = new AtomicInteger();
+    ExportRequestCoalescer<TraceRequestMarshaler> coalescer =
+        new ExportRequestCoalescer<>(
+            (request, numItems) -> {
+              if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("boom");
+              }
+              return export(request, numItems);
+            },
+            1,
+            0);
+
+    CompletableResultCode failed = coalescer.export(request(1), 1);
+    assertThat(failed.isDone()).isTrue();
+    assertThat(failed.isSuccess()).isFalse();
+
+    // The in-flight slot was released, so the next request is sent immediately.
+    coalescer.export(request(1), 1);
+    assertThat(sent).hasSize(1);
+  }
+
+  @Test
+  void synchronousExporter() {
+    ExportRequestCoalescer<TraceRequestMarshaler> coalescer =
+        new ExportRequestCoalescer<>(
+            (request, numItems) -> {
+              sentItems.add(numItems);
+              return CompletableResultCode.ofSuccess();
+            },
+            1,
+            0);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(coalescer.export(request(1), 1).isSuccess()).isTrue();
+    }
+    assertThat(sentItems).containsExactly(1, 1, 1);
+  }
+
+  @Test
+  void maxPendingRequests() {
+    ExportRequestCoalescer<TraceRequestMarshaler> coalescer =
+        new ExportRequestCoalescer<>(this::export, 1, 0, 2);
+
+    coalescer.export(request(1), 1);
+    CompletableResultCode queued1 = coalescer.export(request(1), 1);
+    CompletableResultCode queued2 = coalescer.export(request(1), 1);
+    CompletableResultCode dropped = coalescer.export(request(1), 1);
+    assertThat(queued1.isDone()).isFalse();
+    assertThat(queued2.isDone()).isFalse();
+    assertThat(dropped.isDone()).isTrue();
+    assertThat(dropped.isSuccess()).isFalse();
+
+    results.get(0).succeed();
+    assertThat(sentItems).containsExactly(1, 2);
+  }
+
+  @Test
+  void shutdown() {
+    ExportRequestCoalescer<TraceRequestMarshaler> coalescer =
+        new ExportRequestCoalescer<>(this::export, 1, 0);
+
+    CompletableResultCode inFlight = coalescer.export(request(1), 1);
+    CompletableResultCode queued = coalescer.export(request(1), 1);
+    assertThat(coalescer.shutdown().isSuccess()).isTrue();
+    assertThat(queued.isDone()).isTrue();
+    assertThat(queued.isSuccess()).isFalse();
+    assertThat(coalescer.export(request(1), 1).isSuccess()).isFalse();
+
+    // The in-flight call still completes normally.
+    results.get(0).succeed();
+    assertThat(inFlight.isSuccess()).isTrue();
+    assertThat(sent).hasSize(1);
+  }
+
+  private static TraceRequestMarshaler request(int numSpans) {
+    List<SpanData> spans = new ArrayList<>();
+    for (int i = 0; i < numSpans; i++) {
+      spans.add(
+          TestSpanData.builder()
+              .setHasEnded(true)
+              .setSpanContext(SpanContext.getInvalid())
+              .setName("span")
+              .setKind(SpanKind.INTERNAL)
+              .setStartEpochNanos(1)
+              .setEndEpochNanos(2)
+              .setStatus(StatusData.unset())
+              .setInstrumentationScopeInfo(InstrumentationScopeInfo.create("test"))
+              .setResource(Resource.empty())
+              .build());
+    }
+    return TraceRequestMarshaler.create(spans);
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.OutputStream;
+import org.junit.jupiter.api.Test;
+
+class CompressorUtilTest {
+
+  @Test
+  void validateAndResolveCompressor() {
+    assertThat(CompressorUtil.validateAndResolveCompressor("none")).isNull();
+    assertThat(CompressorUtil.validateAndResolveCompressor("gzip"))
+        .isSameAs(GzipCompressor.getInstance());
+    assertThat(CompressorUtil.getCompressors()).containsOnlyKeys("gzip");
+  }
+
+  @Test
+  void validateAndResolveCompressor_Invalid() {
+    assertThatThrownBy(() -> CompressorUtil.validateAndResolveCompressor("foo"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Unsupported compression method. Supported compression methods include: gzip, none.");
+  }
+
+  @Test
+  void applyLevel() {
+    assertThat(CompressorUtil.applyLevel(null, 1)).isNull();
+    assertThat(CompressorUtil.applyLevel(GzipCompressor.getInstance(), null))
+        .isSameAs(GzipCompressor.getInstance());
+    assertThat(CompressorUtil.applyLevel(GzipCompressor.getInstance(), 1))
+        .isInstanceOfSatisfying(
+            GzipCompressor.class, compressor -> assertThat(compressor.getLevel()).isEqualTo(1));
+    assertThat(CompressorUtil.applyLevel(GzipCompressor.getInstance(), -1))
+        .isSameAs(GzipCompressor.getInstance());
+    assertThatThrownBy(() -> CompressorUtil.applyLevel(GzipCompressor.getInstance(), 10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid gzip compression level: 10");
+  }
+
+  @Test
+  void applyLevel_Unsupported() {
+    Compressor compressor =
+        new Compressor() {
+          @Override
+          public String getEncoding() {
+            return "zstd";
+          }
+
+          @Override
+          public OutputStream compress(OutputStream outputStream) {
+            return outputStream;
+          }
+        };
+    assertThatThrownBy(() -> CompressorUtil.applyLevel(compressor, 1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Compression method does not support compression levels: zstd");
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class GzipCompressorTest {
+
+  private static final byte[] PAYLOAD = payload();
+
+  @ParameterizedTest
+  @ValueSource(ints = {Deflater.DEFAULT_COMPRESSION, 1, 5, 9})
+  void roundTrip(int level) throws IOException {
+    GzipCompressor compressor = GzipCompressor.create(level);
+    assertThat(compressor.getEncoding()).isEqualTo("gzip");
+    assertThat(compressor.getLevel()).isEqualTo(level);
+
+    // Compress multiple times to exercise reuse of pooled deflaters.
+    for (int i = 0; i < 3; i++) {
+      byte[] compressed = compress(compressor, PAYLOAD);
+      assertThat(compressed.length).isLessThan(PAYLOAD.length);
+      assertThat(decompress(compressed)).isEqualTo(PAYLOAD);
+    }
+  }
+
+  @Test
+  void emptyPayload() throws IOException {
+    byte[] compressed = compress(GzipCompressor.getInstance(), new byte[0]);
+    assertThat(decompress(compressed)).isEmpty();
+  }
+
+  @Test
+  void doesNotCloseUnderlyingStream() throws IOException {
+    ByteArrayOutputStream baos =
+        new ByteArrayOutputStream() {
+          @Override
+          public void close() {
+            throw new AssertionError("Underlying stream must not be closed");
+          }
+        };
+    OutputStream compressed = GzipCompressor.getInstance().compress(baos);
+    compressed.write(PAYLOAD);
+    compressed.close();
+    // Closing twice is a no-op.
+    compressed.close();
+    assertThat(decompress(baos.toByteArray())).isEqualTo(PAYLOAD);
+  }
+
+  @Test
+  void invalidLevel() {
+    assertThatThrownBy(() -> GzipCompressor.create(10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid gzip compression level: 10");
+    assertThatThrownBy(() -> GzipCompressor.create(-2))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid gzip compression level: -2");
+  }
+
+  private static byte[] compress(Compressor compressor, byte[] payload) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (OutputStream os = compressor.compress(baos)) {
+      // Write in two chunks plus a single byte to exercise each write path.
+      os.write(payload, 0, payload.length / 2);
+      os.write(payload, payload.length / 2, payload.length - payload.length / 2 - 1);
+      if (payload.length > 0) {
+        os.write(payload[payload.length - 1]);
+      }
+    }
+    return baos.toByteArray();
+  }
+
+  private static byte[] decompress(byte[] compressed) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (InputStream is = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      byte[] buf = new byte[1024];
+      int read;
+      while ((read = is.read(buf)) != -1) {
+        baos.write(buf, 0, read);
+      }
+    }
+    return baos.toByteArray();
+  }
+
+  private static byte[] payload() {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      sb.append("span-").append(i).append(" GET /api/endpoint key_string=string;");
+    }
+    return sb.toString().getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import io.opentelemetry.exporter.internal.compression.GzipCompressor;
+import java.io.OutputStream;
+import org.junit.jupiter.api.Test;
+
+class GrpcExporterBuilderTest {
+
+  @Test
+  void upstreamMessageEncoding() {
+    assertThat(GrpcExporterBuilder.upstreamMessageEncoding(null)).isEqualTo("identity");
+    assertThat(GrpcExporterBuilder.upstreamMessageEncoding(GzipCompressor.getInstance()))
+        .isEqualTo("gzip");
+  }
+
+  @Test
+  void upstreamMessageEncoding_NotGzip() {
+    Compressor compressor =
+        new Compressor() {
+          @Override
+          public String getEncoding() {
+            return "zstd";
+          }
+
+          @Override
+          public OutputStream compress(OutputStream outputStream) {
+            return outputStream;
+          }
+        };
+    assertThatThrownBy(() -> GrpcExporterBuilder.upstreamMessageEncoding(compressor))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("zstd");
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.trace.TestSpanData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+
+class MarshalerInputStreamTest {
+
+  // Large enough to span several Okio segments.
+  private static final Marshaler MARSHALER = TraceRequestMarshaler.create(spans(500));
+
+  @Test
+  void writeBinaryToSink_matchesOutputStream() throws IOException {
+    byte[] expected = toByteArray(MARSHALER);
+    assertThat(expected).hasSize(MARSHALER.getBinarySerializedSize());
+
+    Buffer buffer = new Buffer();
+    buffer.writeUtf8("prefix");
+    MARSHALER.writeBinaryTo(buffer);
+
+    assertThat(buffer.readUtf8(6)).isEqualTo("prefix");
+    assertThat(buffer.readByteArray()).isEqualTo(expected);
+  }
+
+  @Test
+  void drainTo() throws IOException {
+    MarshalerInputStream stream = new MarshalerInputStream(MARSHALER);
+    assertThat(stream.available()).isEqualTo(MARSHALER.getBinarySerializedSize());
+
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    assertThat(stream.drainTo(bos)).isEqualTo(MARSHALER.getBinarySerializedSize());
+    assertThat(bos.toByteArray()).isEqualTo(toByteArray(MARSHALER));
+    assertThat(stream.available()).isZero();
+    assertThat(stream.read()).isEqualTo(-1);
+  }
+
+  @Test
+  void read() throws IOException {
+    MarshalerInputStream stream = new MarshalerInputStream(MARSHALER);
+
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    bos.write(stream.read());
+    byte[] chunk = new byte[1000];
+    int read;
+    while ((read = stream.read(chunk, 0, chunk.length)) != -1) {
+      bos.write(chunk, 0, read);
+    }
+
+    assertThat(bos.toByteArray()).isEqualTo(toByteArray(MARSHALER));
+    assertThat(stream.available()).isZero();
+  }
+
+  private static byte[] toByteArray(Marshaler marshaler) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    marshaler.writeBinaryTo(bos);
+    return bos.toByteArray();
+  }
+
+  private static List<SpanData> spans(int count) {
+    List<SpanData> spans = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      spans.add(
+          TestSpanData.builder()
+              .setHasEnded(true)
+              .setSpanContext(
+                  SpanContext.create(
+                      "0000000000000000000000000000000" + (i % 9 + 1),
+                      "000000000000000" + (i % 9 + 1),
+                      TraceFlags.getSampled(),
+                      TraceState.getDefault()))
+              .setName("span" + i)
+              .setKind(SpanKind.SERVER)
+              .setStartEpochNanos(12345)
+              .setEndEpochNanos(12349)
+              .setStatus(StatusData.unset())
+              .setInstrumentationScopeInfo(InstrumentationScopeInfo.create("testLib"))
+              .setResource(Resource.empty())
+              .build());
+    }
+    return spans;
+  }
+}
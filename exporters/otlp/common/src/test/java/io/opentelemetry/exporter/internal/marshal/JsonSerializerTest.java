@@ -0,0 +1,147 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class JsonSerializerTest {
+
+  private static final ProtoFieldInfo FIELD = ProtoFieldInfo.create(1, 10, "field");
+  private static final ProtoFieldInfo OTHER = ProtoFieldInfo.create(2, 18, "other");
+
+  @Test
+  void strings() throws IOException {
+    assertThat(toJson(s -> s.serializeString(FIELD, utf8("plain"))))
+        .isEqualTo("{\"field\":\"plain\"}");
+    assertThat(toJson(s -> s.serializeString(FIELD, utf8("q\"b\\s/"))))
+        .isEqualTo("{\"field\":\"q\\\"b\\\\s/\"}");
+    assertThat(toJson(s -> s.serializeString(FIELD, utf8("\b\t\n\f\r\u0000\u001f"))))
+        .isEqualTo("{\"field\":\"\\b\\t\\n\\f\\r\\u0000\\u001F\"}");
+    assertThat(toJson(s -> s.serializeString(FIELD, utf8("\u00fcn\u00ef\ud83d\ude00"))))
+        .isEqualTo("{\"field\":\"\u00fcn\u00ef\ud83d\ude00\"}");
+  }
+
+  @Test
+  void numbers() throws IOException {
+    assertThat(
+            toJson(
+                s -> {
+                  s.serializeInt32(FIELD, -42);
+                  s.serializeInt64(OTHER, Long.MIN_VALUE);
+                }))
+        .isEqualTo("{\"field\":-42,\"other\":\"-9223372036854775808\"}");
+    assertThat(toJson(s -> s.serializeFixed64(FIELD, Long.MAX_VALUE)))
+        .isEqualTo("{\"field\":\"9223372036854775807\"}");
+    assertThat(toJson(s -> s.serializeFixed64(FIELD, 1000000000000000000L)))
+        .isEqualTo("{\"field\":\"1000000000000000000\"}");
+    assertThat(toJson(s -> s.serializeUInt32(FIELD, 10))).isEqualTo("{\"field\":10}");
+    assertThat(toJson(s -> s.serializeDouble(FIELD, 1.5))).isEqualTo("{\"field\":1.5}");
+    assertThat(toJson(s -> s.serializeDouble(FIELD, Double.NaN)))
+        .isEqualTo("{\"field\":\"NaN\"}");
+    assertThat(toJson(s -> s.serializeDouble(FIELD, Double.NEGATIVE_INFINITY)))
+        .isEqualTo("{\"field\":\"-Infinity\"}");
+  }
+
+  @Test
+  void bytes() throws IOException {
+    for (int length = 1; length <= 5; length++) {
+      byte[] value = new byte[length];
+      Arrays.fill(value, (byte) 0xFB);
+      assertThat(toJson(s -> s.serializeBytes(FIELD, value)))
+          .isEqualTo("{\"field\":\"" + Base64.getEncoder().encodeToString(value) + "\"}");
+    }
+  }
+
+  @Test
+  void nested() throws IOException {
+    Marshaler inner = marshaler(s -> s.serializeBool(FIELD, true));
+    assertThat(
+            toJson(
+                s -> {
+                  s.serializeMessage(FIELD, inner);
+                  s.serializeRepeatedMessage(OTHER, new Marshaler[] {inner, inner});
+                  s.serializeRepeatedDouble(
+                      ProtoFieldInfo.create(3, 26, "doubles"), Arrays.asList(1.0, 2.0));
+                  s.serializeRepeatedMessage(
+                      ProtoFieldInfo.create(4, 34, "empty"), Collections.emptyList());
+                }))
+        .isEqualTo(
+            "{\"field\":{\"field\":true},\"other\":[{\"field\":true},{\"field\":true}],"
+                + "\"doubles\":[1.0,2.0],\"empty\":[]}");
+  }
+
+  @Test
+  void preserialized() throws IOException {
+    Marshaler fields =
+        marshaler(
+            s -> {
+              s.serializeString(FIELD, utf8("a"));
+              s.serializeInt32(OTHER, 1);
+            });
+    String json = MarshalerUtil.preserializeJsonFields(fields);
+    assertThat(json).isEqualTo("\"field\":\"a\",\"other\":1");
+    assertThat(MarshalerUtil.preserializeJsonFields(marshaler(s -> {}))).isEmpty();
+
+    assertThat(
+            toJson(
+                s -> {
+                  s.writeSerializedMessage(new byte[0], "");
+                  s.serializeBool(FIELD, true);
+                  s.writeSerializedMessage(new byte[0], json);
+                }))
+        .isEqualTo("{\"field\":true,\"field\":\"a\",\"other\":1}");
+  }
+
+  @Test
+  void largerThanBuffer() throws IOException {
+    char[] chars = new char[10000];
+    Arrays.fill(chars, 'x');
+    String value = new String(chars);
+    assertThat(
+            toJson(
+                s -> {
+                  s.serializeString(FIELD, utf8(value));
+                  s.serializeString(OTHER, utf8(value));
+                }))
+        .isEqualTo("{\"field\":\"" + value + "\",\"other\":\"" + value + "\"}");
+  }
+
+  private interface Fields {
+    void writeTo(Serializer serializer) throws IOException;
+  }
+
+  private static Marshaler marshaler(Fields fields) {
+    return new Marshaler() {
+      @Override
+      public int getBinarySerializedSize() {
+        return 0;
+      }
+
+      @Override
+      protected void writeTo(Serializer output) throws IOException {
+        fields.writeTo(output);
+      }
+    };
+  }
+
+  private static String toJson(Fields fields) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    marshaler(fields).writeJsonTo(bos);
+    return new String(bos.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  private static byte[] utf8(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -27,6 +27,7 @@ import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceId;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
 import io.opentelemetry.proto.common.v1.AnyValue;
 import io.opentelemetry.proto.common.v1.ArrayValue;
 import io.opentelemetry.proto.common.v1.InstrumentationScope;
@@ -40,13 +41,16 @@ import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.testing.trace.TestSpanData;
 import io.opentelemetry.sdk.trace.data.EventData;
 import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.data.StatusData;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 import org.junit.jupiter.api.Test;
 
@@ -327,6 +331,48 @@ class TraceRequestMarshalerTest {
                 .build());
   }
 
+  @Test
+  void splitRespectsMaxRequestSize() throws InvalidProtocolBufferException {
+    List<SpanData> spans = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      spans.add(
+          TestSpanData.builder()
+              .setHasEnded(true)
+              .setSpanContext(SPAN_CONTEXT)
+              .setParentSpanContext(SpanContext.getInvalid())
+              .setName("span" + i)
+              .setKind(SpanKind.SERVER)
+              .setStartEpochNanos(12345)
+              .setEndEpochNanos(12349)
+              .setStatus(StatusData.unset())
+              .setInstrumentationScopeInfo(
+                  InstrumentationScopeInfo.create("testLib" + (i % 3), "1.0", null))
+              .setResource(Resource.builder().put("one", i % 2).build())
+              .build());
+    }
+    TraceRequestMarshaler request = TraceRequestMarshaler.create(spans);
+    assertThat(request.getItemCount()).isEqualTo(100);
+
+    int maxRequestSize = request.getBinarySerializedSize() / 5;
+    List<TraceRequestMarshaler> split = request.split(maxRequestSize);
+
+    assertThat(split).hasSizeGreaterThan(1);
+    int totalSpans = 0;
+    for (TraceRequestMarshaler part : split) {
+      assertThat(part.getBinarySerializedSize()).isLessThanOrEqualTo(maxRequestSize);
+      ExportTraceServiceRequest parsed = ExportTraceServiceRequest.parseFrom(toByteArray(part));
+      int parsedSpans = 0;
+      for (ResourceSpans resourceSpans : parsed.getResourceSpansList()) {
+        for (ScopeSpans scopeSpans : resourceSpans.getScopeSpansList()) {
+          parsedSpans += scopeSpans.getSpansCount();
+        }
+      }
+      assertThat(part.getItemCount()).isEqualTo(parsedSpans);
+      totalSpans += parsedSpans;
+    }
+    assertThat(totalSpans).isEqualTo(100);
+  }
+
   @SuppressWarnings("unchecked")
   private static <T extends Message> T parse(T prototype, Marshaler marshaler) {
     byte[] serialized = toByteArray(marshaler);
@@ -57,17 +57,39 @@ public final class OtlpHttpLogExporterBuilder {
 
   /**
    * Sets the method used to compress payloads. If unset, compression is disabled. Currently
-   * supported compression methods include "gzip" and "none".
+   * supported compression methods include "gzip" and "none", as well as any additional methods
+   * provided by compressor plugins found on the classpath.
    */
   public OtlpHttpLogExporterBuilder setCompression(String compressionMethod) {
     requireNonNull(compressionMethod, "compressionMethod");
-    checkArgument(
-        compressionMethod.equals("gzip") || compressionMethod.equals("none"),
-        "Unsupported compression method. Supported compression methods include: gzip, none.");
     delegate.setCompression(compressionMethod);
     return this;
   }
 
+  /**
+   * Sets the level at which payloads are compressed, whose meaning is specific to the compression
+   * method set with {@link #setCompression(String)}. For "gzip", it is between {@code 1} (fastest)
+   * and {@code 9} (smallest), or {@code -1} for the default of {@code 6}. If unset, the default
+   * level of the compression method is used. Ignored if compression is disabled.
+   */
+  public OtlpHttpLogExporterBuilder setCompressionLevel(int compressionLevel) {
+    delegate.setCompressionLevel(compressionLevel);
+    return this;
+  }
+
+  /**
+   * Sets the maximum serialized size in bytes of a single export request. Batches of logs which
+   * would exceed it are split into multiple requests, keeping logs grouped by resource and
+   * instrumentation scope, which are sent concurrently. The export only succeeds if all requests
+   * succeed. A log which alone exceeds the limit is sent in a request of its own. If unset or
+   * {@code 0}, requests are not split.
+   */
+  public OtlpHttpLogExporterBuilder setMaxRequestSize(int maxRequestSize) {
+    checkArgument(maxRequestSize >= 0, "maxRequestSize must be non-negative");
+    delegate.setMaxRequestSize(maxRequestSize);
+    return this;
+  }
+
   /** Add header to requests. */
   public OtlpHttpLogExporterBuilder addHeader(String key, String value) {
     delegate.addHeader(key, value);
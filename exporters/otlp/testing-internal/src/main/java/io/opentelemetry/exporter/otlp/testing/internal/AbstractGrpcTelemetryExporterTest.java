@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Named.named;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import com.google.protobuf.Descriptors.FieldDescriptor;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
 import com.linecorp.armeria.common.HttpRequest;
@@ -42,6 +43,7 @@ import java.nio.file.Files;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -73,6 +75,9 @@ import org.slf4j.event.LoggingEvent;
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public abstract class AbstractGrpcTelemetryExporterTest<T, U extends Message> {
 
+  // Like the collector's gRPC max receive message size, requests larger than this are rejected.
+  private static final int MAX_SERVER_REQUEST_SIZE = 16 * 1024;
+
   private static final ConcurrentLinkedQueue<Object> exportedResourceTelemetry =
       new ConcurrentLinkedQueue<>();
 
@@ -144,6 +149,9 @@ public abstract class AbstractGrpcTelemetryExporterTest<T, U extends Message> {
     protected CompletionStage<byte[]> handleMessage(ServiceRequestContext ctx, byte[] message) {
       httpRequests.add(ctx.request());
       attempts.incrementAndGet();
+      if (message.length > MAX_SERVER_REQUEST_SIZE) {
+        throw new ArmeriaStatusException(8, "message larger than max");
+      }
       T request;
       try {
         request = parse.extractThrows(message);
@@ -229,6 +237,61 @@ public abstract class AbstractGrpcTelemetryExporterTest<T, U extends Message> {
     assertThat(exportedResourceTelemetry).containsExactlyElementsOf(expectedResourceTelemetry);
   }
 
+  @Test
+  @SuppressLogger(OkHttpGrpcExporter.class)
+  @SuppressLogger(UpstreamGrpcExporter.class)
+  void exceedsServerMaxRequestSize() {
+    List<T> telemetry = generateTelemetryLargerThan(2 * MAX_SERVER_REQUEST_SIZE);
+    assertThat(exporter.export(telemetry).join(10, TimeUnit.SECONDS).isSuccess()).isFalse();
+    assertThat(exportedResourceTelemetry).isEmpty();
+  }
+
+  @Test
+  void maxRequestSize() {
+    List<T> telemetry = generateTelemetryLargerThan(2 * MAX_SERVER_REQUEST_SIZE);
+    TelemetryExporter<T> exporter =
+        exporterBuilder()
+            .setEndpoint(server.httpUri().toString())
+            .setMaxRequestSize(MAX_SERVER_REQUEST_SIZE)
+            .build();
+    try {
+      assertThat(exporter.export(telemetry).join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    } finally {
+      exporter.shutdown();
+    }
+    assertThat(attempts.get()).isGreaterThanOrEqualTo(3);
+    assertThat(countItems(exportedResourceTelemetry)).isEqualTo(telemetry.size());
+  }
+
+  @Test
+  void maxConcurrentExports() {
+    TelemetryExporter<T> exporter =
+        exporterBuilder()
+            .setEndpoint(server.httpUri().toString())
+            .setMaxConcurrentExports(1)
+            .build();
+    List<CompletableResultCode> results = new ArrayList<>();
+    try {
+      for (int i = 0; i < 10; i++) {
+        results.add(exporter.export(Collections.singletonList(generateFakeTelemetry())));
+      }
+      assertThat(CompletableResultCode.ofAll(results).join(10, TimeUnit.SECONDS).isSuccess())
+          .isTrue();
+    } finally {
+      exporter.shutdown();
+    }
+    // Requests queued behind an in-flight call are merged, but none are lost.
+    assertThat(attempts.get()).isBetween(1, 10);
+    assertThat(countItems(exportedResourceTelemetry)).isEqualTo(10);
+
+    assertThat(
+            exporter
+                .export(Collections.singletonList(generateFakeTelemetry()))
+                .join(10, TimeUnit.SECONDS)
+                .isSuccess())
+        .isFalse();
+  }
+
   @Test
   void authorityWithAuth() {
     TelemetryExporter<T> exporter =
@@ -659,6 +722,34 @@ public abstract class AbstractGrpcTelemetryExporterTest<T, U extends Message> {
         .collect(Collectors.toList());
   }
 
+  private List<T> generateTelemetryLargerThan(int size) {
+    List<T> telemetry = new ArrayList<>();
+    int serializedSize = 0;
+    while (serializedSize <= size) {
+      for (int i = 0; i < 10; i++) {
+        telemetry.add(generateFakeTelemetry());
+      }
+      serializedSize =
+          Arrays.stream(toMarshalers(telemetry)).mapToInt(Marshaler::getBinarySerializedSize).sum();
+    }
+    return telemetry;
+  }
+
+  private static int countItems(Collection<Object> resourceTelemetry) {
+    int count = 0;
+    for (Object resource : resourceTelemetry) {
+      Message message = (Message) resource;
+      // The repeated scope field of each resource message and the repeated item field of each
+      // scope message have the same field number in all signals.
+      FieldDescriptor scopesField = message.getDescriptorForType().findFieldByNumber(2);
+      for (int i = 0; i < message.getRepeatedFieldCount(scopesField); i++) {
+        Message scope = (Message) message.getRepeatedField(scopesField, i);
+        count += scope.getRepeatedFieldCount(scope.getDescriptorForType().findFieldByNumber(2));
+      }
+    }
+    return count;
+  }
+
   private TelemetryExporter<T> retryingExporter() {
     return exporterBuilder()
         .setEndpoint(server.httpUri().toString())
@@ -44,6 +44,18 @@ final class GrpcLogExporterBuilderWrapper implements TelemetryExporterBuilder<Lo
     return this;
   }
 
+  @Override
+  public TelemetryExporterBuilder<LogData> setMaxRequestSize(int maxRequestSize) {
+    builder.setMaxRequestSize(maxRequestSize);
+    return this;
+  }
+
+  @Override
+  public TelemetryExporterBuilder<LogData> setMaxConcurrentExports(int maxConcurrentExports) {
+    builder.setMaxConcurrentExports(maxConcurrentExports);
+    return this;
+  }
+
   @Override
   public TelemetryExporterBuilder<LogData> addHeader(String key, String value) {
     builder.addHeader(key, value);
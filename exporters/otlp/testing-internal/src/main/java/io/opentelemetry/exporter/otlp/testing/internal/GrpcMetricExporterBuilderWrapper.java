@@ -44,6 +44,18 @@ final class GrpcMetricExporterBuilderWrapper implements TelemetryExporterBuilder
     return this;
   }
 
+  @Override
+  public TelemetryExporterBuilder<MetricData> setMaxRequestSize(int maxRequestSize) {
+    builder.setMaxRequestSize(maxRequestSize);
+    return this;
+  }
+
+  @Override
+  public TelemetryExporterBuilder<MetricData> setMaxConcurrentExports(int maxConcurrentExports) {
+    builder.setMaxConcurrentExports(maxConcurrentExports);
+    return this;
+  }
+
   @Override
   public TelemetryExporterBuilder<MetricData> addHeader(String key, String value) {
     builder.addHeader(key, value);
@@ -45,6 +45,18 @@ final class GrpcSpanExporterBuilderWrapper implements TelemetryExporterBuilder<S
     return this;
   }
 
+  @Override
+  public TelemetryExporterBuilder<SpanData> setMaxRequestSize(int maxRequestSize) {
+    builder.setMaxRequestSize(maxRequestSize);
+    return this;
+  }
+
+  @Override
+  public TelemetryExporterBuilder<SpanData> setMaxConcurrentExports(int maxConcurrentExports) {
+    builder.setMaxConcurrentExports(maxConcurrentExports);
+    return this;
+  }
+
   @Override
   public TelemetryExporterBuilder<SpanData> addHeader(String key, String value) {
     builder.addHeader(key, value);
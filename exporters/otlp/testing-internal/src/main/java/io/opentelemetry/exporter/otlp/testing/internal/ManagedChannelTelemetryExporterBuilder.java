@@ -72,6 +72,18 @@ public final class ManagedChannelTelemetryExporterBuilder<T>
     return this;
   }
 
+  @Override
+  public TelemetryExporterBuilder<T> setMaxRequestSize(int maxRequestSize) {
+    delegate.setMaxRequestSize(maxRequestSize);
+    return this;
+  }
+
+  @Override
+  public TelemetryExporterBuilder<T> setMaxConcurrentExports(int maxConcurrentExports) {
+    delegate.setMaxConcurrentExports(maxConcurrentExports);
+    return this;
+  }
+
   @Override
   public TelemetryExporterBuilder<T> addHeader(String key, String value) {
     delegate.addHeader(key, value);
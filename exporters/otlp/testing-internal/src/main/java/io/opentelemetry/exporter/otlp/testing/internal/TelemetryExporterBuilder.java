@@ -38,6 +38,10 @@ public interface TelemetryExporterBuilder<T> {
 
   TelemetryExporterBuilder<T> setCompression(String compression);
 
+  TelemetryExporterBuilder<T> setMaxRequestSize(int maxRequestSize);
+
+  TelemetryExporterBuilder<T> setMaxConcurrentExports(int maxConcurrentExports);
+
   TelemetryExporterBuilder<T> addHeader(String key, String value);
 
   TelemetryExporterBuilder<T> setTrustedCertificates(byte[] certificates);
@@ -24,6 +24,7 @@ package io.opentelemetry.exporter.prometheus;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.sdk.internal.PrimitiveLongList;
 import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
 import io.opentelemetry.sdk.metrics.data.DoublePointData;
 import io.opentelemetry.sdk.metrics.data.ExemplarData;
@@ -194,13 +195,13 @@ abstract class Serializer {
     writePoint(writer, name + "_sum", point.getSum(), point.getAttributes(), point.getEpochNanos());
 
     long cumulativeCount = 0;
-    List<Long> counts = point.getCounts();
-    for (int i = 0; i < counts.size(); i++) {
+    long[] counts = PrimitiveLongList.toArray(point.getCounts());
+    for (int i = 0; i < counts.length; i++) {
       // This is the upper boundary (inclusive). I.e. all values should be < this value (LE -
       // Less-then-or-Equal).
       double boundary = getBucketUpperBound(point, i);
 
-      cumulativeCount += counts.get(i);
+      cumulativeCount += counts[i];
       writePoint(
           writer,
           name + "_bucket",
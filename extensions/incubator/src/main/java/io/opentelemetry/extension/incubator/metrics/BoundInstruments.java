@@ -0,0 +1,247 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator.metrics;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleCounter;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.DoubleUpDownCounter;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.opentelemetry.context.Context;
+
+/**
+ * Provides bound instruments, which record measurements with a fixed set of attributes.
+ *
+ * <p>Recording to an instrument looks up the storage for its attributes on each measurement, after
+ * applying any attribute processing configured for it. For attribute sets recorded to frequently,
+ * binding the instrument once moves that work out of the recording path:
+ *
+ * <pre>{@code
+ * BoundLongCounter requests = BoundInstruments.bind(counter, Attributes.of(METHOD, "GET"));
+ * requests.add(1);
+ * }</pre>
+ *
+ * <p>Instruments which don't support binding, such as those of the no-op implementation, are
+ * wrapped so the bound instrument records to them with the bound attributes.
+ */
+public final class BoundInstruments {
+
+  /**
+   * Binds {@code counter} to {@code attributes}. If the counter is an {@link ExtendedLongCounter},
+   * the returned instrument records without looking up the attributes, otherwise it records to
+   * {@code counter} with the attributes.
+   */
+  public static BoundLongCounter bind(LongCounter counter, Attributes attributes) {
+    if (counter instanceof ExtendedLongCounter) {
+      return ((ExtendedLongCounter) counter).bind(attributes);
+    }
+    return new UnboundLongCounter(counter, attributes);
+  }
+
+  /**
+   * Binds {@code counter} to {@code attributes}. If the counter is an {@link
+   * ExtendedDoubleCounter}, the returned instrument records without looking up the attributes,
+   * otherwise it records to {@code counter} with the attributes.
+   */
+  public static BoundDoubleCounter bind(DoubleCounter counter, Attributes attributes) {
+    if (counter instanceof ExtendedDoubleCounter) {
+      return ((ExtendedDoubleCounter) counter).bind(attributes);
+    }
+    return new UnboundDoubleCounter(counter, attributes);
+  }
+
+  /**
+   * Binds {@code upDownCounter} to {@code attributes}. If the up-down-counter is an {@link
+   * ExtendedLongUpDownCounter}, the returned instrument records without looking up the attributes,
+   * otherwise it records to {@code upDownCounter} with the attributes.
+   */
+  public static BoundLongUpDownCounter bind(
+      LongUpDownCounter upDownCounter, Attributes attributes) {
+    if (upDownCounter instanceof ExtendedLongUpDownCounter) {
+      return ((ExtendedLongUpDownCounter) upDownCounter).bind(attributes);
+    }
+    return new UnboundLongUpDownCounter(upDownCounter, attributes);
+  }
+
+  /**
+   * Binds {@code upDownCounter} to {@code attributes}. If the up-down-counter is an {@link
+   * ExtendedDoubleUpDownCounter}, the returned instrument records without looking up the
+   * attributes, otherwise it records to {@code upDownCounter} with the attributes.
+   */
+  public static BoundDoubleUpDownCounter bind(
+      DoubleUpDownCounter upDownCounter, Attributes attributes) {
+    if (upDownCounter instanceof ExtendedDoubleUpDownCounter) {
+      return ((ExtendedDoubleUpDownCounter) upDownCounter).bind(attributes);
+    }
+    return new UnboundDoubleUpDownCounter(upDownCounter, attributes);
+  }
+
+  /**
+   * Binds {@code histogram} to {@code attributes}. If the histogram is an {@link
+   * ExtendedLongHistogram}, the returned instrument records without looking up the attributes,
+   * otherwise it records to {@code histogram} with the attributes.
+   */
+  public static BoundLongHistogram bind(LongHistogram histogram, Attributes attributes) {
+    if (histogram instanceof ExtendedLongHistogram) {
+      return ((ExtendedLongHistogram) histogram).bind(attributes);
+    }
+    return new UnboundLongHistogram(histogram, attributes);
+  }
+
+  /**
+   * Binds {@code histogram} to {@code attributes}. If the histogram is an {@link
+   * ExtendedDoubleHistogram}, the returned instrument records without looking up the attributes,
+   * otherwise it records to {@code histogram} with the attributes.
+   */
+  public static BoundDoubleHistogram bind(DoubleHistogram histogram, Attributes attributes) {
+    if (histogram instanceof ExtendedDoubleHistogram) {
+      return ((ExtendedDoubleHistogram) histogram).bind(attributes);
+    }
+    return new UnboundDoubleHistogram(histogram, attributes);
+  }
+
+  private static final class UnboundLongCounter implements BoundLongCounter {
+    private final LongCounter delegate;
+    private final Attributes attributes;
+
+    private UnboundLongCounter(LongCounter delegate, Attributes attributes) {
+      this.delegate = delegate;
+      this.attributes = attributes;
+    }
+
+    @Override
+    public void add(long value) {
+      delegate.add(value, attributes);
+    }
+
+    @Override
+    public void add(long value, Context context) {
+      delegate.add(value, attributes, context);
+    }
+
+    @Override
+    public void unbind() {}
+  }
+
+  private static final class UnboundDoubleCounter implements BoundDoubleCounter {
+    private final DoubleCounter delegate;
+    private final Attributes attributes;
+
+    private UnboundDoubleCounter(DoubleCounter delegate, Attributes attributes) {
+      this.delegate = delegate;
+      this.attributes = attributes;
+    }
+
+    @Override
+    public void add(double value) {
+      delegate.add(value, attributes);
+    }
+
+    @Override
+    public void add(double value, Context context) {
+      delegate.add(value, attributes, context);
+    }
+
+    @Override
+    public void unbind() {}
+  }
+
+  private static final class UnboundLongUpDownCounter implements BoundLongUpDownCounter {
+    private final LongUpDownCounter delegate;
+    private final Attributes attributes;
+
+    private UnboundLongUpDownCounter(LongUpDownCounter delegate, Attributes attributes) {
+      this.delegate = delegate;
+      this.attributes = attributes;
+    }
+
+    @Override
+    public void add(long value) {
+      delegate.add(value, attributes);
+    }
+
+    @Override
+    public void add(long value, Context context) {
+      delegate.add(value, attributes, context);
+    }
+
+    @Override
+    public void unbind() {}
+  }
+
+  private static final class UnboundDoubleUpDownCounter implements BoundDoubleUpDownCounter {
+    private final DoubleUpDownCounter delegate;
+    private final Attributes attributes;
+
+    private UnboundDoubleUpDownCounter(DoubleUpDownCounter delegate, Attributes attributes) {
+      this.delegate = delegate;
+      this.attributes = attributes;
+    }
+
+    @Override
+    public void add(double value) {
+      delegate.add(value, attributes);
+    }
+
+    @Override
+    public void add(double value, Context context) {
+      delegate.add(value, attributes, context);
+    }
+
+    @Override
+    public void unbind() {}
+  }
+
+  private static final class UnboundLongHistogram implements BoundLongHistogram {
+    private final LongHistogram delegate;
+    private final Attributes attributes;
+
+    private UnboundLongHistogram(LongHistogram delegate, Attributes attributes) {
+      this.delegate = delegate;
+      this.attributes = attributes;
+    }
+
+    @Override
+    public void record(long value) {
+      delegate.record(value, attributes);
+    }
+
+    @Override
+    public void record(long value, Context context) {
+      delegate.record(value, attributes, context);
+    }
+
+    @Override
+    public void unbind() {}
+  }
+
+  private static final class UnboundDoubleHistogram implements BoundDoubleHistogram {
+    private final DoubleHistogram delegate;
+    private final Attributes attributes;
+
+    private UnboundDoubleHistogram(DoubleHistogram delegate, Attributes attributes) {
+      this.delegate = delegate;
+      this.attributes = attributes;
+    }
+
+    @Override
+    public void record(double value) {
+      delegate.record(value, attributes);
+    }
+
+    @Override
+    public void record(double value, Context context) {
+      delegate.record(value, attributes, context);
+    }
+
+    @Override
+    public void unbind() {}
+  }
+
+  private BoundInstruments() {}
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator.metrics;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A {@link DoubleHistogram} which can be bound to a set of attributes, implemented by SDKs which
+ * support bound instruments.
+ */
+@ThreadSafe
+public interface ExtendedDoubleHistogram extends DoubleHistogram {
+
+  /**
+   * Binds the instrument to {@code attributes}, returning an instrument which records with them
+   * without looking them up again. The returned instrument must be {@link
+   * BoundDoubleHistogram#unbind() unbound} when no longer used.
+   *
+   * @param attributes The attributes to associate with all measurements of the bound instrument.
+   */
+  BoundDoubleHistogram bind(Attributes attributes);
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator.metrics;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import org.junit.jupiter.api.Test;
+
+class BoundInstrumentsTest {
+
+  private static final Attributes ATTRIBUTES = Attributes.of(AttributeKey.stringKey("key"), "a");
+
+  private final InMemoryMetricReader reader = InMemoryMetricReader.createDelta();
+  private final Meter meter =
+      SdkMeterProvider.builder().registerMetricReader(reader).build().get("test");
+
+  @Test
+  void sdkInstrumentsAreExtended() {
+    assertThat(meter.counterBuilder("counter").build()).isInstanceOf(ExtendedLongCounter.class);
+    assertThat(meter.counterBuilder("counter").ofDoubles().build())
+        .isInstanceOf(ExtendedDoubleCounter.class);
+    assertThat(meter.upDownCounterBuilder("upDownCounter").build())
+        .isInstanceOf(ExtendedLongUpDownCounter.class);
+    assertThat(meter.upDownCounterBuilder("upDownCounter").ofDoubles().build())
+        .isInstanceOf(ExtendedDoubleUpDownCounter.class);
+    assertThat(meter.histogramBuilder("histogram").ofLongs().build())
+        .isInstanceOf(ExtendedLongHistogram.class);
+    assertThat(meter.histogramBuilder("histogram").build())
+        .isInstanceOf(ExtendedDoubleHistogram.class);
+  }
+
+  @Test
+  void boundAcrossCollections() {
+    LongCounter counter = meter.counterBuilder("counter").build();
+    BoundLongCounter bound = BoundInstruments.bind(counter, ATTRIBUTES);
+
+    for (int i = 1; i <= 3; i++) {
+      bound.add(i);
+      counter.add(10, ATTRIBUTES);
+      long expected = i + 10;
+      assertThat(reader.collectAllMetrics())
+          .satisfiesExactly(
+              metric ->
+                  assertThat(metric)
+                      .hasLongSumSatisfying(
+                          sum ->
+                              sum.hasPointsSatisfying(
+                                  point -> point.hasValue(expected).hasAttributes(ATTRIBUTES))));
+    }
+
+    // Nothing recorded since the last collection, though the attributes remain bound.
+    assertThat(reader.collectAllMetrics()).isEmpty();
+    bound.add(5);
+    bound.unbind();
+    assertThat(reader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasLongSumSatisfying(
+                        sum -> sum.hasPointsSatisfying(point -> point.hasValue(5))));
+    assertThat(reader.collectAllMetrics()).isEmpty();
+  }
+
+  @Test
+  void boundHistogram() {
+    DoubleHistogram histogram = meter.histogramBuilder("histogram").build();
+    BoundDoubleHistogram bound = BoundInstruments.bind(histogram, ATTRIBUTES);
+    bound.record(1);
+    bound.record(2, Context.root());
+    bound.unbind();
+    assertThat(reader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasHistogramSatisfying(
+                        histogramData ->
+                            histogramData.hasPointsSatisfying(
+                                point ->
+                                    point.hasCount(2).hasSum(3).hasAttributes(ATTRIBUTES))));
+  }
+
+  @Test
+  void notExtended() {
+    LongCounter counter = mock(LongCounter.class);
+    BoundLongCounter bound = BoundInstruments.bind(counter, ATTRIBUTES);
+    bound.add(1);
+    bound.add(2, Context.root());
+    bound.unbind();
+    verify(counter).add(1, ATTRIBUTES);
+    verify(counter).add(2, ATTRIBUTES, Context.root());
+
+    // Binding the no-op implementation records nothing, without failing.
+    BoundDoubleHistogram histogram =
+        BoundInstruments.bind(
+            MeterProvider.noop().get("test").histogramBuilder("histogram").build(), ATTRIBUTES);
+    histogram.record(1);
+    histogram.unbind();
+  }
+}
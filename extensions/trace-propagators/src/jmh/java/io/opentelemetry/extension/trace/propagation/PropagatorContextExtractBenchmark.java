@@ -6,8 +6,10 @@
 package io.opentelemetry.extension.trace.propagation;
 
 import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapPropagator;
 import io.opentelemetry.extension.aws.AwsXrayPropagator;
 import java.util.Arrays;
 import java.util.Collections;
@@ -312,4 +314,64 @@ public class PropagatorContextExtractBenchmark {
       return traceHeaders;
     }
   }
+
+  /**
+   * Benchmark for extracting context with a composite of propagators, as configured when migrating
+   * between formats, from a carrier whose header names are looked up ignoring case.
+   */
+  public static class CompositeContextExtractBenchmark extends AbstractContextExtractBenchmark {
+
+    private static final List<Map<String, String>> traceHeaders =
+        Arrays.asList(
+            Collections.singletonMap(
+                "traceparent", "00-905734c59b913b4a905734c59b913b4a-9909983295041501-01"),
+            Collections.singletonMap(
+                B3Propagator.COMBINED_HEADER,
+                "21196a77f299580e21196a77f299580e-993a97ee3691eb26-0"),
+            Collections.singletonMap(
+                JaegerPropagator.PROPAGATION_HEADER,
+                "2e7d0ad2390617702e7d0ad239061770:d49582a2de984b86:0:1"),
+            Collections.singletonMap(
+                "X-Amzn-Trace-Id",
+                "Root=1-8a3c60f7-d188f8fa79d48a391a778fa6;Parent=53995c3f42cd8ad8;Sampled=1"),
+            Collections.singletonMap(
+                "traceparent", "00-68ec932c33b3f2ee68ec932c33b3f2ee-68ec932c33b3f2ee-00"));
+
+    private final TextMapGetter<Map<String, String>> getter =
+        new TextMapGetter<Map<String, String>>() {
+          @Override
+          public Iterable<String> keys(Map<String, String> carrier) {
+            return carrier.keySet();
+          }
+
+          @Override
+          public String get(Map<String, String> carrier, String key) {
+            for (Map.Entry<String, String> entry : carrier.entrySet()) {
+              if (entry.getKey().equalsIgnoreCase(key)) {
+                return entry.getValue();
+              }
+            }
+            return null;
+          }
+        };
+
+    private final TextMapPropagator compositePropagator =
+        TextMapPropagator.composite(
+            W3CTraceContextPropagator.getInstance(),
+            B3Propagator.injectingSingleHeader(),
+            B3Propagator.injectingMultiHeaders(),
+            JaegerPropagator.getInstance(),
+            OtTracePropagator.getInstance(),
+            AwsXrayPropagator.getInstance());
+
+    @Override
+    protected Context doExtract() {
+      return compositePropagator.extract(Context.root(), getCarrier(), getter);
+    }
+
+    @Override
+    protected List<Map<String, String>> getHeaders() {
+      return traceHeaders;
+    }
+  }
 }
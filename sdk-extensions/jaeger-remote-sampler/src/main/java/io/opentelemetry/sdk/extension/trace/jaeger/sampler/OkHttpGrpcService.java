@@ -5,6 +5,7 @@
 
 package io.opentelemetry.sdk.extension.trace.jaeger.sampler;
 
+import io.opentelemetry.exporter.internal.compression.GzipCompressor;
 import io.opentelemetry.exporter.internal.grpc.GrpcRequestBody;
 import io.opentelemetry.exporter.internal.grpc.GrpcStatusUtil;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
@@ -60,7 +61,8 @@ final class OkHttpGrpcService<ReqMarshalerT extends Marshaler, ResUnMarshalerT e
       ReqMarshalerT exportRequest, ResUnMarshalerT responseUnmarshaller) {
     Request.Builder requestBuilder = new Request.Builder().url(endpoint).headers(headers);
 
-    RequestBody requestBody = new GrpcRequestBody(exportRequest, compressionEnabled);
+    RequestBody requestBody =
+        new GrpcRequestBody(exportRequest, compressionEnabled ? GzipCompressor.getInstance() : null);
     requestBuilder.post(requestBody);
 
     try {
@@ -15,6 +15,7 @@ otelJava.moduleName.set("io.opentelemetry.sdk.metrics")
 dependencies {
   api(project(":api:all"))
   api(project(":sdk:common"))
+  compileOnly(project(":extensions:incubator"))
 
   compileOnly("org.codehaus.mojo:animal-sniffer-annotations")
 
@@ -22,10 +23,12 @@ dependencies {
 
   testAnnotationProcessor("com.google.auto.value:auto-value")
 
+  testImplementation(project(":extensions:incubator"))
   testImplementation(project(":sdk:metrics-testing"))
   testImplementation(project(":sdk:testing"))
   testImplementation("com.google.guava:guava")
 
+  jmh(project(":extensions:incubator"))
   jmh(project(":sdk:trace"))
   jmh(project(":sdk:testing"))
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.ObservableLongCounter;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures collecting an asynchronous counter observing the same series on every collection. Run
+ * with {@code -prof gc} to compare the allocation per collection.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class AsynchronousMetricStorageBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    // Stays below the maximum number of series an asynchronous instrument reports per collection.
+    @Param({"10", "1000"})
+    int series;
+
+    @Param({"CUMULATIVE", "DELTA"})
+    String temporality;
+
+    InMemoryMetricReader reader;
+    SdkMeterProvider meterProvider;
+    ObservableLongCounter counter;
+    Attributes[] attributes;
+    long value;
+
+    @Setup
+    public void setup() {
+      reader =
+          temporality.equals("DELTA")
+              ? InMemoryMetricReader.createDelta()
+              : InMemoryMetricReader.create();
+      meterProvider = SdkMeterProvider.builder().registerMetricReader(reader).build();
+      attributes = new Attributes[series];
+      for (int i = 0; i < series; i++) {
+        attributes[i] = Attributes.of(AttributeKey.stringKey("key"), "value" + i);
+      }
+      counter =
+          meterProvider
+              .get("benchmark")
+              .counterBuilder("counter")
+              .buildWithCallback(
+                  measurement -> {
+                    value++;
+                    for (Attributes seriesAttributes : attributes) {
+                      measurement.record(value, seriesAttributes);
+                    }
+                  });
+    }
+
+    @TearDown
+    public void tearDown() {
+      counter.close();
+      meterProvider.shutdown();
+    }
+  }
+
+  @Benchmark
+  public Collection<MetricData> collect(BenchmarkState state) {
+    return state.reader.collectAllMetrics();
+  }
+}
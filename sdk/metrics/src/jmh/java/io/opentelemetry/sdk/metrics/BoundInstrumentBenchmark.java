@@ -0,0 +1,85 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.extension.incubator.metrics.BoundInstruments;
+import io.opentelemetry.extension.incubator.metrics.BoundLongCounter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Compares recording to a bound instrument against recording with attributes. */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class BoundInstrumentBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    @Param({"SDK_NO_EXEMPLARS", "SDK_FILTERING_VIEW", "SDK_THREE_READERS"})
+    TestSdk sdk;
+
+    final Attributes attributes =
+        Attributes.builder()
+            .put("KEY", "VALUE")
+            .put("http.method", "GET")
+            .put("http.status_code", 200)
+            .build();
+    LongCounter counter;
+    BoundLongCounter boundCounter;
+
+    @Setup
+    public void setup() {
+      counter = sdk.getMeter().counterBuilder("counter").build();
+      boundCounter = BoundInstruments.bind(counter, attributes);
+    }
+
+    @TearDown
+    public void tearDown() {
+      boundCounter.unbind();
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void unbound(BenchmarkState state) {
+    state.counter.add(1, state.attributes);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void bound(BenchmarkState state) {
+    state.boundCounter.add(1);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void unbound_8Threads(BenchmarkState state) {
+    state.counter.add(1, state.attributes);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void bound_8Threads(BenchmarkState state) {
+    state.boundCounter.add(1);
+  }
+}
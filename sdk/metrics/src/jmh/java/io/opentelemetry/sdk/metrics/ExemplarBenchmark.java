@@ -0,0 +1,76 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of sampling exemplars when recording to a histogram within a sampled trace,
+ * compared to recording with exemplars disabled.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ExemplarBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    @Param({"SDK", "SDK_NO_EXEMPLARS"})
+    TestSdk sdk;
+
+    final Attributes attributes = Attributes.builder().put("KEY", "VALUE").build();
+    DoubleHistogram histogram;
+    Span span;
+    Context context;
+
+    @Setup
+    public void setup() {
+      histogram = sdk.getMeter().histogramBuilder("histogram").build();
+      span = sdk.getTracer().spanBuilder("benchmark").startSpan();
+      context = Context.root().with(span);
+    }
+
+    @TearDown
+    public void tearDown() {
+      span.end();
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void record(BenchmarkState state) {
+    state.histogram.record(
+        ThreadLocalRandom.current().nextDouble(10_000), state.attributes, state.context);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void record_8Threads(BenchmarkState state) {
+    state.histogram.record(
+        ThreadLocalRandom.current().nextDouble(10_000), state.attributes, state.context);
+  }
+}
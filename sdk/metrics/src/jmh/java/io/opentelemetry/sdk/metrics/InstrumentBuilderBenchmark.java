@@ -0,0 +1,77 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Compares building an instrument for every measurement against keeping the instrument. */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class InstrumentBuilderBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    @Param({"SDK_NO_EXEMPLARS", "SDK_FILTERING_VIEW"})
+    TestSdk sdk;
+
+    final Attributes attributes = Attributes.builder().put("KEY", "VALUE").build();
+    Meter meter;
+    LongCounter counter;
+
+    @Setup
+    public void setup() {
+      meter = sdk.getMeter();
+      counter = buildCounter(meter);
+    }
+  }
+
+  private static LongCounter buildCounter(Meter meter) {
+    return meter.counterBuilder("counter").setDescription("description").setUnit("1").build();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void buildPerCall(BenchmarkState state) {
+    buildCounter(state.meter).add(1, state.attributes);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void cached(BenchmarkState state) {
+    state.counter.add(1, state.attributes);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void buildPerCall_8Threads(BenchmarkState state) {
+    buildCounter(state.meter).add(1, state.attributes);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void cached_8Threads(BenchmarkState state) {
+    state.counter.add(1, state.attributes);
+  }
+}
@@ -50,6 +50,38 @@ public enum TestSdk {
               .build()
               .get("io.opentelemetry.sdk.metrics");
         }
+      }),
+  // Compare against SDK to see the cost of a view filtering attributes.
+  SDK_FILTERING_VIEW(
+      new SdkBuilder() {
+        @Override
+        Meter build() {
+          return SdkMeterProvider.builder()
+              .setClock(Clock.getDefault())
+              .setResource(Resource.empty())
+              .registerMetricReader(InMemoryMetricReader.create())
+              .registerView(
+                  InstrumentSelector.builder().setName("*").build(),
+                  View.builder().setAttributeFilter(key -> key.equals("KEY")).build())
+              .build()
+              .get("io.opentelemetry.sdk.metrics");
+        }
+      }),
+  // Compare against SDK to see the cost of recording with several readers, such as Prometheus and
+  // OTLP exporters registered together.
+  SDK_THREE_READERS(
+      new SdkBuilder() {
+        @Override
+        Meter build() {
+          return SdkMeterProvider.builder()
+              .setClock(Clock.getDefault())
+              .setResource(Resource.empty())
+              .registerMetricReader(InMemoryMetricReader.create())
+              .registerMetricReader(InMemoryMetricReader.createDelta())
+              .registerMetricReader(InMemoryMetricReader.create())
+              .build()
+              .get("io.opentelemetry.sdk.metrics");
+        }
       });
 
   private final SdkBuilder sdkBuilder;
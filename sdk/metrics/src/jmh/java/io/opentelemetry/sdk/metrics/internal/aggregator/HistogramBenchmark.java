@@ -5,6 +5,8 @@
 
 package io.opentelemetry.sdk.metrics.internal.aggregator;
 
+import io.opentelemetry.sdk.metrics.InstrumentValueType;
+import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarReservoir;
 import java.util.concurrent.TimeUnit;
 import java.util.function.DoubleSupplier;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -50,6 +52,44 @@ public class HistogramBenchmark {
     }
   }
 
+  /** Records long values to explicit bucket histograms aggregating longs or doubles. */
+  @State(Scope.Thread)
+  public static class LongThreadState {
+    @Param HistogramValueGenerator valueGen;
+
+    @Param({"LONG", "DOUBLE"})
+    InstrumentValueType aggregatorValueType;
+
+    private AggregatorHandle<?, ?> aggregatorHandle;
+    private long[] values;
+
+    @Setup(Level.Trial)
+    public final void setup() {
+      double[] boundaries =
+          ExplicitBucketHistogramUtils.createBoundaryArray(
+              ExplicitBucketHistogramUtils.DEFAULT_HISTOGRAM_BUCKET_BOUNDARIES);
+      Aggregator<?, ?> aggregator =
+          aggregatorValueType == InstrumentValueType.LONG
+              ? new LongExplicitBucketHistogramAggregator(
+                  boundaries, ExemplarReservoir::doubleNoSamples)
+              : new DoubleExplicitBucketHistogramAggregator(
+                  boundaries, ExemplarReservoir::doubleNoSamples);
+      aggregatorHandle = aggregator.createHandle();
+      DoubleSupplier valueSupplier = valueGen.supplier();
+      values = new long[2000];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = (long) valueSupplier.getAsDouble();
+      }
+    }
+
+    public void record() {
+      // Record a number of samples.
+      for (long value : values) {
+        this.aggregatorHandle.recordLong(value);
+      }
+    }
+  }
+
   @Benchmark
   @Threads(value = 10)
   public void aggregate_10Threads(ThreadState threadState) {
@@ -67,4 +107,16 @@ public class HistogramBenchmark {
   public void aggregate_1Threads(ThreadState threadState) {
     threadState.record();
   }
+
+  @Benchmark
+  @Threads(value = 10)
+  public void aggregateLong_10Threads(LongThreadState threadState) {
+    threadState.record();
+  }
+
+  @Benchmark
+  @Threads(value = 1)
+  public void aggregateLong_1Threads(LongThreadState threadState) {
+    threadState.record();
+  }
 }
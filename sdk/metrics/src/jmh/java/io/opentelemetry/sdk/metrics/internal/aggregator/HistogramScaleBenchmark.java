@@ -5,6 +5,7 @@
 
 package io.opentelemetry.sdk.metrics.internal.aggregator;
 
+import io.opentelemetry.sdk.metrics.internal.state.ExponentialCounterFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.function.DoubleSupplier;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -60,4 +61,42 @@ public class HistogramScaleBenchmark {
   public void scaleUp(HistogramBenchmark.ThreadState threadState) {
     threadState.record();
   }
+
+  @State(Scope.Thread)
+  public static class IndexState {
+    @Param({"0", "1", "2", "4", "6", "8", "10", "12", "16", "20"})
+    int scale;
+
+    @Param HistogramValueGenerator valueGen;
+    private DoubleExponentialHistogramBuckets buckets;
+    private DoubleSupplier valueSupplier;
+    private double scaleFactor;
+
+    @Setup(Level.Trial)
+    public final void setup() {
+      buckets =
+          new DoubleExponentialHistogramBuckets(
+              scale, 160, ExponentialCounterFactory.circularBufferCounter());
+      valueSupplier = valueGen.supplier();
+      scaleFactor = Math.scalb(1 / Math.log(2), scale);
+    }
+  }
+
+  /**
+   * Measures mapping a value to its bucket index at a fixed scale, which uses lookup tables up to
+   * {@link ExponentialIndexTable#MAX_SCALE} and logarithms above.
+   */
+  @Benchmark
+  @Threads(value = 1)
+  public int valueToIndex(IndexState indexState) {
+    return indexState.buckets.valueToIndex(indexState.valueSupplier.getAsDouble());
+  }
+
+  /** Baseline for {@link #valueToIndex(IndexState)}, always mapping with a logarithm. */
+  @Benchmark
+  @Threads(value = 1)
+  public int valueToIndexByLogarithm(IndexState indexState) {
+    return (int)
+        Math.floor(Math.log(indexState.valueSupplier.getAsDouble()) * indexState.scaleFactor);
+  }
 }
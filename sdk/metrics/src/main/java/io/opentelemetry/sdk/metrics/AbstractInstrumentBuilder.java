@@ -74,10 +74,8 @@ abstract class AbstractInstrumentBuilder<BuilderT extends AbstractInstrumentBuil
       InstrumentType type,
       InstrumentValueType valueType,
       BiFunction<InstrumentDescriptor, WriteableMetricStorage, I> instrumentFactory) {
-    InstrumentDescriptor descriptor = makeDescriptor(type, valueType);
-    WriteableMetricStorage storage =
-        meterSharedState.registerSynchronousMetricStorage(descriptor, meterProviderSharedState);
-    return instrumentFactory.apply(descriptor, storage);
+    return meterSharedState.getOrBuildSynchronousInstrument(
+        makeDescriptor(type, valueType), meterProviderSharedState, instrumentFactory);
   }
 
   final CallbackRegistration registerDoubleAsynchronousInstrument(
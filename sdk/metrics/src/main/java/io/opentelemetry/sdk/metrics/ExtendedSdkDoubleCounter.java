@@ -0,0 +1,37 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.extension.incubator.metrics.BoundDoubleCounter;
+import io.opentelemetry.extension.incubator.metrics.ExtendedDoubleCounter;
+import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
+import io.opentelemetry.sdk.metrics.internal.state.BoundStorageHandle;
+import io.opentelemetry.sdk.metrics.internal.state.WriteableMetricStorage;
+
+/**
+ * A {@link SdkDoubleCounter} implementing {@link ExtendedDoubleCounter}, built instead when the
+ * incubator API is available.
+ */
+final class ExtendedSdkDoubleCounter extends SdkDoubleCounter implements ExtendedDoubleCounter {
+
+  ExtendedSdkDoubleCounter(InstrumentDescriptor descriptor, WriteableMetricStorage storage) {
+    super(descriptor, storage);
+  }
+
+  @Override
+  public ExtendedBoundInstrument bind(Attributes attributes) {
+    return new ExtendedBoundInstrument(getDescriptor(), storage.bind(attributes), attributes);
+  }
+
+  static final class ExtendedBoundInstrument extends SdkDoubleCounter.BoundInstrument
+      implements BoundDoubleCounter {
+    ExtendedBoundInstrument(
+        InstrumentDescriptor descriptor, BoundStorageHandle handle, Attributes attributes) {
+      super(descriptor, handle, attributes);
+    }
+  }
+}
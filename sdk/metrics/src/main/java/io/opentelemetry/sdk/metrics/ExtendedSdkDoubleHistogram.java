@@ -0,0 +1,38 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.extension.incubator.metrics.BoundDoubleHistogram;
+import io.opentelemetry.extension.incubator.metrics.ExtendedDoubleHistogram;
+import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
+import io.opentelemetry.sdk.metrics.internal.state.BoundStorageHandle;
+import io.opentelemetry.sdk.metrics.internal.state.WriteableMetricStorage;
+
+/**
+ * A {@link SdkDoubleHistogram} implementing {@link ExtendedDoubleHistogram}, built instead when the
+ * incubator API is available.
+ */
+final class ExtendedSdkDoubleHistogram extends SdkDoubleHistogram
+    implements ExtendedDoubleHistogram {
+
+  ExtendedSdkDoubleHistogram(InstrumentDescriptor descriptor, WriteableMetricStorage storage) {
+    super(descriptor, storage);
+  }
+
+  @Override
+  public ExtendedBoundInstrument bind(Attributes attributes) {
+    return new ExtendedBoundInstrument(getDescriptor(), storage.bind(attributes), attributes);
+  }
+
+  static final class ExtendedBoundInstrument extends SdkDoubleHistogram.BoundInstrument
+      implements BoundDoubleHistogram {
+    ExtendedBoundInstrument(
+        InstrumentDescriptor descriptor, BoundStorageHandle handle, Attributes attributes) {
+      super(descriptor, handle, attributes);
+    }
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.extension.incubator.metrics.BoundDoubleUpDownCounter;
+import io.opentelemetry.extension.incubator.metrics.ExtendedDoubleUpDownCounter;
+import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
+import io.opentelemetry.sdk.metrics.internal.state.BoundStorageHandle;
+import io.opentelemetry.sdk.metrics.internal.state.WriteableMetricStorage;
+
+/**
+ * A {@link SdkDoubleUpDownCounter} implementing {@link ExtendedDoubleUpDownCounter}, built instead
+ * when the incubator API is available.
+ */
+final class ExtendedSdkDoubleUpDownCounter extends SdkDoubleUpDownCounter
+    implements ExtendedDoubleUpDownCounter {
+
+  ExtendedSdkDoubleUpDownCounter(InstrumentDescriptor descriptor, WriteableMetricStorage storage) {
+    super(descriptor, storage);
+  }
+
+  @Override
+  public ExtendedBoundInstrument bind(Attributes attributes) {
+    return new ExtendedBoundInstrument(storage.bind(attributes), attributes);
+  }
+
+  static final class ExtendedBoundInstrument extends SdkDoubleUpDownCounter.BoundInstrument
+      implements BoundDoubleUpDownCounter {
+    ExtendedBoundInstrument(BoundStorageHandle handle, Attributes attributes) {
+      super(handle, attributes);
+    }
+  }
+}
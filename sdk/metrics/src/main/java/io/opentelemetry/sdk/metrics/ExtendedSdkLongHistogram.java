@@ -0,0 +1,37 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.extension.incubator.metrics.BoundLongHistogram;
+import io.opentelemetry.extension.incubator.metrics.ExtendedLongHistogram;
+import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
+import io.opentelemetry.sdk.metrics.internal.state.BoundStorageHandle;
+import io.opentelemetry.sdk.metrics.internal.state.WriteableMetricStorage;
+
+/**
+ * A {@link SdkLongHistogram} implementing {@link ExtendedLongHistogram}, built instead when the
+ * incubator API is available.
+ */
+final class ExtendedSdkLongHistogram extends SdkLongHistogram implements ExtendedLongHistogram {
+
+  ExtendedSdkLongHistogram(InstrumentDescriptor descriptor, WriteableMetricStorage storage) {
+    super(descriptor, storage);
+  }
+
+  @Override
+  public ExtendedBoundInstrument bind(Attributes attributes) {
+    return new ExtendedBoundInstrument(getDescriptor(), storage.bind(attributes), attributes);
+  }
+
+  static final class ExtendedBoundInstrument extends SdkLongHistogram.BoundInstrument
+      implements BoundLongHistogram {
+    ExtendedBoundInstrument(
+        InstrumentDescriptor descriptor, BoundStorageHandle handle, Attributes attributes) {
+      super(descriptor, handle, attributes);
+    }
+  }
+}
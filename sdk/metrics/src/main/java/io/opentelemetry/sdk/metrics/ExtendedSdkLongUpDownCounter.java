@@ -0,0 +1,37 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.extension.incubator.metrics.BoundLongUpDownCounter;
+import io.opentelemetry.extension.incubator.metrics.ExtendedLongUpDownCounter;
+import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
+import io.opentelemetry.sdk.metrics.internal.state.BoundStorageHandle;
+import io.opentelemetry.sdk.metrics.internal.state.WriteableMetricStorage;
+
+/**
+ * A {@link SdkLongUpDownCounter} implementing {@link ExtendedLongUpDownCounter}, built instead when
+ * the incubator API is available.
+ */
+final class ExtendedSdkLongUpDownCounter extends SdkLongUpDownCounter
+    implements ExtendedLongUpDownCounter {
+
+  ExtendedSdkLongUpDownCounter(InstrumentDescriptor descriptor, WriteableMetricStorage storage) {
+    super(descriptor, storage);
+  }
+
+  @Override
+  public ExtendedBoundInstrument bind(Attributes attributes) {
+    return new ExtendedBoundInstrument(storage.bind(attributes), attributes);
+  }
+
+  static final class ExtendedBoundInstrument extends SdkLongUpDownCounter.BoundInstrument
+      implements BoundLongUpDownCounter {
+    ExtendedBoundInstrument(BoundStorageHandle handle, Attributes attributes) {
+      super(handle, attributes);
+    }
+  }
+}
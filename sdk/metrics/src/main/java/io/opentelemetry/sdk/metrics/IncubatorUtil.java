@@ -0,0 +1,31 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics;
+
+/**
+ * Detects the incubator API, which is an optional dependency. Instruments implementing its
+ * interfaces are only built when it is on the classpath, as they fail to load otherwise.
+ */
+final class IncubatorUtil {
+
+  private static final boolean INCUBATOR_AVAILABLE;
+
+  static {
+    boolean incubatorAvailable = true;
+    try {
+      Class.forName("io.opentelemetry.extension.incubator.metrics.ExtendedLongCounter");
+    } catch (ClassNotFoundException e) {
+      incubatorAvailable = false;
+    }
+    INCUBATOR_AVAILABLE = incubatorAvailable;
+  }
+
+  static boolean isIncubatorAvailable() {
+    return INCUBATOR_AVAILABLE;
+  }
+
+  private IncubatorUtil() {}
+}
@@ -22,13 +22,13 @@ import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-final class SdkDoubleCounter extends AbstractInstrument implements DoubleCounter {
+class SdkDoubleCounter extends AbstractInstrument implements DoubleCounter {
   private static final Logger logger = Logger.getLogger(SdkDoubleCounter.class.getName());
 
   private final ThrottlingLogger throttlingLogger = new ThrottlingLogger(logger);
-  private final WriteableMetricStorage storage;
+  final WriteableMetricStorage storage;
 
-  private SdkDoubleCounter(InstrumentDescriptor descriptor, WriteableMetricStorage storage) {
+  SdkDoubleCounter(InstrumentDescriptor descriptor, WriteableMetricStorage storage) {
     super(descriptor);
     this.storage = storage;
   }
@@ -60,7 +60,7 @@ final class SdkDoubleCounter extends AbstractInstrument implements DoubleCounter
     return new BoundInstrument(getDescriptor(), storage.bind(attributes), attributes);
   }
 
-  static final class BoundInstrument implements BoundDoubleCounter {
+  static class BoundInstrument implements BoundDoubleCounter {
     private final ThrottlingLogger throttlingLogger = new ThrottlingLogger(logger);
     private final InstrumentDescriptor descriptor;
     private final BoundStorageHandle handle;
@@ -117,7 +117,11 @@ final class SdkDoubleCounter extends AbstractInstrument implements DoubleCounter
     @Override
     public SdkDoubleCounter build() {
       return buildSynchronousInstrument(
-          InstrumentType.COUNTER, InstrumentValueType.DOUBLE, SdkDoubleCounter::new);
+          InstrumentType.COUNTER,
+          InstrumentValueType.DOUBLE,
+          IncubatorUtil.isIncubatorAvailable()
+              ? ExtendedSdkDoubleCounter::new
+              : SdkDoubleCounter::new);
     }
 
     @Override
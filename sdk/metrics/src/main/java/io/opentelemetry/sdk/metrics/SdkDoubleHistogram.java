@@ -20,13 +20,13 @@ import io.opentelemetry.sdk.metrics.internal.state.WriteableMetricStorage;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-final class SdkDoubleHistogram extends AbstractInstrument implements DoubleHistogram {
+class SdkDoubleHistogram extends AbstractInstrument implements DoubleHistogram {
   private static final Logger logger = Logger.getLogger(SdkDoubleHistogram.class.getName());
 
   private final ThrottlingLogger throttlingLogger = new ThrottlingLogger(logger);
-  private final WriteableMetricStorage storage;
+  final WriteableMetricStorage storage;
 
-  private SdkDoubleHistogram(InstrumentDescriptor descriptor, WriteableMetricStorage storage) {
+  SdkDoubleHistogram(InstrumentDescriptor descriptor, WriteableMetricStorage storage) {
     super(descriptor);
     this.storage = storage;
   }
@@ -58,7 +58,7 @@ final class SdkDoubleHistogram extends AbstractInstrument implements DoubleHisto
     return new BoundInstrument(getDescriptor(), storage.bind(attributes), attributes);
   }
 
-  static final class BoundInstrument implements BoundDoubleHistogram {
+  static class BoundInstrument implements BoundDoubleHistogram {
     private final ThrottlingLogger throttlingLogger = new ThrottlingLogger(logger);
     private final InstrumentDescriptor descriptor;
     private final BoundStorageHandle aggregatorHandle;
@@ -122,7 +122,11 @@ final class SdkDoubleHistogram extends AbstractInstrument implements DoubleHisto
     @Override
     public SdkDoubleHistogram build() {
       return buildSynchronousInstrument(
-          InstrumentType.HISTOGRAM, InstrumentValueType.DOUBLE, SdkDoubleHistogram::new);
+          InstrumentType.HISTOGRAM,
+          InstrumentValueType.DOUBLE,
+          IncubatorUtil.isIncubatorAvailable()
+              ? ExtendedSdkDoubleHistogram::new
+              : SdkDoubleHistogram::new);
     }
 
     @Override
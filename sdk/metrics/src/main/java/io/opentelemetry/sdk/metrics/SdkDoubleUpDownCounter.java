@@ -19,11 +19,11 @@ import io.opentelemetry.sdk.metrics.internal.state.MeterSharedState;
 import io.opentelemetry.sdk.metrics.internal.state.WriteableMetricStorage;
 import java.util.function.Consumer;
 
-final class SdkDoubleUpDownCounter extends AbstractInstrument implements DoubleUpDownCounter {
+class SdkDoubleUpDownCounter extends AbstractInstrument implements DoubleUpDownCounter {
 
-  private final WriteableMetricStorage storage;
+  final WriteableMetricStorage storage;
 
-  private SdkDoubleUpDownCounter(InstrumentDescriptor descriptor, WriteableMetricStorage storage) {
+  SdkDoubleUpDownCounter(InstrumentDescriptor descriptor, WriteableMetricStorage storage) {
     super(descriptor);
     this.storage = storage;
   }
@@ -47,7 +47,7 @@ final class SdkDoubleUpDownCounter extends AbstractInstrument implements DoubleU
     return new BoundInstrument(storage.bind(attributes), attributes);
   }
 
-  static final class BoundInstrument implements BoundDoubleUpDownCounter {
+  static class BoundInstrument implements BoundDoubleUpDownCounter {
     private final BoundStorageHandle handle;
     private final Attributes attributes;
 
@@ -92,7 +92,11 @@ final class SdkDoubleUpDownCounter extends AbstractInstrument implements DoubleU
     @Override
     public DoubleUpDownCounter build() {
       return buildSynchronousInstrument(
-          InstrumentType.UP_DOWN_COUNTER, InstrumentValueType.DOUBLE, SdkDoubleUpDownCounter::new);
+          InstrumentType.UP_DOWN_COUNTER,
+          InstrumentValueType.DOUBLE,
+          IncubatorUtil.isIncubatorAvailable()
+              ? ExtendedSdkDoubleUpDownCounter::new
+              : SdkDoubleUpDownCounter::new);
     }
 
     @Override
@@ -23,14 +23,14 @@ import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-final class SdkLongCounter extends AbstractInstrument implements LongCounter {
+class SdkLongCounter extends AbstractInstrument implements LongCounter {
 
   private static final Logger logger = Logger.getLogger(SdkLongCounter.class.getName());
 
   private final ThrottlingLogger throttlingLogger = new ThrottlingLogger(logger);
-  private final WriteableMetricStorage storage;
+  final WriteableMetricStorage storage;
 
-  private SdkLongCounter(InstrumentDescriptor descriptor, WriteableMetricStorage storage) {
+  SdkLongCounter(InstrumentDescriptor descriptor, WriteableMetricStorage storage) {
     super(descriptor);
     this.storage = storage;
   }
@@ -62,7 +62,7 @@ final class SdkLongCounter extends AbstractInstrument implements LongCounter {
     return new BoundInstrument(getDescriptor(), storage.bind(attributes), attributes);
   }
 
-  static final class BoundInstrument implements BoundLongCounter {
+  static class BoundInstrument implements BoundLongCounter {
     private final ThrottlingLogger throttlingLogger = new ThrottlingLogger(logger);
     private final InstrumentDescriptor descriptor;
     private final BoundStorageHandle handle;
@@ -126,7 +126,9 @@ final class SdkLongCounter extends AbstractInstrument implements LongCounter {
     @Override
     public SdkLongCounter build() {
       return buildSynchronousInstrument(
-          InstrumentType.COUNTER, InstrumentValueType.LONG, SdkLongCounter::new);
+          InstrumentType.COUNTER,
+          InstrumentValueType.LONG,
+          IncubatorUtil.isIncubatorAvailable() ? ExtendedSdkLongCounter::new : SdkLongCounter::new);
     }
 
     @Override
@@ -19,13 +19,13 @@ import io.opentelemetry.sdk.metrics.internal.state.WriteableMetricStorage;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-final class SdkLongHistogram extends AbstractInstrument implements LongHistogram {
+class SdkLongHistogram extends AbstractInstrument implements LongHistogram {
   private static final Logger logger = Logger.getLogger(SdkLongHistogram.class.getName());
 
   private final ThrottlingLogger throttlingLogger = new ThrottlingLogger(logger);
-  private final WriteableMetricStorage storage;
+  final WriteableMetricStorage storage;
 
-  private SdkLongHistogram(InstrumentDescriptor descriptor, WriteableMetricStorage storage) {
+  SdkLongHistogram(InstrumentDescriptor descriptor, WriteableMetricStorage storage) {
     super(descriptor);
     this.storage = storage;
   }
@@ -57,7 +57,7 @@ final class SdkLongHistogram extends AbstractInstrument implements LongHistogram
     return new BoundInstrument(getDescriptor(), storage.bind(attributes), attributes);
   }
 
-  static final class BoundInstrument implements BoundLongHistogram {
+  static class BoundInstrument implements BoundLongHistogram {
     private final ThrottlingLogger throttlingLogger = new ThrottlingLogger(logger);
     private final InstrumentDescriptor descriptor;
     private final BoundStorageHandle handle;
@@ -114,7 +114,11 @@ final class SdkLongHistogram extends AbstractInstrument implements LongHistogram
     @Override
     public SdkLongHistogram build() {
       return buildSynchronousInstrument(
-          InstrumentType.HISTOGRAM, InstrumentValueType.LONG, SdkLongHistogram::new);
+          InstrumentType.HISTOGRAM,
+          InstrumentValueType.LONG,
+          IncubatorUtil.isIncubatorAvailable()
+              ? ExtendedSdkLongHistogram::new
+              : SdkLongHistogram::new);
     }
   }
 }
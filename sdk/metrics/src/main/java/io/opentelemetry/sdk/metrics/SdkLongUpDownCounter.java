@@ -20,11 +20,11 @@ import io.opentelemetry.sdk.metrics.internal.state.MeterSharedState;
 import io.opentelemetry.sdk.metrics.internal.state.WriteableMetricStorage;
 import java.util.function.Consumer;
 
-final class SdkLongUpDownCounter extends AbstractInstrument implements LongUpDownCounter {
+class SdkLongUpDownCounter extends AbstractInstrument implements LongUpDownCounter {
 
-  private final WriteableMetricStorage storage;
+  final WriteableMetricStorage storage;
 
-  private SdkLongUpDownCounter(InstrumentDescriptor descriptor, WriteableMetricStorage storage) {
+  SdkLongUpDownCounter(InstrumentDescriptor descriptor, WriteableMetricStorage storage) {
     super(descriptor);
     this.storage = storage;
   }
@@ -48,7 +48,7 @@ final class SdkLongUpDownCounter extends AbstractInstrument implements LongUpDow
     return new BoundInstrument(storage.bind(attributes), attributes);
   }
 
-  static final class BoundInstrument implements BoundLongUpDownCounter {
+  static class BoundInstrument implements BoundLongUpDownCounter {
     private final BoundStorageHandle handle;
     private final Attributes attributes;
 
@@ -100,7 +100,11 @@ final class SdkLongUpDownCounter extends AbstractInstrument implements LongUpDow
     @Override
     public LongUpDownCounter build() {
       return buildSynchronousInstrument(
-          InstrumentType.UP_DOWN_COUNTER, InstrumentValueType.LONG, SdkLongUpDownCounter::new);
+          InstrumentType.UP_DOWN_COUNTER,
+          InstrumentValueType.LONG,
+          IncubatorUtil.isIncubatorAvailable()
+              ? ExtendedSdkLongUpDownCounter::new
+              : SdkLongUpDownCounter::new);
     }
 
     @Override
@@ -19,6 +19,7 @@ import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import io.opentelemetry.sdk.metrics.internal.export.MetricProducer;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
 import io.opentelemetry.sdk.metrics.internal.state.MeterProviderSharedState;
+import io.opentelemetry.sdk.metrics.internal.state.ParallelCallbackInvoker;
 import io.opentelemetry.sdk.metrics.internal.view.ViewRegistry;
 import io.opentelemetry.sdk.resources.Resource;
 import java.io.Closeable;
@@ -26,9 +27,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * SDK implementation for {@link MeterProvider}.
@@ -55,12 +58,21 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
       Clock clock,
       Resource resource,
       ViewRegistry viewRegistry,
-      ExemplarFilter exemplarFilter) {
+      ExemplarFilter exemplarFilter,
+      @Nullable ExecutorService callbackExecutor,
+      long callbackTimeoutNanos) {
     long startEpochNanos = clock.now();
     this.registeredReaders = registeredReaders;
     this.sharedState =
         MeterProviderSharedState.create(
-            clock, resource, viewRegistry, exemplarFilter, startEpochNanos);
+            clock,
+            resource,
+            viewRegistry,
+            exemplarFilter,
+            startEpochNanos,
+            callbackExecutor == null
+                ? null
+                : ParallelCallbackInvoker.create(callbackExecutor, callbackTimeoutNanos, this));
     this.registry =
         new ComponentRegistry<>(
             instrumentationLibraryInfo ->
@@ -14,9 +14,12 @@ import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
 import io.opentelemetry.sdk.metrics.internal.view.ViewRegistry;
 import io.opentelemetry.sdk.metrics.internal.view.ViewRegistryBuilder;
 import io.opentelemetry.sdk.resources.Resource;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import javax.annotation.Nullable;
 
 /**
  * Builder class for the {@link SdkMeterProvider}.
@@ -37,6 +40,8 @@ public final class SdkMeterProviderBuilder {
   private final ViewRegistryBuilder viewRegistryBuilder = ViewRegistry.builder();
   private final List<RegisteredReader> registeredReaders = new ArrayList<>();
   private ExemplarFilter exemplarFilter = DEFAULT_EXEMPLAR_FILTER;
+  @Nullable private ExecutorService callbackExecutor;
+  private long callbackTimeoutNanos;
 
   SdkMeterProviderBuilder() {}
 
@@ -69,6 +74,26 @@ public final class SdkMeterProviderBuilder {
     return this;
   }
 
+  /**
+   * Invoke the callbacks of asynchronous instruments concurrently on the {@code executor} when
+   * collecting, rather than one after another on the collecting thread. Collection waits at most
+   * {@code timeout} for the callbacks, dropping the measurements of those which have not completed
+   * by then.
+   *
+   * <p>Note: not currently stable but available for experimental use via {@link
+   * SdkMeterProviderUtil#setCallbackExecutor(SdkMeterProviderBuilder, ExecutorService, Duration)}.
+   */
+  SdkMeterProviderBuilder setCallbackExecutor(ExecutorService executor, Duration timeout) {
+    Objects.requireNonNull(executor, "executor");
+    Objects.requireNonNull(timeout, "timeout");
+    if (timeout.isNegative()) {
+      throw new IllegalArgumentException("timeout must be non-negative");
+    }
+    this.callbackExecutor = executor;
+    this.callbackTimeoutNanos = timeout.toNanos();
+    return this;
+  }
+
   /**
    * Register a {@link View}.
    *
@@ -114,6 +139,12 @@ public final class SdkMeterProviderBuilder {
   /** Returns an {@link SdkMeterProvider} built with the configuration of this builder. */
   public SdkMeterProvider build() {
     return new SdkMeterProvider(
-        registeredReaders, clock, resource, viewRegistryBuilder.build(), exemplarFilter);
+        registeredReaders,
+        clock,
+        resource,
+        viewRegistryBuilder.build(),
+        exemplarFilter,
+        callbackExecutor,
+        callbackTimeoutNanos);
   }
 }
@@ -13,6 +13,8 @@ import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
 import io.opentelemetry.sdk.metrics.internal.view.StringPredicates;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Predicate;
 
 /**
@@ -42,6 +44,28 @@ public final class SdkMeterProviderUtil {
     }
   }
 
+  /**
+   * Reflectively assign an {@link ExecutorService} to invoke asynchronous instrument callbacks on
+   * to the {@link SdkMeterProviderBuilder}.
+   *
+   * @param sdkMeterProviderBuilder the builder
+   * @param executor the executor which callbacks are invoked on concurrently
+   * @param timeout the maximum time a collection waits for callbacks to complete
+   */
+  public static void setCallbackExecutor(
+      SdkMeterProviderBuilder sdkMeterProviderBuilder, ExecutorService executor, Duration timeout) {
+    try {
+      Method method =
+          SdkMeterProviderBuilder.class.getDeclaredMethod(
+              "setCallbackExecutor", ExecutorService.class, Duration.class);
+      method.setAccessible(true);
+      method.invoke(sdkMeterProviderBuilder, executor, timeout);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setCallbackExecutor on SdkMeterProviderBuilder", e);
+    }
+  }
+
   /**
    * Reflectively add an {@link AttributesProcessor} to the {@link ViewBuilder} which appends
    * key-values from baggage to all measurements.
@@ -5,22 +5,11 @@
 
 package io.opentelemetry.sdk.metrics.internal.aggregator;
 
-import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.internal.GuardedBy;
-import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
-import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
 import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
-import io.opentelemetry.sdk.metrics.data.MetricData;
-import io.opentelemetry.sdk.metrics.internal.data.ImmutableHistogramData;
-import io.opentelemetry.sdk.metrics.internal.data.ImmutableMetricData;
-import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarReservoir;
-import io.opentelemetry.sdk.resources.Resource;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
@@ -31,12 +20,9 @@ import java.util.function.Supplier;
  * at any time.
  */
 public final class DoubleExplicitBucketHistogramAggregator
-    implements Aggregator<ExplicitBucketHistogramAccumulation, DoubleExemplarData> {
+    extends AbstractExplicitBucketHistogramAggregator {
   private final double[] boundaries;
 
-  // a cache for converting to MetricData
-  private final List<Double> boundaryList;
-
   private final Supplier<ExemplarReservoir<DoubleExemplarData>> reservoirSupplier;
 
   /**
@@ -47,13 +33,8 @@ public final class DoubleExplicitBucketHistogramAggregator
    */
   public DoubleExplicitBucketHistogramAggregator(
       double[] boundaries, Supplier<ExemplarReservoir<DoubleExemplarData>> reservoirSupplier) {
+    super(boundaries);
     this.boundaries = boundaries;
-
-    List<Double> boundaryList = new ArrayList<>(this.boundaries.length);
-    for (double v : this.boundaries) {
-      boundaryList.add(v);
-    }
-    this.boundaryList = Collections.unmodifiableList(boundaryList);
     this.reservoirSupplier = reservoirSupplier;
   }
 
@@ -62,67 +43,6 @@ public final class DoubleExplicitBucketHistogramAggregator
     return new Handle(this.boundaries, reservoirSupplier.get());
   }
 
-  /**
-   * Return the result of the merge of two histogram accumulations. As long as one Aggregator
-   * instance produces all Accumulations with constant boundaries we don't need to worry about
-   * merging accumulations with different boundaries.
-   */
-  @Override
-  public ExplicitBucketHistogramAccumulation merge(
-      ExplicitBucketHistogramAccumulation previous, ExplicitBucketHistogramAccumulation current) {
-    long[] previousCounts = previous.getCounts();
-    long[] mergedCounts = new long[previousCounts.length];
-    for (int i = 0; i < previousCounts.length; ++i) {
-      mergedCounts[i] = previousCounts[i] + current.getCounts()[i];
-    }
-    double min = -1;
-    double max = -1;
-    if (previous.hasMinMax() && current.hasMinMax()) {
-      min = Math.min(previous.getMin(), current.getMin());
-      max = Math.max(previous.getMax(), current.getMax());
-    } else if (previous.hasMinMax()) {
-      min = previous.getMin();
-      max = previous.getMax();
-    } else if (current.hasMinMax()) {
-      min = current.getMin();
-      max = current.getMax();
-    }
-    return ExplicitBucketHistogramAccumulation.create(
-        previous.getSum() + current.getSum(),
-        previous.hasMinMax() || current.hasMinMax(),
-        min,
-        max,
-        mergedCounts,
-        current.getExemplars());
-  }
-
-  @Override
-  public MetricData toMetricData(
-      Resource resource,
-      InstrumentationScopeInfo instrumentationScopeInfo,
-      MetricDescriptor metricDescriptor,
-      Map<Attributes, ExplicitBucketHistogramAccumulation> accumulationByLabels,
-      AggregationTemporality temporality,
-      long startEpochNanos,
-      long lastCollectionEpoch,
-      long epochNanos) {
-    return ImmutableMetricData.createDoubleHistogram(
-        resource,
-        instrumentationScopeInfo,
-        metricDescriptor.getName(),
-        metricDescriptor.getDescription(),
-        metricDescriptor.getSourceInstrument().getUnit(),
-        ImmutableHistogramData.create(
-            temporality,
-            MetricDataUtils.toExplicitBucketHistogramPointList(
-                accumulationByLabels,
-                (temporality == AggregationTemporality.CUMULATIVE)
-                    ? startEpochNanos
-                    : lastCollectionEpoch,
-                epochNanos,
-                boundaryList)));
-  }
-
   static final class Handle
       extends AggregatorHandle<ExplicitBucketHistogramAccumulation, DoubleExemplarData> {
     // read-only
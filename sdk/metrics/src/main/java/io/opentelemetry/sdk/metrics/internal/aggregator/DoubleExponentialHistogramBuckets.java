@@ -29,6 +29,7 @@ final class DoubleExponentialHistogramBuckets implements ExponentialHistogramBuc
   private ExponentialCounter counts;
   private int scale;
   private double scaleFactor;
+  @Nullable private ExponentialIndexTable indexTable;
   private long totalCount;
 
   DoubleExponentialHistogramBuckets(
@@ -37,6 +38,7 @@ final class DoubleExponentialHistogramBuckets implements ExponentialHistogramBuc
     this.counts = counterFactory.newCounter(maxBuckets);
     this.scale = startingScale;
     this.scaleFactor = computeScaleFactor(startingScale);
+    this.indexTable = ExponentialIndexTable.forScale(startingScale);
     this.totalCount = 0;
   }
 
@@ -46,6 +48,7 @@ final class DoubleExponentialHistogramBuckets implements ExponentialHistogramBuc
     this.counts = counterFactory.copy(buckets.counts);
     this.scale = buckets.scale;
     this.scaleFactor = buckets.scaleFactor;
+    this.indexTable = buckets.indexTable;
     this.totalCount = buckets.totalCount;
   }
 
@@ -132,6 +135,7 @@ final class DoubleExponentialHistogramBuckets implements ExponentialHistogramBuc
 
     this.scale = this.scale - by;
     this.scaleFactor = computeScaleFactor(this.scale);
+    this.indexTable = ExponentialIndexTable.forScale(this.scale);
   }
 
   /**
@@ -259,9 +263,14 @@ final class DoubleExponentialHistogramBuckets implements ExponentialHistogramBuc
    * @param value Measured value (must be non-zero).
    * @return the index of the bucket which the value maps to.
    */
-  private int valueToIndex(double value) {
+  int valueToIndex(double value) {
     double absValue = Math.abs(value);
     if (scale > 0) {
+      // Tables are only built up to ExponentialIndexTable.MAX_SCALE, as they grow with the scale.
+      ExponentialIndexTable indexTable = this.indexTable;
+      if (indexTable != null) {
+        return indexTable.valueToIndex(absValue);
+      }
       return getIndexByLogarithm(absValue);
     }
     return getIndexByExponent(absValue);
@@ -18,6 +18,9 @@ import java.util.List;
 public final class ExplicitBucketHistogramUtils {
   private ExplicitBucketHistogramUtils() {}
 
+  // Up to this many boundaries, all are compared to a long value rather than binary searching them.
+  private static final int MAX_LINEAR_SEARCH_BOUNDARIES = 32;
+
   public static final List<Double> DEFAULT_HISTOGRAM_BUCKET_BOUNDARIES =
       Collections.unmodifiableList(
           Arrays.asList(
@@ -29,6 +32,20 @@ public final class ExplicitBucketHistogramUtils {
     return validateBucketBoundaries(boundaries.stream().mapToDouble(i -> i).toArray());
   }
 
+  /**
+   * Converts bucket boundaries to the long boundaries which long values are compared to, each the
+   * greatest long at or below the boundary. A long value is at or below a boundary exactly when it
+   * is at or below the long boundary.
+   */
+  public static long[] createLongBoundaryArray(double[] boundaries) {
+    long[] longBoundaries = new long[boundaries.length];
+    for (int i = 0; i < boundaries.length; ++i) {
+      // Saturates to the range of long.
+      longBoundaries[i] = (long) Math.floor(boundaries[i]);
+    }
+    return longBoundaries;
+  }
+
   /**
    * Finds the bucket index for a histogram.
    *
@@ -47,6 +64,38 @@ public final class ExplicitBucketHistogramUtils {
     return boundaries.length;
   }
 
+  /**
+   * Finds the bucket index for a histogram of long values.
+   *
+   * @param boundaries the array of bucket boundaries, as created by {@link
+   *     #createLongBoundaryArray(double[])}.
+   * @param value The current measurement value
+   * @return The bucket index where the value should be recorded.
+   */
+  public static int findBucketIndex(long[] boundaries, long value) {
+    if (boundaries.length <= MAX_LINEAR_SEARCH_BOUNDARIES) {
+      // Count the boundaries below the value instead of stopping at the first one above it. This
+      // compiles to conditional moves rather than a branch per boundary, which mispredicts when
+      // values spread across buckets.
+      int index = 0;
+      for (long boundary : boundaries) {
+        index += value > boundary ? 1 : 0;
+      }
+      return index;
+    }
+    int low = 0;
+    int high = boundaries.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (value > boundaries[mid]) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
   /**
    * Validates errors in boundary configuration.
    *
@@ -0,0 +1,162 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.aggregator;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.annotation.Nullable;
+
+/**
+ * Maps values to exponential histogram bucket indexes for a positive scale without computing
+ * logarithms.
+ *
+ * <p>At scale {@code s} each power of two is split into {@code 2^s} buckets, and bucket {@code i}
+ * covers {@code [2^(i / 2^s), 2^((i + 1) / 2^s))}. The index of a value is therefore its IEEE-754
+ * exponent shifted left by {@code s}, plus the number of bucket boundaries within {@code [1, 2)}
+ * that its mantissa is at or above. The boundary mantissas are precomputed per scale, each as the
+ * smallest double at or above the exact boundary, so values at and around the boundaries map
+ * exactly rather than being subject to the rounding error of {@link Math#log(double)}.
+ *
+ * <p>To avoid a search over the boundaries, the mantissa range is also split into {@code 2^(s+1)}
+ * equally sized linear sub-buckets. A logarithmic bucket within {@code [1, 2)} is at least {@code
+ * ln(2) / 2^s} wide, wider than a linear sub-bucket, so each linear sub-bucket contains at most one
+ * boundary and a single comparison after the lookup finds the index.
+ *
+ * <p>Tables are {@code O(2^s)} in size, so they are only built up to {@link #MAX_SCALE}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+final class ExponentialIndexTable {
+
+  /** The maximum scale a table is built for, where it takes up about 16KiB. */
+  static final int MAX_SCALE = 10;
+
+  private static final int MANTISSA_WIDTH = 52;
+  private static final long MANTISSA_MASK = (1L << MANTISSA_WIDTH) - 1;
+  private static final int EXPONENT_BIAS = 1023;
+  // Bits kept while raising a value to the power of 2^scale, far more than needed to tell on which
+  // side of a boundary a double lies in all but pathological cases, which fall back to exact math.
+  private static final int BOUNDARY_PRECISION_BITS = 192;
+
+  private static final AtomicReferenceArray<ExponentialIndexTable> TABLES =
+      new AtomicReferenceArray<>(MAX_SCALE + 1);
+
+  private final int scale;
+  // The mantissa of the lowest value in each bucket within [1, 2), plus a trailing sentinel above
+  // any mantissa.
+  private final long[] boundaries;
+  // The index of the bucket within [1, 2) containing the start of each linear sub-bucket.
+  private final int[] linearIndexes;
+
+  /**
+   * Returns the table for {@code scale}, or {@code null} if the scale is not positive or exceeds
+   * {@link #MAX_SCALE}.
+   */
+  @Nullable
+  static ExponentialIndexTable forScale(int scale) {
+    if (scale <= 0 || scale > MAX_SCALE) {
+      return null;
+    }
+    ExponentialIndexTable table = TABLES.get(scale);
+    if (table == null) {
+      // Racing threads build identical tables, so it doesn't matter which one wins.
+      table = new ExponentialIndexTable(scale);
+      TABLES.compareAndSet(scale, null, table);
+    }
+    return table;
+  }
+
+  private ExponentialIndexTable(int scale) {
+    this.scale = scale;
+    int bucketsPerPowerOfTwo = 1 << scale;
+    boundaries = new long[bucketsPerPowerOfTwo + 1];
+    for (int i = 1; i < bucketsPerPowerOfTwo; i++) {
+      boundaries[i] = mantissa(lowestValueInBucket(i, scale));
+    }
+    boundaries[bucketsPerPowerOfTwo] = 1L << MANTISSA_WIDTH;
+
+    linearIndexes = new int[bucketsPerPowerOfTwo << 1];
+    int index = 0;
+    for (int i = 0; i < linearIndexes.length; i++) {
+      long linearStart = (long) i << (MANTISSA_WIDTH - scale - 1);
+      while (boundaries[index + 1] <= linearStart) {
+        index++;
+      }
+      linearIndexes[i] = index;
+    }
+  }
+
+  /**
+   * Maps a positive, finite value to the index of the bucket containing it.
+   *
+   * @param value Measured absolute value (must be positive).
+   * @return the index of the bucket which the value maps to.
+   */
+  int valueToIndex(double value) {
+    long bits = Double.doubleToRawLongBits(value);
+    int exponent = (int) (bits >>> MANTISSA_WIDTH) - EXPONENT_BIAS;
+    long mantissa = bits & MANTISSA_MASK;
+    if (exponent == -EXPONENT_BIAS) {
+      // Subnormal, normalize so the leading bit is the implicit one.
+      int shift = Long.numberOfLeadingZeros(mantissa) - (63 - MANTISSA_WIDTH);
+      mantissa = (mantissa << shift) & MANTISSA_MASK;
+      exponent = 1 - EXPONENT_BIAS - shift;
+    }
+    int index = linearIndexes[(int) (mantissa >>> (MANTISSA_WIDTH - scale - 1))];
+    if (mantissa >= boundaries[index + 1]) {
+      index++;
+    }
+    return (exponent << scale) + index;
+  }
+
+  /** Returns the smallest double at or above {@code 2^(index / 2^scale)}. */
+  private static double lowestValueInBucket(int index, int scale) {
+    double value = Math.pow(2, (double) index / (1 << scale));
+    while (!isAtLeastBoundary(value, index, scale)) {
+      value = Math.nextUp(value);
+    }
+    while (isAtLeastBoundary(Math.nextDown(value), index, scale)) {
+      value = Math.nextDown(value);
+    }
+    return value;
+  }
+
+  /** Returns whether {@code value^(2^scale) >= 2^index}, i.e. value is in bucket index or above. */
+  private static boolean isAtLeastBoundary(double value, int index, int scale) {
+    // value is significand * 2^-MANTISSA_WIDTH. Square it scale times, truncating to a fixed
+    // number of bits, which yields a lower bound of power * 2^exponent for the exact result.
+    long significand = mantissa(value) | (1L << MANTISSA_WIDTH);
+    BigInteger power = BigInteger.valueOf(significand);
+    int exponent = -MANTISSA_WIDTH;
+    for (int i = 0; i < scale; i++) {
+      power = power.multiply(power);
+      exponent <<= 1;
+      int excess = power.bitLength() - BOUNDARY_PRECISION_BITS;
+      if (excess > 0) {
+        power = power.shiftRight(excess);
+        exponent += excess;
+      }
+    }
+    BigInteger boundary = BigInteger.ONE.shiftLeft(index - exponent);
+    if (power.compareTo(boundary) >= 0) {
+      return true;
+    }
+    // Each truncation loses less than one unit, and squaring doubles the relative error so far, so
+    // the truncated power is within 2^(scale + 1) units of the exact one.
+    if (power.add(BigInteger.ONE.shiftLeft(scale + 1)).compareTo(boundary) < 0) {
+      return false;
+    }
+    return BigInteger.valueOf(significand)
+            .pow(1 << scale)
+            .compareTo(BigInteger.ONE.shiftLeft(index + (MANTISSA_WIDTH << scale)))
+        >= 0;
+  }
+
+  private static long mantissa(double value) {
+    return Double.doubleToRawLongBits(value) & MANTISSA_MASK;
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.aggregator;
+
+import io.opentelemetry.api.internal.GuardedBy;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarReservoir;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Aggregator that generates explicit bucket histograms of long measurements, without converting
+ * them to doubles.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class LongExplicitBucketHistogramAggregator
+    extends AbstractExplicitBucketHistogramAggregator {
+  private final long[] boundaries;
+
+  private final Supplier<ExemplarReservoir<DoubleExemplarData>> reservoirSupplier;
+
+  /**
+   * Constructs an explicit bucket histogram aggregator.
+   *
+   * @param boundaries Bucket boundaries, in-order.
+   * @param reservoirSupplier Supplier of exemplar reservoirs per-stream.
+   */
+  public LongExplicitBucketHistogramAggregator(
+      double[] boundaries, Supplier<ExemplarReservoir<DoubleExemplarData>> reservoirSupplier) {
+    super(boundaries);
+    this.boundaries = ExplicitBucketHistogramUtils.createLongBoundaryArray(boundaries);
+    this.reservoirSupplier = reservoirSupplier;
+  }
+
+  @Override
+  public AggregatorHandle<ExplicitBucketHistogramAccumulation, DoubleExemplarData> createHandle() {
+    return new Handle(this.boundaries, reservoirSupplier.get());
+  }
+
+  static final class Handle
+      extends AggregatorHandle<ExplicitBucketHistogramAccumulation, DoubleExemplarData> {
+    // read-only
+    private final long[] boundaries;
+
+    @GuardedBy("lock")
+    private long sum;
+
+    // The part of the sum which no longer fits in a long.
+    @GuardedBy("lock")
+    private double overflowedSum;
+
+    @GuardedBy("lock")
+    private long min;
+
+    @GuardedBy("lock")
+    private long max;
+
+    @GuardedBy("lock")
+    private long count;
+
+    @GuardedBy("lock")
+    private final long[] counts;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    Handle(long[] boundaries, ExemplarReservoir<DoubleExemplarData> reservoir) {
+      super(reservoir);
+      this.boundaries = boundaries;
+      this.counts = new long[this.boundaries.length + 1];
+      this.sum = 0;
+      this.overflowedSum = 0;
+      this.min = Long.MAX_VALUE;
+      this.max = Long.MIN_VALUE;
+      this.count = 0;
+    }
+
+    @Override
+    protected ExplicitBucketHistogramAccumulation doAccumulateThenReset(
+        List<DoubleExemplarData> exemplars) {
+      lock.lock();
+      try {
+        ExplicitBucketHistogramAccumulation acc =
+            ExplicitBucketHistogramAccumulation.create(
+                overflowedSum + sum,
+                this.count > 0,
+                this.count > 0 ? this.min : -1,
+                this.count > 0 ? this.max : -1,
+                Arrays.copyOf(counts, counts.length),
+                exemplars);
+        this.sum = 0;
+        this.overflowedSum = 0;
+        this.min = Long.MAX_VALUE;
+        this.max = Long.MIN_VALUE;
+        this.count = 0;
+        Arrays.fill(this.counts, 0);
+        return acc;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    @Override
+    protected void doRecordLong(long value) {
+      int bucketIndex = ExplicitBucketHistogramUtils.findBucketIndex(this.boundaries, value);
+
+      lock.lock();
+      try {
+        long newSum = this.sum + value;
+        // The addition overflowed if the result's sign differs from the sign of both operands.
+        if (((this.sum ^ newSum) & (value ^ newSum)) < 0) {
+          this.overflowedSum += this.sum;
+          newSum = value;
+        }
+        this.sum = newSum;
+        this.min = Math.min(this.min, value);
+        this.max = Math.max(this.max, value);
+        this.count++;
+        this.counts[bucketIndex]++;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
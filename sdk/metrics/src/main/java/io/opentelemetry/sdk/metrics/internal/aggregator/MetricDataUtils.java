@@ -67,21 +67,20 @@ final class MetricDataUtils {
       long epochNanos,
       List<Double> boundaries) {
     List<HistogramPointData> points = new ArrayList<>(accumulationMap.size());
+    // The point copies the counts, so they are wrapped without copying them here.
     accumulationMap.forEach(
-        (labels, aggregator) -> {
-          List<Long> counts = PrimitiveLongList.wrap(aggregator.getCounts().clone());
-          points.add(
-              ImmutableHistogramPointData.create(
-                  startEpochNanos,
-                  epochNanos,
-                  labels,
-                  aggregator.getSum(),
-                  aggregator.getMin(),
-                  aggregator.getMax(),
-                  boundaries,
-                  counts,
-                  aggregator.getExemplars()));
-        });
+        (labels, aggregator) ->
+            points.add(
+                ImmutableHistogramPointData.create(
+                    startEpochNanos,
+                    epochNanos,
+                    labels,
+                    aggregator.getSum(),
+                    aggregator.getMin(),
+                    aggregator.getMax(),
+                    boundaries,
+                    PrimitiveLongList.wrap(aggregator.getCounts()),
+                    aggregator.getExemplars())));
     return points;
   }
 
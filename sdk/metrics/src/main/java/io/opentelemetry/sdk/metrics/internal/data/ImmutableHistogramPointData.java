@@ -86,8 +86,11 @@ public abstract class ImmutableHistogramPointData implements HistogramPointData
       throw new IllegalArgumentException("invalid boundaries: contains explicit +/-Inf");
     }
 
+    // Copy the counts unboxed, so exporters reading them with PrimitiveLongList#toArray(List) don't
+    // need to unbox them again.
+    long[] countArray = PrimitiveLongList.toArray(counts).clone();
     long totalCount = 0;
-    for (long c : PrimitiveLongList.toArray(counts)) {
+    for (long c : countArray) {
       totalCount += c;
     }
     return new AutoValue_ImmutableHistogramPointData(
@@ -101,7 +104,7 @@ public abstract class ImmutableHistogramPointData implements HistogramPointData
         max != null,
         max != null ? max : -1,
         Collections.unmodifiableList(new ArrayList<>(boundaries)),
-        Collections.unmodifiableList(new ArrayList<>(counts)),
+        PrimitiveLongList.wrap(countArray),
         exemplars);
   }
 
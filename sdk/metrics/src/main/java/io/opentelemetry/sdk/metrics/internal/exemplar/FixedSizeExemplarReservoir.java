@@ -12,57 +12,169 @@ import io.opentelemetry.sdk.metrics.data.ExemplarData;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BiFunction;
+import javax.annotation.Nullable;
 
-/** Base for fixed-size reservoir sampling of Exemplars. */
+/**
+ * Base for fixed-size reservoir sampling of Exemplars.
+ *
+ * <p>Cells are allocated on the first sampled measurement, so reservoirs of streams which never
+ * sample, for example those only recorded outside sampled traces, stay small. Each sample replaces
+ * the cell's content with a single atomic write, without locking.
+ *
+ * <p>Each cell has a budget of samples per collection cycle. Once spent, further measurements
+ * selecting the cell are not sampled until the next collection, bounding the cost of exemplars for
+ * streams which are recorded to frequently. As the budget is per cell, a busy cell, such as the
+ * histogram bucket most measurements fall into, does not starve the other cells. Once all cells
+ * have spent their budget, measurements are not even offered to the cell selector.
+ */
 abstract class FixedSizeExemplarReservoir<T extends ExemplarData> implements ExemplarReservoir<T> {
 
-  private final ReservoirCell[] storage;
+  /** The number of samples per cell each collection cycle may take. */
+  static final int SAMPLES_PER_CELL_PER_CYCLE = 16;
+
+  private final Clock clock;
+  private final int size;
   private final ReservoirCellSelector reservoirCellSelector;
-  private final BiFunction<ReservoirCell, Attributes, T> mapAndResetCell;
+  private final BiFunction<ReservoirCell, Attributes, T> mapCell;
+  @Nullable private volatile Cells cells;
 
   /** Instantiates an exemplar reservoir of fixed size. */
   FixedSizeExemplarReservoir(
       Clock clock,
       int size,
       ReservoirCellSelector reservoirCellSelector,
-      BiFunction<ReservoirCell, Attributes, T> mapAndResetCell) {
-    this.storage = new ReservoirCell[size];
-    for (int i = 0; i < size; ++i) {
-      this.storage[i] = new ReservoirCell(clock);
-    }
+      BiFunction<ReservoirCell, Attributes, T> mapCell) {
+    this.clock = clock;
+    this.size = size;
     this.reservoirCellSelector = reservoirCellSelector;
-    this.mapAndResetCell = mapAndResetCell;
+    this.mapCell = mapCell;
   }
 
   @Override
   public void offerLongMeasurement(long value, Attributes attributes, Context context) {
-    int bucket = reservoirCellSelector.reservoirCellIndexFor(storage, value, attributes, context);
-    if (bucket != -1) {
-      this.storage[bucket].recordLongMeasurement(value, attributes, context);
+    Budget budget = currentBudget();
+    if (budget != null && budget.isExhausted()) {
+      return;
+    }
+    int bucket = reservoirCellSelector.reservoirCellIndexFor(size, value, attributes, context);
+    if (bucket != -1 && takeSample(budget, bucket)) {
+      cells().storage.set(bucket, ReservoirCell.ofLong(clock, value, attributes, context));
     }
   }
 
   @Override
   public void offerDoubleMeasurement(double value, Attributes attributes, Context context) {
-    int bucket = reservoirCellSelector.reservoirCellIndexFor(storage, value, attributes, context);
-    if (bucket != -1) {
-      this.storage[bucket].recordDoubleMeasurement(value, attributes, context);
+    Budget budget = currentBudget();
+    if (budget != null && budget.isExhausted()) {
+      return;
     }
+    int bucket = reservoirCellSelector.reservoirCellIndexFor(size, value, attributes, context);
+    if (bucket != -1 && takeSample(budget, bucket)) {
+      cells().storage.set(bucket, ReservoirCell.ofDouble(clock, value, attributes, context));
+    }
+  }
+
+  /** Returns the budget of the current cycle, or {@code null} if no cells are allocated yet. */
+  @Nullable
+  private Budget currentBudget() {
+    Cells cells = this.cells;
+    return cells == null ? null : cells.budget;
+  }
+
+  /**
+   * Spends a sample of the cell's budget, returning whether there was one left. The budget is the
+   * one read before selecting the cell, so a measurement only ever counts against one cycle.
+   */
+  private boolean takeSample(@Nullable Budget budget, int bucket) {
+    if (budget == null) {
+      budget = cells().budget;
+    }
+    return budget.takeSample(bucket);
+  }
+
+  private Cells cells() {
+    Cells cells = this.cells;
+    if (cells == null) {
+      synchronized (this) {
+        cells = this.cells;
+        if (cells == null) {
+          cells = new Cells(size);
+          this.cells = cells;
+        }
+      }
+    }
+    return cells;
   }
 
   @Override
   public List<T> collectAndReset(Attributes pointAttributes) {
-    // Note: we are collecting exemplars from buckets piecemeal, but we
-    // could still be sampling exemplars during this process.
-    List<T> results = new ArrayList<>();
-    for (ReservoirCell reservoirCell : this.storage) {
-      T result = mapAndResetCell.apply(reservoirCell, pointAttributes);
-      if (result != null) {
-        results.add(result);
+    Cells cells = this.cells;
+    List<T> results;
+    if (cells == null) {
+      results = Collections.emptyList();
+    } else {
+      // Note: we are collecting exemplars from buckets piecemeal, but we
+      // could still be sampling exemplars during this process.
+      results = new ArrayList<>();
+      for (int i = 0; i < size; i++) {
+        ReservoirCell reservoirCell = cells.storage.getAndSet(i, null);
+        if (reservoirCell != null) {
+          results.add(mapCell.apply(reservoirCell, pointAttributes));
+        }
       }
+      cells.budget = new Budget(size);
+      results = Collections.unmodifiableList(results);
     }
     reservoirCellSelector.reset();
-    return Collections.unmodifiableList(results);
+    return results;
+  }
+
+  /** The sampled measurements of the cells, and the budget of the current cycle. */
+  private static final class Cells {
+    private final AtomicReferenceArray<ReservoirCell> storage;
+    private volatile Budget budget;
+
+    private Cells(int size) {
+      this.storage = new AtomicReferenceArray<>(size);
+      this.budget = new Budget(size);
+    }
+  }
+
+  /**
+   * The samples each cell may still take in a collection cycle. Each cycle has a new budget, so a
+   * measurement which spends a sample as the cycle ends only ever counts against the ending cycle.
+   */
+  private static final class Budget {
+    private final AtomicIntegerArray samplesRemaining;
+    // The number of cells which have spent their budget.
+    private final AtomicInteger exhaustedCells = new AtomicInteger();
+
+    private Budget(int size) {
+      this.samplesRemaining = new AtomicIntegerArray(size);
+      for (int i = 0; i < size; i++) {
+        samplesRemaining.set(i, SAMPLES_PER_CELL_PER_CYCLE);
+      }
+    }
+
+    private boolean isExhausted() {
+      return exhaustedCells.get() >= samplesRemaining.length();
+    }
+
+    /** Spends a sample of the cell's budget, returning whether there was one left. */
+    private boolean takeSample(int bucket) {
+      // Checked first so that a busy cell's budget doesn't keep decrementing until it overflows.
+      if (samplesRemaining.get(bucket) <= 0) {
+        return false;
+      }
+      int remaining = samplesRemaining.getAndDecrement(bucket);
+      if (remaining == 1) {
+        exhaustedCells.incrementAndGet();
+      }
+      return remaining > 0;
+    }
   }
 }
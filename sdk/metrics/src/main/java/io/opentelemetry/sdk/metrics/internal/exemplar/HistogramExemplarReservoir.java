@@ -20,7 +20,7 @@ class HistogramExemplarReservoir extends FixedSizeExemplarReservoir<DoubleExempl
         clock,
         boundaries.size() + 1,
         new HistogramCellSelector(boundaries),
-        ReservoirCell::getAndResetDouble);
+        ReservoirCell::toDoubleExemplar);
   }
 
   static class HistogramCellSelector implements ReservoirCellSelector {
@@ -33,13 +33,13 @@ class HistogramExemplarReservoir extends FixedSizeExemplarReservoir<DoubleExempl
 
     @Override
     public int reservoirCellIndexFor(
-        ReservoirCell[] cells, long value, Attributes attributes, Context context) {
-      return reservoirCellIndexFor(cells, (double) value, attributes, context);
+        int numCells, long value, Attributes attributes, Context context) {
+      return reservoirCellIndexFor(numCells, (double) value, attributes, context);
     }
 
     @Override
     public int reservoirCellIndexFor(
-        ReservoirCell[] cells, double value, Attributes attributes, Context context) {
+        int numCells, double value, Attributes attributes, Context context) {
       return ExplicitBucketHistogramUtils.findBucketIndex(boundaries, value);
     }
 
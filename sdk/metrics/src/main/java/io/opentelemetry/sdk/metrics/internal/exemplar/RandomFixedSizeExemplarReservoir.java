@@ -32,20 +32,20 @@ class RandomFixedSizeExemplarReservoir<T extends ExemplarData>
       Clock clock,
       int size,
       Supplier<Random> randomSupplier,
-      BiFunction<ReservoirCell, Attributes, T> mapAndResetCell) {
-    super(clock, size, new RandomCellSelector(randomSupplier), mapAndResetCell);
+      BiFunction<ReservoirCell, Attributes, T> mapCell) {
+    super(clock, size, new RandomCellSelector(randomSupplier), mapCell);
   }
 
   static RandomFixedSizeExemplarReservoir<LongExemplarData> createLong(
       Clock clock, int size, Supplier<Random> randomSupplier) {
     return new RandomFixedSizeExemplarReservoir<>(
-        clock, size, randomSupplier, ReservoirCell::getAndResetLong);
+        clock, size, randomSupplier, ReservoirCell::toLongExemplar);
   }
 
   static RandomFixedSizeExemplarReservoir<DoubleExemplarData> createDouble(
       Clock clock, int size, Supplier<Random> randomSupplier) {
     return new RandomFixedSizeExemplarReservoir<>(
-        clock, size, randomSupplier, ReservoirCell::getAndResetDouble);
+        clock, size, randomSupplier, ReservoirCell::toDoubleExemplar);
   }
 
   static class RandomCellSelector implements ReservoirCellSelector {
@@ -59,21 +59,21 @@ class RandomFixedSizeExemplarReservoir<T extends ExemplarData>
 
     @Override
     public int reservoirCellIndexFor(
-        ReservoirCell[] cells, long value, Attributes attributes, Context context) {
-      return reservoirCellIndex(cells);
+        int numCells, long value, Attributes attributes, Context context) {
+      return reservoirCellIndex(numCells);
     }
 
     @Override
     public int reservoirCellIndexFor(
-        ReservoirCell[] cells, double value, Attributes attributes, Context context) {
-      return reservoirCellIndex(cells);
+        int numCells, double value, Attributes attributes, Context context) {
+      return reservoirCellIndex(numCells);
     }
 
-    private int reservoirCellIndex(ReservoirCell[] cells) {
+    private int reservoirCellIndex(int numCells) {
       int count = numMeasurements.intValue() + 1;
       int index = this.randomSupplier.get().nextInt(count > 0 ? count : 1);
       numMeasurements.increment();
-      if (index < cells.length) {
+      if (index < numCells) {
         return index;
       }
       return -1;
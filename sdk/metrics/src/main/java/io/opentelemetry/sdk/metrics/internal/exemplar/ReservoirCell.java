@@ -17,107 +17,62 @@ import io.opentelemetry.sdk.metrics.data.LongExemplarData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableDoubleExemplarData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableLongExemplarData;
 import java.util.Set;
-import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
 
 /**
- * A Reservoir cell pre-allocated memories for Exemplar data.
+ * A measurement sampled into a reservoir cell.
  *
- * <p>We only allocate new objects during collection. This class should NOT cause allocations during
- * sampling or within the synchronous metric hot-path.
- *
- * <p>Allocations are acceptable in the {@link #getAndResetDouble(Attributes)} and {@link
- * #getAndResetLong(Attributes)} collection methods.
+ * <p>Cells are immutable, so a measurement is sampled by publishing a new cell in place of the
+ * previous one, and concurrent samples to the same cell cannot be torn. Exemplars are only built
+ * from cells on collection, by {@link #toDoubleExemplar(Attributes)} or {@link
+ * #toLongExemplar(Attributes)}.
  */
-class ReservoirCell {
-  private final Clock clock;
-  @Nullable private Attributes attributes;
-  private SpanContext spanContext = SpanContext.getInvalid();
-  private long recordTime;
-
-  // Cell stores either long or double values, but must not store both
-  private long longValue;
-  private double doubleValue;
+@Immutable
+final class ReservoirCell {
+  private final Attributes attributes;
+  private final SpanContext spanContext;
+  private final long recordTime;
+  private final long longValue;
+  private final double doubleValue;
 
-  ReservoirCell(Clock clock) {
-    this.clock = clock;
+  private ReservoirCell(
+      Attributes attributes,
+      SpanContext spanContext,
+      long recordTime,
+      long longValue,
+      double doubleValue) {
+    this.attributes = attributes;
+    this.spanContext = spanContext;
+    this.recordTime = recordTime;
+    this.longValue = longValue;
+    this.doubleValue = doubleValue;
   }
 
-  /**
-   * Record the long measurement to the cell.
-   *
-   * <p>Must be used in tandem with {@link #getAndResetLong(Attributes)}. {@link
-   * #recordDoubleMeasurement(double, Attributes, Context)} and {@link
-   * #getAndResetDouble(Attributes)} must not be used when a cell is recording longs.
-   */
-  synchronized void recordLongMeasurement(long value, Attributes attributes, Context context) {
-    this.longValue = value;
-    offerMeasurement(attributes, context);
+  /** Returns a cell for the long measurement. */
+  static ReservoirCell ofLong(Clock clock, long value, Attributes attributes, Context context) {
+    return new ReservoirCell(attributes, spanContext(context), clock.now(), value, value);
   }
 
-  /**
-   * Record the long measurement to the cell.
-   *
-   * <p>Must be used in tandem with {@link #getAndResetDouble(Attributes)}. {@link
-   * #recordLongMeasurement(long, Attributes, Context)} and {@link #getAndResetLong(Attributes)}
-   * must not be used when a cell is recording longs.
-   */
-  synchronized void recordDoubleMeasurement(double value, Attributes attributes, Context context) {
-    this.doubleValue = value;
-    offerMeasurement(attributes, context);
+  /** Returns a cell for the double measurement. */
+  static ReservoirCell ofDouble(Clock clock, double value, Attributes attributes, Context context) {
+    return new ReservoirCell(attributes, spanContext(context), clock.now(), (long) value, value);
   }
 
-  private void offerMeasurement(Attributes attributes, Context context) {
-    this.attributes = attributes;
+  private static SpanContext spanContext(Context context) {
     // Note: It may make sense in the future to attempt to pull this from an active span.
-    this.recordTime = clock.now();
-    Span current = Span.fromContext(context);
-    if (current.getSpanContext().isValid()) {
-      this.spanContext = current.getSpanContext();
-    }
+    return Span.fromContext(context).getSpanContext();
   }
 
-  /**
-   * Retrieve the cell's {@link ExemplarData}.
-   *
-   * <p>Must be used in tandem with {@link #recordLongMeasurement(long, Attributes, Context)}.
-   */
-  @Nullable
-  synchronized LongExemplarData getAndResetLong(Attributes pointAttributes) {
-    Attributes attributes = this.attributes;
-    if (attributes == null) {
-      return null;
-    }
-    LongExemplarData result =
-        ImmutableLongExemplarData.create(
-            filtered(attributes, pointAttributes), recordTime, spanContext, longValue);
-    reset();
-    return result;
-  }
-
-  /**
-   * Retrieve the cell's {@link ExemplarData}.
-   *
-   * <p>Must be used in tandem with {@link #recordDoubleMeasurement(double, Attributes, Context)}.
-   */
-  @Nullable
-  synchronized DoubleExemplarData getAndResetDouble(Attributes pointAttributes) {
-    Attributes attributes = this.attributes;
-    if (attributes == null) {
-      return null;
-    }
-    DoubleExemplarData result =
-        ImmutableDoubleExemplarData.create(
-            filtered(attributes, pointAttributes), recordTime, spanContext, doubleValue);
-    reset();
-    return result;
+  /** Returns the cell's {@link ExemplarData}, excluding the {@code pointAttributes}. */
+  LongExemplarData toLongExemplar(Attributes pointAttributes) {
+    return ImmutableLongExemplarData.create(
+        filtered(attributes, pointAttributes), recordTime, spanContext, longValue);
   }
 
-  synchronized void reset() {
-    this.attributes = null;
-    this.longValue = 0;
-    this.doubleValue = 0;
-    this.spanContext = SpanContext.getInvalid();
-    this.recordTime = 0;
+  /** Returns the cell's {@link ExemplarData}, excluding the {@code pointAttributes}. */
+  DoubleExemplarData toDoubleExemplar(Attributes pointAttributes) {
+    return ImmutableDoubleExemplarData.create(
+        filtered(attributes, pointAttributes), recordTime, spanContext, doubleValue);
   }
 
   /** Returns filtered attributes for exemplars. */
@@ -11,13 +11,11 @@ import io.opentelemetry.context.Context;
 /** Selects which {@link FixedSizeExemplarReservoir} {@link ReservoirCell} receives measurements. */
 interface ReservoirCellSelector {
 
-  /** Determine the index of the {@code cells} to record the measurement to. */
-  int reservoirCellIndexFor(
-      ReservoirCell[] cells, long value, Attributes attributes, Context context);
+  /** Determine the index of the cell, of {@code numCells}, to record the measurement to. */
+  int reservoirCellIndexFor(int numCells, long value, Attributes attributes, Context context);
 
-  /** Determine the index of the {@code cells} to record the measurement to. */
-  int reservoirCellIndexFor(
-      ReservoirCell[] cells, double value, Attributes attributes, Context context);
+  /** Determine the index of the cell, of {@code numCells}, to record the measurement to. */
+  int reservoirCellIndexFor(int numCells, double value, Attributes attributes, Context context);
 
   /** Called when {@link FixedSizeExemplarReservoir#collectAndReset(Attributes)}. */
   void reset();
@@ -17,6 +17,7 @@ import io.opentelemetry.sdk.metrics.data.ExemplarData;
 import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.metrics.internal.aggregator.Aggregator;
 import io.opentelemetry.sdk.metrics.internal.aggregator.AggregatorFactory;
+import io.opentelemetry.sdk.metrics.internal.aggregator.EmptyMetricData;
 import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
 import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
@@ -25,13 +26,22 @@ import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
 import io.opentelemetry.sdk.metrics.internal.view.RegisteredView;
 import io.opentelemetry.sdk.resources.Resource;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * Stores aggregated {@link MetricData} for asynchronous instruments.
  *
+ * <p>Each series, a distinct set of attributes, keeps its slot across collections for as long as
+ * it is observed. Callbacks tend to observe the same series each collection, so collecting reuses
+ * the slots and computes deltas in place, rather than building maps of every series recorded and
+ * diffing them with those of the previous collection. A series not observed in a collection is
+ * removed, unless the callback observing it did not complete in time, see {@link
+ * #retainUnobservedSeries()}.
+ *
  * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
  * at any time.
  */
@@ -41,41 +51,58 @@ final class AsynchronousMetricStorage<T, U extends ExemplarData> implements Metr
   private final ThrottlingLogger throttlingLogger = new ThrottlingLogger(logger);
   private final RegisteredReader registeredReader;
   private final MetricDescriptor metricDescriptor;
-  private final TemporalMetricStorage<T, U> metricStorage;
+  private final AggregationTemporality aggregationTemporality;
   private final Aggregator<T, U> aggregator;
   private final AttributesProcessor attributesProcessor;
-  private Map<Attributes, T> accumulations = new HashMap<>();
+  private final Map<Attributes, Series<T>> series = new HashMap<>();
+  // The points of a collection, reused by each collection.
+  private final Map<Attributes, T> points = new HashMap<>();
+  // Guards recording and collection when callbacks are invoked concurrently by a
+  // ParallelCallbackInvoker, null otherwise.
+  @Nullable private final Object lock;
+  // The number of series observed since the last collection.
+  private int seriesObserved;
+  // Whether the next collection keeps the series which were not observed.
+  private boolean retainUnobservedSeries;
 
   private AsynchronousMetricStorage(
       RegisteredReader registeredReader,
       MetricDescriptor metricDescriptor,
       Aggregator<T, U> aggregator,
-      AttributesProcessor attributesProcessor) {
+      AttributesProcessor attributesProcessor,
+      boolean concurrentRecording) {
     this.registeredReader = registeredReader;
     this.metricDescriptor = metricDescriptor;
-    AggregationTemporality aggregationTemporality =
+    this.aggregationTemporality =
         registeredReader
             .getReader()
             .getAggregationTemporality(metricDescriptor.getSourceInstrument().getType());
-    this.metricStorage =
-        new TemporalMetricStorage<>(
-            aggregator,
-            /* isSynchronous= */ false,
-            registeredReader,
-            aggregationTemporality,
-            metricDescriptor);
     this.aggregator = aggregator;
     this.attributesProcessor = attributesProcessor;
+    this.lock = concurrentRecording ? new Object() : null;
   }
 
   /**
    * Create an asynchronous storage instance for the {@link View} and {@link InstrumentDescriptor}.
    */
-  // TODO(anuraaga): The cast to generic type here looks suspicious.
   static <T, U extends ExemplarData> AsynchronousMetricStorage<T, U> create(
       RegisteredReader registeredReader,
       RegisteredView registeredView,
       InstrumentDescriptor instrumentDescriptor) {
+    return create(
+        registeredReader, registeredView, instrumentDescriptor, /* concurrentRecording= */ false);
+  }
+
+  /**
+   * Create an asynchronous storage instance for the {@link View} and {@link InstrumentDescriptor},
+   * which is safe to record to concurrently if {@code concurrentRecording} is set.
+   */
+  // TODO(anuraaga): The cast to generic type here looks suspicious.
+  static <T, U extends ExemplarData> AsynchronousMetricStorage<T, U> create(
+      RegisteredReader registeredReader,
+      RegisteredView registeredView,
+      InstrumentDescriptor instrumentDescriptor,
+      boolean concurrentRecording) {
     View view = registeredView.getView();
     MetricDescriptor metricDescriptor =
         MetricDescriptor.create(view, registeredView.getViewSourceInfo(), instrumentDescriptor);
@@ -86,7 +113,8 @@ final class AsynchronousMetricStorage<T, U extends ExemplarData> implements Metr
         registeredReader,
         metricDescriptor,
         aggregator,
-        registeredView.getViewAttributesProcessor());
+        registeredView.getViewAttributesProcessor(),
+        concurrentRecording);
   }
 
   /** Record callback long measurements from {@link ObservableLongMeasurement}. */
@@ -106,9 +134,20 @@ final class AsynchronousMetricStorage<T, U extends ExemplarData> implements Metr
   }
 
   private void recordAccumulation(T accumulation, Attributes attributes) {
+    Object lock = this.lock;
+    if (lock == null) {
+      doRecordAccumulation(accumulation, attributes);
+      return;
+    }
+    synchronized (lock) {
+      doRecordAccumulation(accumulation, attributes);
+    }
+  }
+
+  private void doRecordAccumulation(T accumulation, Attributes attributes) {
     Attributes processedAttributes = attributesProcessor.process(attributes, Context.current());
 
-    if (accumulations.size() >= MetricStorageUtils.MAX_ACCUMULATIONS) {
+    if (seriesObserved >= MetricStorageUtils.MAX_ACCUMULATIONS) {
       throttlingLogger.log(
           Level.WARNING,
           "Instrument "
@@ -119,8 +158,12 @@ final class AsynchronousMetricStorage<T, U extends ExemplarData> implements Metr
       return;
     }
 
-    // Check there is not already a recording for the attributes
-    if (accumulations.containsKey(attributes)) {
+    Series<T> observed = series.get(processedAttributes);
+    if (observed == null) {
+      observed = new Series<>();
+      series.put(processedAttributes, observed);
+    } else if (observed.current != null) {
+      // Check there is not already a recording for the attributes
       throttlingLogger.log(
           Level.WARNING,
           "Instrument "
@@ -129,7 +172,8 @@ final class AsynchronousMetricStorage<T, U extends ExemplarData> implements Metr
       return;
     }
 
-    accumulations.put(processedAttributes, accumulation);
+    observed.current = accumulation;
+    this.seriesObserved++;
   }
 
   @Override
@@ -142,20 +186,89 @@ final class AsynchronousMetricStorage<T, U extends ExemplarData> implements Metr
     return registeredReader;
   }
 
+  /**
+   * Keeps the series which are not observed before the next collection, rather than removing them,
+   * as a callback recording to this storage did not complete in time. Their previous values are
+   * kept, so that a delta is computed from them once the series are observed again.
+   */
+  void retainUnobservedSeries() {
+    this.retainUnobservedSeries = true;
+  }
+
   @Override
   public MetricData collectAndReset(
       Resource resource,
       InstrumentationScopeInfo instrumentationScopeInfo,
       long startEpochNanos,
       long epochNanos) {
-    Map<Attributes, T> currentAccumulations = accumulations;
-    accumulations = new HashMap<>();
-    return metricStorage.buildMetricFor(
-        resource, instrumentationScopeInfo, currentAccumulations, startEpochNanos, epochNanos);
+    Object lock = this.lock;
+    if (lock == null) {
+      return doCollectAndReset(resource, instrumentationScopeInfo, startEpochNanos, epochNanos);
+    }
+    synchronized (lock) {
+      return doCollectAndReset(resource, instrumentationScopeInfo, startEpochNanos, epochNanos);
+    }
+  }
+
+  private MetricData doCollectAndReset(
+      Resource resource,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      long startEpochNanos,
+      long epochNanos) {
+    long lastCollectionEpoch = registeredReader.getLastCollectEpochNanos();
+    Iterator<Map.Entry<Attributes, Series<T>>> iterator = series.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<Attributes, Series<T>> entry = iterator.next();
+      Series<T> observed = entry.getValue();
+      T current = observed.current;
+      if (current == null) {
+        // Not observed since the last collection, so a later observation starts a new series.
+        if (!retainUnobservedSeries) {
+          iterator.remove();
+        }
+        continue;
+      }
+      observed.current = null;
+      // Asynchronous instruments record cumulative values, so diff with the previous value for
+      // delta temporality.
+      if (aggregationTemporality == AggregationTemporality.DELTA) {
+        T previous = observed.previous;
+        points.put(entry.getKey(), previous == null ? current : aggregator.diff(previous, current));
+        observed.previous = current;
+      } else {
+        points.put(entry.getKey(), current);
+      }
+    }
+    this.seriesObserved = 0;
+    this.retainUnobservedSeries = false;
+
+    if (points.isEmpty()) {
+      return EmptyMetricData.getInstance();
+    }
+    MetricData result =
+        aggregator.toMetricData(
+            resource,
+            instrumentationScopeInfo,
+            metricDescriptor,
+            points,
+            aggregationTemporality,
+            startEpochNanos,
+            lastCollectionEpoch,
+            epochNanos);
+    points.clear();
+    return result;
   }
 
   @Override
   public boolean isEmpty() {
     return aggregator == Aggregator.drop();
   }
+
+  /** The accumulations of a series. */
+  private static final class Series<T> {
+    // The value observed since the last collection, if any.
+    @Nullable private T current;
+    // The value observed before the last collection, only kept for delta temporality.
+    @Nullable private T previous;
+  }
 }
@@ -15,6 +15,7 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 
 /**
  * A registered callback.
@@ -91,8 +92,41 @@ public final class CallbackRegistration {
     }
     // Set the active reader on each observable measurement so that measurements are only recorded
     // to relevant storages
+    setActiveReader(reader);
+    try {
+      runCallback();
+    } finally {
+      setActiveReader(null);
+    }
+  }
+
+  /** Returns whether any storages are registered, without which the callback need not be run. */
+  boolean hasStorages() {
+    return hasStorages;
+  }
+
+  /** Sets the reader which measurements recorded by the callback are recorded for. */
+  void setActiveReader(@Nullable RegisteredReader reader) {
     observableMeasurements.forEach(
         observableMeasurement -> observableMeasurement.setActiveReader(reader));
+  }
+
+  /**
+   * Keeps the series of the {@code reader}'s storages which the callback does not observe before
+   * the next collection, as it did not complete in time.
+   */
+  void retainUnobservedSeries(RegisteredReader reader) {
+    for (SdkObservableMeasurement observableMeasurement : observableMeasurements) {
+      for (AsynchronousMetricStorage<?, ?> storage : observableMeasurement.getStorages()) {
+        if (storage.getRegisteredReader().equals(reader)) {
+          storage.retainUnobservedSeries();
+        }
+      }
+    }
+  }
+
+  /** Runs the callback, logging any exception it throws. */
+  void runCallback() {
     try {
       callback.run();
     } catch (Throwable e) {
@@ -101,9 +135,6 @@ public final class CallbackRegistration {
           Level.WARNING,
           "An exception occurred invoking callback for " + callbackDescription + ".",
           e);
-    } finally {
-      observableMeasurements.forEach(
-          observableMeasurement -> observableMeasurement.setActiveReader(null));
     }
   }
 }
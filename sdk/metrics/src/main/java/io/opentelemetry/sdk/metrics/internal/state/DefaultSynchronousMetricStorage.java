@@ -20,7 +20,10 @@ import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
 import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
 import io.opentelemetry.sdk.resources.Resource;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
@@ -30,6 +33,11 @@ import java.util.logging.Logger;
 /**
  * Stores aggregated {@link MetricData} for synchronous instruments.
  *
+ * <p>A single storage is shared by all readers for a given view, so recording a measurement costs
+ * the same no matter how many readers are registered. Each reader collects through its own {@link
+ * #getReaderStorage(RegisteredReader) reader storage}, which keeps the deltas not yet reported to
+ * that reader and applies the reader's aggregation temporality at collection time.
+ *
  * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
  * at any time.
  */
@@ -40,34 +48,52 @@ public final class DefaultSynchronousMetricStorage<T, U extends ExemplarData>
       new ThrottlingLogger(Logger.getLogger(DefaultSynchronousMetricStorage.class.getName()));
   private static final BoundStorageHandle NOOP_STORAGE_HANDLE = new NoopBoundHandle();
 
-  private final RegisteredReader registeredReader;
   private final MetricDescriptor metricDescriptor;
   private final Aggregator<T, U> aggregator;
   private final ConcurrentHashMap<Attributes, AggregatorHandle<T, U>> activeCollectionStorage =
       new ConcurrentHashMap<>();
-  private final TemporalMetricStorage<T, U> temporalMetricStorage;
   private final AttributesProcessor attributesProcessor;
+  private final List<ReaderStorage> readerStorages;
 
   DefaultSynchronousMetricStorage(
       RegisteredReader registeredReader,
       MetricDescriptor metricDescriptor,
       Aggregator<T, U> aggregator,
       AttributesProcessor attributesProcessor) {
-    this.registeredReader = registeredReader;
+    this(
+        Collections.singletonList(registeredReader),
+        metricDescriptor,
+        aggregator,
+        attributesProcessor);
+  }
+
+  DefaultSynchronousMetricStorage(
+      List<RegisteredReader> registeredReaders,
+      MetricDescriptor metricDescriptor,
+      Aggregator<T, U> aggregator,
+      AttributesProcessor attributesProcessor) {
+    if (registeredReaders.isEmpty()) {
+      throw new IllegalArgumentException("registeredReaders must not be empty");
+    }
     this.metricDescriptor = metricDescriptor;
-    AggregationTemporality aggregationTemporality =
-        registeredReader
-            .getReader()
-            .getAggregationTemporality(metricDescriptor.getSourceInstrument().getType());
     this.aggregator = aggregator;
-    this.temporalMetricStorage =
-        new TemporalMetricStorage<>(
-            aggregator,
-            /* isSynchronous= */ true,
-            registeredReader,
-            aggregationTemporality,
-            metricDescriptor);
-    this.attributesProcessor = attributesProcessor;
+    // Processing typically rebuilds the attributes, while the same attributes recur constantly.
+    this.attributesProcessor = attributesProcessor.memoize(MAX_ACCUMULATIONS);
+    List<ReaderStorage> readerStorages = new ArrayList<>(registeredReaders.size());
+    for (RegisteredReader registeredReader : registeredReaders) {
+      readerStorages.add(new ReaderStorage(registeredReader));
+    }
+    this.readerStorages = Collections.unmodifiableList(readerStorages);
+  }
+
+  @Override
+  public SynchronousMetricStorage getReaderStorage(RegisteredReader registeredReader) {
+    for (ReaderStorage readerStorage : readerStorages) {
+      if (readerStorage.registeredReader == registeredReader) {
+        return readerStorage;
+      }
+    }
+    throw new IllegalArgumentException("Reader is not registered with this storage");
   }
 
   // This is a storage handle to use when the attributes processor requires
@@ -159,13 +185,24 @@ public final class DefaultSynchronousMetricStorage<T, U extends ExemplarData>
     }
   }
 
+  // Collects for the first registered reader, which is the only one when not shared.
   @Override
   public MetricData collectAndReset(
       Resource resource,
       InstrumentationScopeInfo instrumentationScopeInfo,
       long startEpochNanos,
       long epochNanos) {
-    // Grab accumulated measurements.
+    return readerStorages
+        .get(0)
+        .collectAndReset(resource, instrumentationScopeInfo, startEpochNanos, epochNanos);
+  }
+
+  /**
+   * Grabs the measurements accumulated since the last collection by any reader, hands them to every
+   * reader other than {@code collectingReader} to report on their next collection, and returns them
+   * merged with the ones not yet reported to {@code collectingReader}.
+   */
+  private Map<Attributes, T> collectFor(ReaderStorage collectingReader) {
     Map<Attributes, T> accumulations = new HashMap<>();
     for (Map.Entry<Attributes, AggregatorHandle<T, U>> entry : activeCollectionStorage.entrySet()) {
       boolean unmappedEntry = entry.getValue().tryUnmap();
@@ -181,8 +218,13 @@ public final class DefaultSynchronousMetricStorage<T, U extends ExemplarData>
       accumulations.put(entry.getKey(), accumulation);
     }
 
-    return temporalMetricStorage.buildMetricFor(
-        resource, instrumentationScopeInfo, accumulations, startEpochNanos, epochNanos);
+    // Accumulations are immutable, so the same instances can be handed to every reader.
+    for (ReaderStorage readerStorage : readerStorages) {
+      if (readerStorage != collectingReader) {
+        readerStorage.addUnreported(accumulations);
+      }
+    }
+    return collectingReader.takeUnreported(accumulations);
   }
 
   @Override
@@ -192,7 +234,102 @@ public final class DefaultSynchronousMetricStorage<T, U extends ExemplarData>
 
   @Override
   public RegisteredReader getRegisteredReader() {
-    return registeredReader;
+    return readerStorages.get(0).registeredReader;
+  }
+
+  /**
+   * The view of a {@link DefaultSynchronousMetricStorage} for a single reader. Recording is
+   * delegated to the shared storage, while collection reports the shared measurements with the
+   * aggregation temporality of the reader.
+   */
+  private final class ReaderStorage implements SynchronousMetricStorage {
+    private final RegisteredReader registeredReader;
+    private final TemporalMetricStorage<T, U> temporalMetricStorage;
+    // Deltas collected on behalf of other readers which have not been reported to this reader yet.
+    // Guarded by the shared storage.
+    private Map<Attributes, T> unreported = new HashMap<>();
+
+    private ReaderStorage(RegisteredReader registeredReader) {
+      this.registeredReader = registeredReader;
+      AggregationTemporality aggregationTemporality =
+          registeredReader
+              .getReader()
+              .getAggregationTemporality(metricDescriptor.getSourceInstrument().getType());
+      this.temporalMetricStorage =
+          new TemporalMetricStorage<>(
+              aggregator,
+              /* isSynchronous= */ true,
+              registeredReader,
+              aggregationTemporality,
+              metricDescriptor);
+    }
+
+    private void addUnreported(Map<Attributes, T> accumulations) {
+      MetricStorageUtils.mergeAndPreserveInPlace(unreported, accumulations, aggregator);
+      // Readers which are collected rarely could otherwise accumulate unbounded attribute sets.
+      if (unreported.size() > MAX_ACCUMULATIONS) {
+        int size = unreported.size();
+        MetricStorageUtils.removeUnseen(unreported, accumulations);
+        logger.log(
+            Level.WARNING,
+            "Instrument "
+                + metricDescriptor.getSourceInstrument().getName()
+                + " has exceeded the maximum allowed accumulations ("
+                + MAX_ACCUMULATIONS
+                + ") not yet collected by a reader, dropping "
+                + (size - unreported.size())
+                + " of them.");
+      }
+    }
+
+    private Map<Attributes, T> takeUnreported(Map<Attributes, T> accumulations) {
+      if (unreported.isEmpty()) {
+        return accumulations;
+      }
+      Map<Attributes, T> result = unreported;
+      MetricStorageUtils.mergeAndPreserveInPlace(result, accumulations, aggregator);
+      unreported = new HashMap<>();
+      return result;
+    }
+
+    @Override
+    public BoundStorageHandle bind(Attributes attributes) {
+      return DefaultSynchronousMetricStorage.this.bind(attributes);
+    }
+
+    @Override
+    public void recordLong(long value, Attributes attributes, Context context) {
+      DefaultSynchronousMetricStorage.this.recordLong(value, attributes, context);
+    }
+
+    @Override
+    public void recordDouble(double value, Attributes attributes, Context context) {
+      DefaultSynchronousMetricStorage.this.recordDouble(value, attributes, context);
+    }
+
+    @Override
+    public MetricData collectAndReset(
+        Resource resource,
+        InstrumentationScopeInfo instrumentationScopeInfo,
+        long startEpochNanos,
+        long epochNanos) {
+      Map<Attributes, T> accumulations;
+      synchronized (DefaultSynchronousMetricStorage.this) {
+        accumulations = collectFor(this);
+      }
+      return temporalMetricStorage.buildMetricFor(
+          resource, instrumentationScopeInfo, accumulations, startEpochNanos, epochNanos);
+    }
+
+    @Override
+    public MetricDescriptor getMetricDescriptor() {
+      return metricDescriptor;
+    }
+
+    @Override
+    public RegisteredReader getRegisteredReader() {
+      return registeredReader;
+    }
   }
 
   /** An implementation of {@link BoundStorageHandle} that does not record. */
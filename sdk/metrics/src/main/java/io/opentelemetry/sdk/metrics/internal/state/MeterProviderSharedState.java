@@ -11,6 +11,7 @@ import io.opentelemetry.sdk.metrics.SdkMeterProvider;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import io.opentelemetry.sdk.metrics.internal.view.ViewRegistry;
 import io.opentelemetry.sdk.resources.Resource;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -27,9 +28,10 @@ public abstract class MeterProviderSharedState {
       Resource resource,
       ViewRegistry viewRegistry,
       ExemplarFilter exemplarFilter,
-      long startEpochNanos) {
+      long startEpochNanos,
+      @Nullable ParallelCallbackInvoker callbackInvoker) {
     return new AutoValue_MeterProviderSharedState(
-        clock, resource, viewRegistry, startEpochNanos, exemplarFilter);
+        clock, resource, viewRegistry, startEpochNanos, exemplarFilter, callbackInvoker);
   }
 
   MeterProviderSharedState() {}
@@ -48,4 +50,11 @@ public abstract class MeterProviderSharedState {
 
   /** Returns the {@link ExemplarFilter} for remembering synchronous measurements. */
   abstract ExemplarFilter getExemplarFilter();
+
+  /**
+   * Returns the {@link ParallelCallbackInvoker} for invoking callbacks concurrently, or {@code
+   * null} if they are invoked on the collecting thread.
+   */
+  @Nullable
+  abstract ParallelCallbackInvoker getCallbackInvoker();
 }
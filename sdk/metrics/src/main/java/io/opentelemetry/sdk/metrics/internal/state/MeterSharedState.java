@@ -19,6 +19,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 /**
@@ -37,6 +39,12 @@ public class MeterSharedState {
 
   private final Map<RegisteredReader, MetricStorageRegistry> readerStorageRegistries;
 
+  // Synchronous instruments by descriptor, so building an identical instrument again, as callers
+  // not keeping the instruments they build do for every measurement, returns the existing one
+  // without registering storage.
+  private final ConcurrentHashMap<InstrumentDescriptor, Object> synchronousInstruments =
+      new ConcurrentHashMap<>();
+
   private final InstrumentationScopeInfo instrumentationScopeInfo;
 
   private MeterSharedState(
@@ -92,8 +100,13 @@ public class MeterSharedState {
     }
     // Collections across all readers are sequential
     synchronized (collectLock) {
-      for (CallbackRegistration callbackRegistration : currentRegisteredCallbacks) {
-        callbackRegistration.invokeCallback(registeredReader);
+      ParallelCallbackInvoker callbackInvoker = meterProviderSharedState.getCallbackInvoker();
+      if (callbackInvoker != null) {
+        callbackInvoker.invokeAll(currentRegisteredCallbacks, registeredReader);
+      } else {
+        for (CallbackRegistration callbackRegistration : currentRegisteredCallbacks) {
+          callbackRegistration.invokeCallback(registeredReader);
+        }
       }
 
       Collection<MetricStorage> storages =
@@ -123,33 +136,62 @@ public class MeterSharedState {
         callbackRegistrations.clear();
       }
       this.readerStorageRegistries.values().forEach(MetricStorageRegistry::resetForTest);
+      synchronousInstruments.clear();
+    }
+  }
+
+  /**
+   * Returns the synchronous instrument previously built for an identical descriptor, or builds it
+   * from newly registered storage.
+   */
+  @SuppressWarnings("unchecked")
+  public final <I> I getOrBuildSynchronousInstrument(
+      InstrumentDescriptor instrument,
+      MeterProviderSharedState meterProviderSharedState,
+      BiFunction<InstrumentDescriptor, WriteableMetricStorage, I> instrumentFactory) {
+    // The descriptor determines the type of instrument, so a cached instrument is always an I.
+    Object existing = synchronousInstruments.get(instrument);
+    if (existing != null) {
+      return (I) existing;
     }
+    return (I)
+        synchronousInstruments.computeIfAbsent(
+            instrument,
+            unused ->
+                instrumentFactory.apply(
+                    instrument,
+                    registerSynchronousMetricStorage(instrument, meterProviderSharedState)));
   }
 
   /** Registers new synchronous storage associated with a given instrument. */
   public final WriteableMetricStorage registerSynchronousMetricStorage(
       InstrumentDescriptor instrument, MeterProviderSharedState meterProviderSharedState) {
 
-    List<SynchronousMetricStorage> registeredStorages = new ArrayList<>();
+    List<RegisteredReader> readers = new ArrayList<>(readerStorageRegistries.keySet());
+    List<WriteableMetricStorage> registeredStorages = new ArrayList<>();
     for (RegisteredView registeredView :
         meterProviderSharedState
             .getViewRegistry()
             .findViews(instrument, getInstrumentationScopeInfo())) {
-      if (Aggregation.drop() == registeredView.getView().getAggregation()) {
+      if (Aggregation.drop() == registeredView.getView().getAggregation() || readers.isEmpty()) {
         continue;
       }
+      // Measurements are aggregated once per view, with each reader collecting from its own view of
+      // the shared storage.
+      SynchronousMetricStorage storage =
+          SynchronousMetricStorage.create(
+              readers, registeredView, instrument, meterProviderSharedState.getExemplarFilter());
+      WriteableMetricStorage writeableStorage = storage;
       for (Map.Entry<RegisteredReader, MetricStorageRegistry> entry :
           readerStorageRegistries.entrySet()) {
-        RegisteredReader reader = entry.getKey();
-        MetricStorageRegistry registry = entry.getValue();
-        registeredStorages.add(
-            registry.register(
-                SynchronousMetricStorage.create(
-                    reader,
-                    registeredView,
-                    instrument,
-                    meterProviderSharedState.getExemplarFilter())));
+        SynchronousMetricStorage readerStorage = storage.getReaderStorage(entry.getKey());
+        SynchronousMetricStorage registered = entry.getValue().register(readerStorage);
+        if (registered != readerStorage) {
+          // An identical storage was previously registered, which the new instrument records to.
+          writeableStorage = registered;
+        }
       }
+      registeredStorages.add(writeableStorage);
     }
 
     if (registeredStorages.size() == 1) {
@@ -178,7 +220,11 @@ public class MeterSharedState {
         MetricStorageRegistry registry = entry.getValue();
         registeredStorages.add(
             registry.register(
-                AsynchronousMetricStorage.create(reader, registeredView, instrumentDescriptor)));
+                AsynchronousMetricStorage.create(
+                    reader,
+                    registeredView,
+                    instrumentDescriptor,
+                    meterProviderSharedState.getCallbackInvoker() != null)));
       }
     }
 
@@ -0,0 +1,236 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import static io.opentelemetry.api.common.AttributeKey.booleanKey;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.sdk.internal.ThrottlingLogger;
+import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * Invokes the callbacks registered to a meter concurrently on an {@link ExecutorService}, waiting
+ * at most a fixed timeout for them to complete.
+ *
+ * <p>A callback which has not completed within the timeout is not interrupted. The measurements it
+ * recorded until then are collected, and any it records afterwards are dropped. It is skipped by
+ * subsequent collections until it completes, so a callback which never returns holds on to at most
+ * one thread of the executor. The series which a timed out or skipped callback did not get to
+ * observe keep their previous state rather than being removed, so that they are resumed, rather
+ * than restarted, once the callback observes them again.
+ *
+ * <p>The duration of each callback is recorded to the {@code otel.sdk.metrics.callback.duration}
+ * histogram of the {@code io.opentelemetry.sdk.metrics} meter, with {@code timed_out=true} if it
+ * did not complete within the timeout.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ParallelCallbackInvoker {
+
+  private static final Logger logger = Logger.getLogger(ParallelCallbackInvoker.class.getName());
+
+  private static final AttributeKey<Boolean> TIMED_OUT_KEY = booleanKey("timed_out");
+  private static final Attributes COMPLETED_ATTRIBUTES = Attributes.of(TIMED_OUT_KEY, false);
+  private static final Attributes TIMED_OUT_ATTRIBUTES = Attributes.of(TIMED_OUT_KEY, true);
+
+  // The invocation whose callback is running on the current thread, if any.
+  private static final ThreadLocal<Invocation> currentInvocation = new ThreadLocal<>();
+
+  private final ThrottlingLogger throttlingLogger = new ThrottlingLogger(logger);
+  private final ExecutorService executor;
+  private final long timeoutNanos;
+  private final MeterProvider meterProvider;
+  private final Set<CallbackRegistration> runningCallbacks = ConcurrentHashMap.newKeySet();
+  // Built on first use, as the meter provider may still be under construction when this is.
+  @Nullable private volatile DoubleHistogram callbackDuration;
+
+  private ParallelCallbackInvoker(
+      ExecutorService executor, long timeoutNanos, MeterProvider meterProvider) {
+    this.executor = executor;
+    this.timeoutNanos = timeoutNanos;
+    this.meterProvider = meterProvider;
+  }
+
+  /**
+   * Create a {@link ParallelCallbackInvoker}.
+   *
+   * @param executor the executor to invoke callbacks on
+   * @param timeoutNanos the maximum time to wait for callbacks to complete
+   * @param meterProvider the meter provider to record callback durations to
+   * @return the callback invoker
+   */
+  public static ParallelCallbackInvoker create(
+      ExecutorService executor, long timeoutNanos, MeterProvider meterProvider) {
+    return new ParallelCallbackInvoker(executor, timeoutNanos, meterProvider);
+  }
+
+  /**
+   * Invokes the {@code callbackRegistrations} for the {@code reader}, returning once they have all
+   * completed or the timeout has elapsed.
+   */
+  void invokeAll(List<CallbackRegistration> callbackRegistrations, RegisteredReader reader) {
+    long deadlineNanos = System.nanoTime() + timeoutNanos;
+    List<Invocation> invocations = new ArrayList<>(callbackRegistrations.size());
+    for (CallbackRegistration callbackRegistration : callbackRegistrations) {
+      if (!callbackRegistration.hasStorages()) {
+        continue;
+      }
+      if (!runningCallbacks.add(callbackRegistration)) {
+        throttlingLogger.log(
+            Level.WARNING,
+            "Skipping callback for "
+                + callbackRegistration.getCallbackDescription()
+                + ", which has not completed since an earlier collection.");
+        callbackRegistration.retainUnobservedSeries(reader);
+        continue;
+      }
+      callbackRegistration.setActiveReader(reader);
+      invocations.add(new Invocation(callbackRegistration));
+    }
+
+    try {
+      for (Invocation invocation : invocations) {
+        try {
+          invocation.future = executor.submit(invocation);
+        } catch (RejectedExecutionException e) {
+          invocation.run();
+        }
+      }
+      for (Invocation invocation : invocations) {
+        Future<?> future = invocation.future;
+        if (future == null || awaitCompletion(future, deadlineNanos)) {
+          continue;
+        }
+        invocation.markTimedOut();
+        invocation.callbackRegistration.retainUnobservedSeries(reader);
+        throttlingLogger.log(
+            Level.WARNING,
+            "Callback for "
+                + invocation.callbackRegistration.getCallbackDescription()
+                + " did not complete within "
+                + TimeUnit.NANOSECONDS.toMillis(timeoutNanos)
+                + "ms. Only the measurements it recorded until then are collected.");
+      }
+    } finally {
+      for (Invocation invocation : invocations) {
+        invocation.callbackRegistration.setActiveReader(null);
+      }
+    }
+  }
+
+  /**
+   * Returns the invocation whose callback is running on the current thread, or {@code null} if
+   * none is.
+   */
+  @Nullable
+  static Invocation currentInvocation() {
+    return currentInvocation.get();
+  }
+
+  /**
+   * Waits for the {@code future} to complete until the deadline, returning whether it completed. If
+   * interrupted, the interrupt status is restored and {@code false} returned.
+   */
+  private static boolean awaitCompletion(Future<?> future, long deadlineNanos) {
+    try {
+      future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+      return true;
+    } catch (ExecutionException e) {
+      // Only fatal errors escape the callback, which have been thrown on the executor's thread.
+      return true;
+    } catch (TimeoutException e) {
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private DoubleHistogram callbackDuration() {
+    DoubleHistogram callbackDuration = this.callbackDuration;
+    if (callbackDuration == null) {
+      // Racing threads build the same instrument, so it doesn't matter which one wins.
+      callbackDuration =
+          meterProvider
+              .meterBuilder("io.opentelemetry.sdk.metrics")
+              .build()
+              .histogramBuilder("otel.sdk.metrics.callback.duration")
+              .setUnit("s")
+              .setDescription(
+                  "The duration of asynchronous instrument callbacks. "
+                      + "[timed_out=true if they did not complete within the callback timeout]")
+              .build();
+      this.callbackDuration = callbackDuration;
+    }
+    return callbackDuration;
+  }
+
+  /**
+   * An invocation of a callback for a collection. Measurements are recorded while holding its lock,
+   * which {@link #markTimedOut()} also takes, so that none are recorded once the collection has
+   * stopped waiting for the callback.
+   */
+  final class Invocation implements Runnable {
+
+    private final CallbackRegistration callbackRegistration;
+    @Nullable private Future<?> future;
+    private volatile boolean timedOut;
+
+    private Invocation(CallbackRegistration callbackRegistration) {
+      this.callbackRegistration = callbackRegistration;
+    }
+
+    private synchronized void markTimedOut() {
+      timedOut = true;
+    }
+
+    /** Returns whether the collection has stopped waiting for the callback. */
+    boolean isTimedOut() {
+      return timedOut;
+    }
+
+    @Override
+    public void run() {
+      try {
+        // A callback still queued when the collection timed out would only have its measurements
+        // dropped, so isn't run at all.
+        if (timedOut) {
+          return;
+        }
+        currentInvocation.set(this);
+        long startNanos = System.nanoTime();
+        try {
+          callbackRegistration.runCallback();
+        } finally {
+          currentInvocation.remove();
+        }
+        callbackDuration()
+            .record(
+                (System.nanoTime() - startNanos) / 1_000_000_000.0,
+                timedOut ? TIMED_OUT_ATTRIBUTES : COMPLETED_ATTRIBUTES);
+      } finally {
+        runningCallbacks.remove(callbackRegistration);
+      }
+    }
+  }
+}
@@ -82,13 +82,23 @@ public final class SdkObservableMeasurement
 
   @Override
   public void record(long value, Attributes attributes) {
+    ParallelCallbackInvoker.Invocation invocation = ParallelCallbackInvoker.currentInvocation();
+    if (invocation == null) {
+      doRecord(value, attributes);
+      return;
+    }
+    synchronized (invocation) {
+      if (isTimedOut(invocation)) {
+        return;
+      }
+      doRecord(value, attributes);
+    }
+  }
+
+  private void doRecord(long value, Attributes attributes) {
     RegisteredReader activeReader = this.activeReader;
     if (activeReader == null) {
-      throttlingLogger.log(
-          Level.FINE,
-          "Measurement recorded for instrument "
-              + instrumentDescriptor.getName()
-              + " outside callback registered to instrument. Dropping measurement.");
+      logOutsideCallback();
       return;
     }
     for (AsynchronousMetricStorage<?, ?> storage : storages) {
@@ -105,13 +115,23 @@ public final class SdkObservableMeasurement
 
   @Override
   public void record(double value, Attributes attributes) {
+    ParallelCallbackInvoker.Invocation invocation = ParallelCallbackInvoker.currentInvocation();
+    if (invocation == null) {
+      doRecord(value, attributes);
+      return;
+    }
+    synchronized (invocation) {
+      if (isTimedOut(invocation)) {
+        return;
+      }
+      doRecord(value, attributes);
+    }
+  }
+
+  private void doRecord(double value, Attributes attributes) {
     RegisteredReader activeReader = this.activeReader;
     if (activeReader == null) {
-      throttlingLogger.log(
-          Level.FINE,
-          "Measurement recorded for instrument "
-              + instrumentDescriptor.getName()
-              + " outside callback registered to instrument. Dropping measurement.");
+      logOutsideCallback();
       return;
     }
     for (AsynchronousMetricStorage<?, ?> storage : storages) {
@@ -120,4 +140,28 @@ public final class SdkObservableMeasurement
       }
     }
   }
+
+  /**
+   * Returns whether the collection the callback recording on this thread was invoked for has
+   * stopped waiting for it, in which case the measurement is dropped.
+   */
+  private boolean isTimedOut(ParallelCallbackInvoker.Invocation invocation) {
+    if (!invocation.isTimedOut()) {
+      return false;
+    }
+    throttlingLogger.log(
+        Level.FINE,
+        "Measurement recorded for instrument "
+            + instrumentDescriptor.getName()
+            + " after its callback timed out. Dropping measurement.");
+    return true;
+  }
+
+  private void logOutsideCallback() {
+    throttlingLogger.log(
+        Level.FINE,
+        "Measurement recorded for instrument "
+            + instrumentDescriptor.getName()
+            + " outside callback registered to instrument. Dropping measurement.");
+  }
 }
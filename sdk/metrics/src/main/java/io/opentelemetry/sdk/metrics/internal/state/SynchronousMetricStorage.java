@@ -15,6 +15,8 @@ import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
 import io.opentelemetry.sdk.metrics.internal.view.RegisteredView;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Stores aggregated {@link MetricData} for synchronous instruments.
@@ -29,17 +31,45 @@ public interface SynchronousMetricStorage extends MetricStorage, WriteableMetric
     return EmptyMetricStorage.INSTANCE;
   }
 
+  /**
+   * Returns the storage through which {@code registeredReader} collects the measurements recorded
+   * to this storage.
+   */
+  default SynchronousMetricStorage getReaderStorage(RegisteredReader registeredReader) {
+    return this;
+  }
+
   /**
    * Constructs metric storage for a given synchronous instrument and view.
    *
    * @return The storage, or {@link EmptyMetricStorage#empty()} if the instrument should not be
    *     recorded.
    */
-  static <T, U extends ExemplarData> SynchronousMetricStorage create(
+  static SynchronousMetricStorage create(
       RegisteredReader registeredReader,
       RegisteredView registeredView,
       InstrumentDescriptor instrumentDescriptor,
       ExemplarFilter exemplarFilter) {
+    return create(
+        Collections.singletonList(registeredReader),
+        registeredView,
+        instrumentDescriptor,
+        exemplarFilter);
+  }
+
+  /**
+   * Constructs metric storage for a given synchronous instrument and view, shared by all {@code
+   * registeredReaders}. Each reader collects from the storage returned by {@link
+   * #getReaderStorage(RegisteredReader)}.
+   *
+   * @return The storage, or {@link EmptyMetricStorage#empty()} if the instrument should not be
+   *     recorded.
+   */
+  static <T, U extends ExemplarData> SynchronousMetricStorage create(
+      List<RegisteredReader> registeredReaders,
+      RegisteredView registeredView,
+      InstrumentDescriptor instrumentDescriptor,
+      ExemplarFilter exemplarFilter) {
     View view = registeredView.getView();
     MetricDescriptor metricDescriptor =
         MetricDescriptor.create(view, registeredView.getViewSourceInfo(), instrumentDescriptor);
@@ -51,7 +81,7 @@ public interface SynchronousMetricStorage extends MetricStorage, WriteableMetric
       return empty();
     }
     return new DefaultSynchronousMetricStorage<>(
-        registeredReader,
+        registeredReaders,
         metricDescriptor,
         aggregator,
         registeredView.getViewAttributesProcessor());
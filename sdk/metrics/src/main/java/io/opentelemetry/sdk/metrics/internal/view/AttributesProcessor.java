@@ -62,6 +62,18 @@ public abstract class AttributesProcessor {
     return new JoinedAttributesProcessor(Arrays.asList(this, other));
   }
 
+  /**
+   * Returns a processor which remembers the results of this processor for up to {@code maxSize}
+   * distinct incoming attributes. Processors which use context are returned as-is, since their
+   * results depend on more than the incoming attributes.
+   */
+  public AttributesProcessor memoize(int maxSize) {
+    if (usesContext()) {
+      return this;
+    }
+    return new MemoizingAttributesProcessor(this, maxSize);
+  }
+
   /** No-op version of attributes processor, returns what it gets. */
   public static AttributesProcessor noop() {
     return NOOP;
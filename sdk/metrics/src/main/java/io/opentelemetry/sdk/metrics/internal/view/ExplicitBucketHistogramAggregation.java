@@ -7,15 +7,18 @@ package io.opentelemetry.sdk.metrics.internal.view;
 
 import io.opentelemetry.sdk.common.Clock;
 import io.opentelemetry.sdk.metrics.Aggregation;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
 import io.opentelemetry.sdk.metrics.data.ExemplarData;
 import io.opentelemetry.sdk.metrics.internal.aggregator.Aggregator;
 import io.opentelemetry.sdk.metrics.internal.aggregator.AggregatorFactory;
 import io.opentelemetry.sdk.metrics.internal.aggregator.DoubleExplicitBucketHistogramAggregator;
 import io.opentelemetry.sdk.metrics.internal.aggregator.ExplicitBucketHistogramUtils;
+import io.opentelemetry.sdk.metrics.internal.aggregator.LongExplicitBucketHistogramAggregator;
 import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarReservoir;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Explicit bucket histogram aggregation configuration.
@@ -50,14 +53,20 @@ public final class ExplicitBucketHistogramAggregation implements Aggregation, Ag
   @SuppressWarnings("unchecked")
   public <T, U extends ExemplarData> Aggregator<T, U> createAggregator(
       InstrumentDescriptor instrumentDescriptor, ExemplarFilter exemplarFilter) {
-    return (Aggregator<T, U>)
-        new DoubleExplicitBucketHistogramAggregator(
-            bucketBoundaryArray,
-            () ->
-                ExemplarReservoir.filtered(
-                    exemplarFilter,
-                    ExemplarReservoir.histogramBucketReservoir(
-                        Clock.getDefault(), bucketBoundaries)));
+    Supplier<ExemplarReservoir<DoubleExemplarData>> reservoirFactory =
+        () ->
+            ExemplarReservoir.filtered(
+                exemplarFilter,
+                ExemplarReservoir.histogramBucketReservoir(Clock.getDefault(), bucketBoundaries));
+    switch (instrumentDescriptor.getValueType()) {
+      case LONG:
+        return (Aggregator<T, U>)
+            new LongExplicitBucketHistogramAggregator(bucketBoundaryArray, reservoirFactory);
+      case DOUBLE:
+        return (Aggregator<T, U>)
+            new DoubleExplicitBucketHistogramAggregator(bucketBoundaryArray, reservoirFactory);
+    }
+    throw new IllegalArgumentException("Invalid instrument value type");
   }
 
   @Override
@@ -0,0 +1,93 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.view;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.metrics.internal.concurrent.AdderUtil;
+import io.opentelemetry.sdk.metrics.internal.concurrent.LongAdder;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An {@link AttributesProcessor} which remembers the attributes another processor produced for
+ * recently processed attributes, avoiding rebuilding them for attributes which recur on each
+ * measurement. Only processors which don't use context can be memoized.
+ *
+ * <p>About {@code maxSize} results are remembered, concurrent misses may remember a few more. When
+ * full, attributes which aren't remembered are processed by the underlying processor on each
+ * measurement, without taking a lock or evicting remembered results.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class MemoizingAttributesProcessor extends AttributesProcessor {
+
+  private final AttributesProcessor delegate;
+  private final int maxSize;
+  private final ConcurrentHashMap<Attributes, Attributes> results = new ConcurrentHashMap<>();
+  private final LongAdder hits = AdderUtil.createLongAdder();
+  private final LongAdder misses = AdderUtil.createLongAdder();
+
+  MemoizingAttributesProcessor(AttributesProcessor delegate, int maxSize) {
+    if (delegate.usesContext()) {
+      throw new IllegalArgumentException("Cannot memoize an attributes processor using context");
+    }
+    this.delegate = delegate;
+    this.maxSize = maxSize;
+  }
+
+  @Override
+  public Attributes process(Attributes incoming, Context context) {
+    Attributes result = results.get(incoming);
+    if (result != null) {
+      hits.increment();
+      return result;
+    }
+    misses.increment();
+    result = delegate.process(incoming, context);
+    if (results.size() < maxSize) {
+      Attributes existing = results.putIfAbsent(incoming, result);
+      if (existing != null) {
+        return existing;
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public boolean usesContext() {
+    return false;
+  }
+
+  @Override
+  public AttributesProcessor memoize(int maxSize) {
+    return this;
+  }
+
+  /** Returns the number of attributes processed with a remembered result. */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /** Returns the number of attributes processed by the underlying processor. */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  @Override
+  public String toString() {
+    return "MemoizingAttributesProcessor{"
+        + "delegate="
+        + delegate
+        + ", maxSize="
+        + maxSize
+        + ", hits="
+        + getHitCount()
+        + ", misses="
+        + getMissCount()
+        + "}";
+  }
+}
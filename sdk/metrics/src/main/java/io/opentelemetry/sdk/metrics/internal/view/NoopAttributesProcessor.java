@@ -24,6 +24,11 @@ class NoopAttributesProcessor extends AttributesProcessor {
     return false;
   }
 
+  @Override
+  public AttributesProcessor memoize(int maxSize) {
+    return this;
+  }
+
   @Override
   public String toString() {
     return "NoopAttributesProcessor{}";
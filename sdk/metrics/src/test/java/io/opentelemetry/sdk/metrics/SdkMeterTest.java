@@ -148,13 +148,14 @@ class SdkMeterTest {
             .build();
     assertThat(longCounter).isNotNull();
 
-    // Note: We no longer get the same instrument instance as these instances are lightweight
-    // objects backed by storage now.  Here we just make sure it doesn't log a warning.
-    sdkMeter
-        .counterBuilder("testLongCounter")
-        .setDescription("My very own counter")
-        .setUnit("metric tonnes")
-        .build();
+    // Building an identical instrument returns the existing one, without logging a warning.
+    assertThat(
+            sdkMeter
+                .counterBuilder("testLongCounter")
+                .setDescription("My very own counter")
+                .setUnit("metric tonnes")
+                .build())
+        .isSameAs(longCounter);
     assertThat(logs.getEvents()).isEmpty();
 
     sdkMeter.counterBuilder("testLongCounter").build();
@@ -184,14 +185,14 @@ class SdkMeterTest {
             .build();
     assertThat(longUpDownCounter).isNotNull();
 
-    // Note: We no longer get the same instrument instance as these instances are lightweight
-    // objects backed by storage now.  Here we just make sure it doesn't throw to grab
-    // a second instance.
-    sdkMeter
-        .upDownCounterBuilder("testLongUpDownCounter")
-        .setDescription("My very own counter")
-        .setUnit("metric tonnes")
-        .build();
+    // Building an identical instrument returns the existing one, without logging a warning.
+    assertThat(
+            sdkMeter
+                .upDownCounterBuilder("testLongUpDownCounter")
+                .setDescription("My very own counter")
+                .setUnit("metric tonnes")
+                .build())
+        .isSameAs(longUpDownCounter);
     assertThat(logs.getEvents()).isEmpty();
 
     sdkMeter.upDownCounterBuilder("testLongUpDownCounter").build();
@@ -224,14 +225,15 @@ class SdkMeterTest {
     assertThat(longHistogram).isNotNull();
     assertThat(logs.getEvents()).isEmpty();
 
-    // Note: We no longer get the same instrument instance as these instances are lightweight
-    // objects backed by storage now.  Here we just make sure it doesn't log an error.
-    sdkMeter
-        .histogramBuilder("testLongValueRecorder")
-        .ofLongs()
-        .setDescription("My very own counter")
-        .setUnit("metric tonnes")
-        .build();
+    // Building an identical instrument returns the existing one, without logging a warning.
+    assertThat(
+            sdkMeter
+                .histogramBuilder("testLongValueRecorder")
+                .ofLongs()
+                .setDescription("My very own counter")
+                .setUnit("metric tonnes")
+                .build())
+        .isSameAs(longHistogram);
     assertThat(logs.getEvents()).isEmpty();
 
     sdkMeter.histogramBuilder("testLongValueRecorder").ofLongs().build();
@@ -347,14 +349,15 @@ class SdkMeterTest {
             .build();
     assertThat(doubleCounter).isNotNull();
 
-    // Note: We no longer get the same instrument instance as these instances are lightweight
-    // objects backed by storage now.  Here we just make sure it doesn't log an error.
-    sdkMeter
-        .counterBuilder("testDoubleCounter")
-        .ofDoubles()
-        .setDescription("My very own counter")
-        .setUnit("metric tonnes")
-        .build();
+    // Building an identical instrument returns the existing one, without logging a warning.
+    assertThat(
+            sdkMeter
+                .counterBuilder("testDoubleCounter")
+                .ofDoubles()
+                .setDescription("My very own counter")
+                .setUnit("metric tonnes")
+                .build())
+        .isSameAs(doubleCounter);
     assertThat(logs.getEvents()).isEmpty();
 
     sdkMeter.counterBuilder("testDoubleCounter").ofDoubles().build();
@@ -372,14 +375,15 @@ class SdkMeterTest {
             .build();
     assertThat(doubleUpDownCounter).isNotNull();
 
-    // Note: We no longer get the same instrument instance as these instances are lightweight
-    // objects backed by storage now.  Here we just make sure it doesn't log an error.
-    sdkMeter
-        .upDownCounterBuilder("testDoubleUpDownCounter")
-        .ofDoubles()
-        .setDescription("My very own counter")
-        .setUnit("metric tonnes")
-        .build();
+    // Building an identical instrument returns the existing one, without logging a warning.
+    assertThat(
+            sdkMeter
+                .upDownCounterBuilder("testDoubleUpDownCounter")
+                .ofDoubles()
+                .setDescription("My very own counter")
+                .setUnit("metric tonnes")
+                .build())
+        .isSameAs(doubleUpDownCounter);
     assertThat(logs.getEvents()).isEmpty();
 
     sdkMeter.upDownCounterBuilder("testDoubleUpDownCounter").ofDoubles().build();
@@ -396,13 +400,14 @@ class SdkMeterTest {
             .build();
     assertThat(doubleValueRecorder).isNotNull();
 
-    // Note: We no longer get the same instrument instance as these instances are lightweight
-    // objects backed by storage now.  Here we just make sure it doesn't log an error
-    sdkMeter
-        .histogramBuilder("testDoubleValueRecorder")
-        .setDescription("My very own ValueRecorder")
-        .setUnit("metric tonnes")
-        .build();
+    // Building an identical instrument returns the existing one, without logging a warning.
+    assertThat(
+            sdkMeter
+                .histogramBuilder("testDoubleValueRecorder")
+                .setDescription("My very own ValueRecorder")
+                .setUnit("metric tonnes")
+                .build())
+        .isSameAs(doubleValueRecorder);
     assertThat(logs.getEvents()).isEmpty();
 
     sdkMeter.histogramBuilder("testDoubleValueRecorder").build();
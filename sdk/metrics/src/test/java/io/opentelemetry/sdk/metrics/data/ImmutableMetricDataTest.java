@@ -12,6 +12,7 @@ import com.google.common.collect.ImmutableList;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.internal.PrimitiveLongList;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableDoublePointData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableGaugeData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableHistogramData;
@@ -234,6 +235,26 @@ class ImmutableMetricDataTest {
         .isInstanceOf(IllegalArgumentException.class);
   }
 
+  @Test
+  void histogramPoint_CopiesCounts() {
+    long[] counts = {1, 200};
+    HistogramPointData point =
+        ImmutableHistogramPointData.create(
+            0,
+            0,
+            Attributes.empty(),
+            0.0,
+            null,
+            null,
+            ImmutableList.of(1.0),
+            PrimitiveLongList.wrap(counts));
+    counts[1] = 0;
+    assertThat(point.getCounts()).containsExactly(1L, 200L);
+    assertThat(PrimitiveLongList.toArray(point.getCounts())).containsExactly(1, 200);
+    assertThatThrownBy(() -> point.getCounts().set(0, 2L))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
   @Test
   void metricData_GetDefault() {
     MetricData metricData =
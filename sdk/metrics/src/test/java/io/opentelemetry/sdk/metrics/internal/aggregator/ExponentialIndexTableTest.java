@@ -0,0 +1,94 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.aggregator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ExponentialIndexTableTest {
+
+  static IntStream scales() {
+    return IntStream.rangeClosed(1, ExponentialIndexTable.MAX_SCALE);
+  }
+
+  @Test
+  void forScale() {
+    assertThat(ExponentialIndexTable.forScale(-1)).isNull();
+    assertThat(ExponentialIndexTable.forScale(0)).isNull();
+    assertThat(ExponentialIndexTable.forScale(ExponentialIndexTable.MAX_SCALE + 1)).isNull();
+    assertThat(ExponentialIndexTable.forScale(1)).isSameAs(ExponentialIndexTable.forScale(1));
+  }
+
+  @ParameterizedTest
+  @MethodSource("scales")
+  void matchesLogarithm(int scale) {
+    ExponentialIndexTable table = ExponentialIndexTable.forScale(scale);
+    assertThat(table).isNotNull();
+    double scaleFactor = Math.scalb(1 / Math.log(2), scale);
+    Random random = new Random(scale);
+    for (int i = 0; i < 10000; i++) {
+      double value = Math.exp(random.nextGaussian() * 50);
+      assertThat(table.valueToIndex(value))
+          .as("value %s", value)
+          .isEqualTo((int) Math.floor(Math.log(value) * scaleFactor));
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("scales")
+  void powersOfTwo(int scale) {
+    ExponentialIndexTable table = ExponentialIndexTable.forScale(scale);
+    assertThat(table).isNotNull();
+    for (int exponent = -1074; exponent <= 1023; exponent++) {
+      double value = Math.scalb(1d, exponent);
+      assertThat(table.valueToIndex(value)).isEqualTo(exponent << scale);
+      // Subnormals are too coarse for the next lower value to fall into the previous bucket.
+      if (exponent >= Double.MIN_EXPONENT) {
+        assertThat(table.valueToIndex(Math.nextDown(value))).isEqualTo((exponent << scale) - 1);
+      }
+    }
+    assertThat(table.valueToIndex(Double.MAX_VALUE)).isEqualTo((1024 << scale) - 1);
+  }
+
+  @Test
+  void exactAtBoundaries() {
+    // Verify every boundary with exact arithmetic, which is too slow for the largest scales.
+    for (int scale = 1; scale <= 6; scale++) {
+      ExponentialIndexTable table = ExponentialIndexTable.forScale(scale);
+      assertThat(table).isNotNull();
+      int bucketsPerPowerOfTwo = 1 << scale;
+      for (int index = 1; index < bucketsPerPowerOfTwo; index++) {
+        double approximateBoundary = Math.pow(2, (double) index / bucketsPerPowerOfTwo);
+        for (double value :
+            new double[] {
+              Math.nextDown(approximateBoundary),
+              approximateBoundary,
+              Math.nextUp(approximateBoundary)
+            }) {
+          int expected = isAtLeastBoundary(value, index, scale) ? index : index - 1;
+          assertThat(table.valueToIndex(value)).as("value %s", value).isEqualTo(expected);
+          // The same holds for any power of two multiple.
+          assertThat(table.valueToIndex(value * 1024)).isEqualTo((10 << scale) + expected);
+          assertThat(table.valueToIndex(value / 1024)).isEqualTo((-10 << scale) + expected);
+        }
+      }
+    }
+  }
+
+  private static boolean isAtLeastBoundary(double value, int index, int scale) {
+    return new BigDecimal(value)
+            .pow(1 << scale)
+            .compareTo(new BigDecimal(BigInteger.ONE.shiftLeft(index)))
+        >= 0;
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.aggregator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarReservoir;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LongExplicitBucketHistogramAggregatorTest {
+
+  private static final double[] boundaries = new double[] {10.0, 100.0, 1000.0};
+  private static final LongExplicitBucketHistogramAggregator aggregator =
+      new LongExplicitBucketHistogramAggregator(boundaries, ExemplarReservoir::doubleNoSamples);
+
+  @Test
+  void createHandle() {
+    assertThat(aggregator.createHandle())
+        .isInstanceOf(LongExplicitBucketHistogramAggregator.Handle.class);
+  }
+
+  @Test
+  void testRecordings() {
+    AggregatorHandle<ExplicitBucketHistogramAccumulation, DoubleExemplarData> aggregatorHandle =
+        aggregator.createHandle();
+    aggregatorHandle.recordLong(20);
+    aggregatorHandle.recordLong(5);
+    aggregatorHandle.recordLong(150);
+    aggregatorHandle.recordLong(2000);
+    aggregatorHandle.recordLong(10);
+    assertThat(aggregatorHandle.accumulateThenReset(Attributes.empty()))
+        .isEqualTo(
+            ExplicitBucketHistogramAccumulation.create(
+                2185, /* hasMinMax= */ true, 5d, 2000d, new long[] {2, 1, 1, 1}));
+    assertThat(aggregatorHandle.accumulateThenReset(Attributes.empty())).isNull();
+  }
+
+  @Test
+  void fractionalBoundaries() {
+    AggregatorHandle<ExplicitBucketHistogramAccumulation, DoubleExemplarData> aggregatorHandle =
+        new LongExplicitBucketHistogramAggregator(
+                new double[] {-0.5, 1.2, 1.5, 2.0}, ExemplarReservoir::doubleNoSamples)
+            .createHandle();
+    for (long value = -1; value <= 3; value++) {
+      aggregatorHandle.recordLong(value);
+    }
+    assertThat(aggregatorHandle.accumulateThenReset(Attributes.empty()))
+        .isEqualTo(
+            ExplicitBucketHistogramAccumulation.create(
+                5, /* hasMinMax= */ true, -1d, 3d, new long[] {1, 2, 0, 1, 1}));
+  }
+
+  @Test
+  void sumOverflow() {
+    AggregatorHandle<ExplicitBucketHistogramAccumulation, DoubleExemplarData> aggregatorHandle =
+        aggregator.createHandle();
+    aggregatorHandle.recordLong(Long.MAX_VALUE);
+    aggregatorHandle.recordLong(Long.MAX_VALUE);
+    aggregatorHandle.recordLong(2);
+    ExplicitBucketHistogramAccumulation accumulation =
+        aggregatorHandle.accumulateThenReset(Attributes.empty());
+    assertThat(accumulation).isNotNull();
+    assertThat(accumulation.getSum()).isEqualTo(2 * (double) Long.MAX_VALUE + 2);
+    assertThat(accumulation.getCounts()).containsExactly(1, 0, 0, 2);
+  }
+
+  @Test
+  void findBucketIndex_matchesDouble() {
+    Random random = new Random(0);
+    for (int length : new int[] {0, 1, 14, 32, 33, 100}) {
+      double[] doubleBoundaries = new double[length];
+      double boundary = 0;
+      for (int i = 0; i < length; i++) {
+        boundary += random.nextInt(3) == 0 ? 1 : random.nextDouble() * 10;
+        doubleBoundaries[i] = boundary;
+      }
+      long[] longBoundaries =
+          ExplicitBucketHistogramUtils.createLongBoundaryArray(doubleBoundaries);
+      for (long value = 0; value <= boundary + 1; value++) {
+        assertThat(ExplicitBucketHistogramUtils.findBucketIndex(longBoundaries, value))
+            .as("value %s of %s boundaries", value, length)
+            .isEqualTo(ExplicitBucketHistogramUtils.findBucketIndex(doubleBoundaries, value));
+      }
+    }
+  }
+}
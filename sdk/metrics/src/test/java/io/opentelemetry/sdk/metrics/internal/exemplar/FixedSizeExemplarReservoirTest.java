@@ -0,0 +1,72 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.exemplar;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.testing.assertj.MetricAssertions;
+import io.opentelemetry.sdk.testing.time.TestClock;
+import java.util.List;
+import javax.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+class FixedSizeExemplarReservoirTest {
+
+  @Test
+  void samplingBudget_spentAsCollected() {
+    CollectingCellSelector selector = new CollectingCellSelector();
+    FixedSizeExemplarReservoir<DoubleExemplarData> reservoir =
+        new FixedSizeExemplarReservoir<DoubleExemplarData>(
+            TestClock.create(), 1, selector, ReservoirCell::toDoubleExemplar) {};
+    selector.reservoir = reservoir;
+
+    for (int i = 1; i < FixedSizeExemplarReservoir.SAMPLES_PER_CELL_PER_CYCLE; i++) {
+      reservoir.offerDoubleMeasurement(i, Attributes.empty(), Context.root());
+    }
+    // The measurement spending the last sample of the cycle is taken while it is being collected.
+    selector.collectOnNextSelection = true;
+    reservoir.offerDoubleMeasurement(100, Attributes.empty(), Context.root());
+    assertThat(selector.collected)
+        .satisfiesExactly(
+            exemplar ->
+                MetricAssertions.assertThat(exemplar)
+                    .hasValue(FixedSizeExemplarReservoir.SAMPLES_PER_CELL_PER_CYCLE - 1));
+
+    // The last sample counts against the collected cycle, so the current one still samples.
+    reservoir.offerDoubleMeasurement(200, Attributes.empty(), Context.root());
+    assertThat(reservoir.collectAndReset(Attributes.empty()))
+        .satisfiesExactly(exemplar -> MetricAssertions.assertThat(exemplar).hasValue(200));
+  }
+
+  /** Selects the only cell, collecting the reservoir while selecting when asked to. */
+  private static final class CollectingCellSelector implements ReservoirCellSelector {
+    @Nullable private FixedSizeExemplarReservoir<DoubleExemplarData> reservoir;
+    private boolean collectOnNextSelection;
+    @Nullable private List<DoubleExemplarData> collected;
+
+    @Override
+    public int reservoirCellIndexFor(
+        int numCells, long value, Attributes attributes, Context context) {
+      return reservoirCellIndexFor(numCells, (double) value, attributes, context);
+    }
+
+    @Override
+    public int reservoirCellIndexFor(
+        int numCells, double value, Attributes attributes, Context context) {
+      if (collectOnNextSelection && reservoir != null) {
+        collectOnNextSelection = false;
+        collected = reservoir.collectAndReset(Attributes.empty());
+      }
+      return 0;
+    }
+
+    @Override
+    public void reset() {}
+  }
+}
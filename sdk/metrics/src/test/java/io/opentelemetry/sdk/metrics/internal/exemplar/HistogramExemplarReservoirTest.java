@@ -96,4 +96,50 @@ class HistogramExemplarReservoirTest {
                     .hasValue(21)
                     .hasFilteredAttributes(Attributes.of(bucketKey, 3L)));
   }
+
+  @Test
+  public void longMeasurement_recordsValue() {
+    TestClock clock = TestClock.create();
+    ExemplarReservoir<DoubleExemplarData> reservoir =
+        new HistogramExemplarReservoir(clock, Arrays.asList(0d, 10d, 20d));
+    reservoir.offerLongMeasurement(15, Attributes.empty(), Context.root());
+    assertThat(reservoir.collectAndReset(Attributes.empty()))
+        .satisfiesExactly(exemplar -> MetricAssertions.assertThat(exemplar).hasValue(15));
+  }
+
+  @Test
+  public void samplingBudget_resetOnCollection() {
+    TestClock clock = TestClock.create();
+    ExemplarReservoir<DoubleExemplarData> reservoir =
+        new HistogramExemplarReservoir(clock, Collections.emptyList());
+    // The budget of a single cell is spent on the first samples, so later ones are not kept.
+    for (int i = 1; i <= FixedSizeExemplarReservoir.SAMPLES_PER_CELL_PER_CYCLE * 2; i++) {
+      reservoir.offerDoubleMeasurement(i, Attributes.empty(), Context.root());
+    }
+    assertThat(reservoir.collectAndReset(Attributes.empty()))
+        .satisfiesExactly(
+            exemplar ->
+                MetricAssertions.assertThat(exemplar)
+                    .hasValue(FixedSizeExemplarReservoir.SAMPLES_PER_CELL_PER_CYCLE));
+
+    reservoir.offerDoubleMeasurement(-1, Attributes.empty(), Context.root());
+    assertThat(reservoir.collectAndReset(Attributes.empty()))
+        .satisfiesExactly(exemplar -> MetricAssertions.assertThat(exemplar).hasValue(-1));
+  }
+
+  @Test
+  public void samplingBudget_perCell() {
+    TestClock clock = TestClock.create();
+    ExemplarReservoir<DoubleExemplarData> reservoir =
+        new HistogramExemplarReservoir(clock, Collections.singletonList(10d));
+    // Spending the budget of a busy bucket leaves that of the others.
+    for (int i = 0; i < FixedSizeExemplarReservoir.SAMPLES_PER_CELL_PER_CYCLE * 2; i++) {
+      reservoir.offerDoubleMeasurement(5, Attributes.empty(), Context.root());
+    }
+    reservoir.offerDoubleMeasurement(15, Attributes.empty(), Context.root());
+    assertThat(reservoir.collectAndReset(Attributes.empty()))
+        .satisfiesExactly(
+            exemplar -> MetricAssertions.assertThat(exemplar).hasValue(5),
+            exemplar -> MetricAssertions.assertThat(exemplar).hasValue(15));
+  }
 }
@@ -186,4 +186,52 @@ class AsynchronousMetricStorageTest {
     logs.assertContains(
         "Instrument long-counter has recorded multiple values for the same attributes");
   }
+
+  @Test
+  void collectAndReset_DeltaInPlace() {
+    when(reader.getAggregationTemporality(any())).thenReturn(AggregationTemporality.DELTA);
+    AsynchronousMetricStorage<?, ?> storage =
+        AsynchronousMetricStorage.create(
+            registeredReader,
+            registeredView,
+            InstrumentDescriptor.create(
+                "long-counter",
+                "description",
+                "unit",
+                InstrumentType.COUNTER,
+                InstrumentValueType.LONG));
+    Attributes a = Attributes.builder().put("key", "a").build();
+    Attributes b = Attributes.builder().put("key", "b").build();
+
+    storage.recordLong(5, a);
+    storage.recordLong(10, b);
+    assertThat(storage.collectAndReset(resource, scope, 0, testClock.nanoTime()))
+        .hasLongSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point -> point.hasValue(5).hasAttributes(a),
+                    point -> point.hasValue(10).hasAttributes(b)));
+
+    storage.recordLong(8, a);
+    storage.recordLong(10, b);
+    assertThat(storage.collectAndReset(resource, scope, 0, testClock.nanoTime()))
+        .hasLongSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point -> point.hasValue(3).hasAttributes(a),
+                    point -> point.hasValue(0).hasAttributes(b)));
+
+    // b is not observed, so is no longer reported, and restarts when next observed.
+    storage.recordLong(12, a);
+    assertThat(storage.collectAndReset(resource, scope, 0, testClock.nanoTime()))
+        .hasLongSumSatisfying(
+            sum -> sum.hasPointsSatisfying(point -> point.hasValue(4).hasAttributes(a)));
+    storage.recordLong(11, b);
+    assertThat(storage.collectAndReset(resource, scope, 0, testClock.nanoTime()))
+        .hasLongSumSatisfying(
+            sum -> sum.hasPointsSatisfying(point -> point.hasValue(11).hasAttributes(b)));
+
+    assertThat(storage.collectAndReset(resource, scope, 0, testClock.nanoTime()).isEmpty())
+        .isTrue();
+  }
 }
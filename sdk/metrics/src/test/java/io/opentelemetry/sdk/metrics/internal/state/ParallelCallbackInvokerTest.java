@@ -0,0 +1,234 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+
+import io.github.netmikey.logunit.api.LogCapturer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.SdkMeterProviderBuilder;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.internal.SdkMeterProviderUtil;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+@SuppressLogger(ParallelCallbackInvoker.class)
+class ParallelCallbackInvokerTest {
+
+  private static final AttributeKey<Boolean> TIMED_OUT = AttributeKey.booleanKey("timed_out");
+  private static final AttributeKey<String> KEY = AttributeKey.stringKey("key");
+
+  @RegisterExtension
+  LogCapturer logs = LogCapturer.create().captureForType(ParallelCallbackInvoker.class);
+
+  private InMemoryMetricReader reader = InMemoryMetricReader.create();
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  private Meter meter(Duration timeout) {
+    SdkMeterProviderBuilder builder = SdkMeterProvider.builder().registerMetricReader(reader);
+    SdkMeterProviderUtil.setCallbackExecutor(builder, executor, timeout);
+    return builder.build().get("test");
+  }
+
+  @Test
+  void invokesConcurrently() {
+    Meter meter = meter(Duration.ofSeconds(10));
+    // Each callback waits for the other to start, so only completes if they run concurrently.
+    CountDownLatch started = new CountDownLatch(2);
+    for (String name : new String[] {"gauge1", "gauge2"}) {
+      meter
+          .gaugeBuilder(name)
+          .buildWithCallback(
+              measurement -> {
+                started.countDown();
+                try {
+                  if (started.await(5, TimeUnit.SECONDS)) {
+                    measurement.record(1);
+                  }
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+              });
+    }
+
+    assertThat(reader.collectAllMetrics())
+        .extracting(MetricData::getName)
+        .containsExactlyInAnyOrder("gauge1", "gauge2");
+    // The callback durations are recorded from the first collection on.
+    assertThat(reader.collectAllMetrics())
+        .anySatisfy(
+            metric ->
+                assertThat(metric)
+                    .hasName("otel.sdk.metrics.callback.duration")
+                    .hasHistogramSatisfying(
+                        histogram ->
+                            histogram.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasCount(4)
+                                        .hasAttributes(
+                                            Attributes.of(
+                                                TIMED_OUT, false)))));
+  }
+
+  @Test
+  void dropsTimedOutCallbacks() throws Exception {
+    Meter meter = meter(Duration.ofMillis(10));
+    CountDownLatch release = new CountDownLatch(1);
+    meter.gaugeBuilder("fast").buildWithCallback(measurement -> measurement.record(1));
+    meter
+        .gaugeBuilder("slow")
+        .buildWithCallback(
+            measurement -> {
+              try {
+                release.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              measurement.record(2);
+            });
+
+    assertThat(reader.collectAllMetrics())
+        .extracting(MetricData::getName)
+        .containsExactly("fast");
+    logs.assertContains("Callback for Instrument slow did not complete within 10ms");
+
+    // The slow callback is still running, so is not invoked again.
+    assertThat(reader.collectAllMetrics())
+        .extracting(MetricData::getName)
+        .contains("fast")
+        .doesNotContain("slow");
+    logs.assertContains("Skipping callback for Instrument slow");
+
+    release.countDown();
+    awaitExecutor();
+    Collection<MetricData> metrics = reader.collectAllMetrics();
+    assertThat(metrics)
+        .extracting(MetricData::getName)
+        .containsExactlyInAnyOrder("fast", "slow", "otel.sdk.metrics.callback.duration");
+    assertThat(metrics)
+        .filteredOn(metric -> metric.getName().equals("otel.sdk.metrics.callback.duration"))
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasHistogramSatisfying(
+                        histogram ->
+                            histogram.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasCount(3)
+                                        .hasAttributes(
+                                            Attributes.of(
+                                                TIMED_OUT, false)),
+                                point ->
+                                    point
+                                        .hasCount(1)
+                                        .hasAttributes(
+                                            Attributes.of(
+                                                TIMED_OUT, true)))));
+  }
+
+  @Test
+  void timedOutCallbackKeepsSeries() throws Exception {
+    reader = InMemoryMetricReader.createDelta();
+    Meter meter = meter(Duration.ofMillis(100));
+    AtomicInteger invocations = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    meter
+        .counterBuilder("counter")
+        .buildWithCallback(
+            measurement -> {
+              int invocation = invocations.incrementAndGet();
+              measurement.record(10L * invocation, Attributes.of(KEY, "a"));
+              if (invocation == 2) {
+                try {
+                  release.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+              }
+              measurement.record(10L * invocation, Attributes.of(KEY, "b"));
+            });
+
+    assertThat(collectCounter())
+        .hasLongSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point -> point.hasValue(10).hasAttributes(Attributes.of(KEY, "a")),
+                    point -> point.hasValue(10).hasAttributes(Attributes.of(KEY, "b"))));
+
+    // The measurement recorded before the timeout is collected, the series not observed yet is
+    // kept.
+    assertThat(collectCounter())
+        .hasLongSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point -> point.hasValue(10).hasAttributes(Attributes.of(KEY, "a"))));
+
+    // The measurement recorded after the timeout is dropped, and the delta of the kept series
+    // spans both collections.
+    release.countDown();
+    awaitExecutor();
+    assertThat(collectCounter())
+        .hasLongSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point -> point.hasValue(10).hasAttributes(Attributes.of(KEY, "a")),
+                    point -> point.hasValue(20).hasAttributes(Attributes.of(KEY, "b"))));
+  }
+
+  @Test
+  void rejectedByExecutor() {
+    Meter meter = meter(Duration.ofSeconds(10));
+    meter.gaugeBuilder("gauge").buildWithCallback(measurement -> measurement.record(1));
+    executor.shutdown();
+
+    // Callbacks the executor doesn't accept are invoked on the collecting thread.
+    assertThat(reader.collectAllMetrics())
+        .extracting(MetricData::getName)
+        .containsExactly("gauge");
+  }
+
+  private MetricData collectCounter() {
+    return reader.collectAllMetrics().stream()
+        .filter(metric -> metric.getName().equals("counter"))
+        .findFirst()
+        .orElseThrow(AssertionError::new);
+  }
+
+  /** Waits for the tasks submitted to the executor so far to complete. */
+  private void awaitExecutor() throws Exception {
+    CountDownLatch done = new CountDownLatch(2);
+    // Occupy both threads, which are only free once the earlier tasks have completed.
+    for (int i = 0; i < 2; i++) {
+      executor.submit(
+          () -> {
+            done.countDown();
+            done.await();
+            return null;
+          });
+    }
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+}
@@ -8,8 +8,10 @@ package io.opentelemetry.sdk.metrics.internal.state;
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.attributeEntry;
 
+import io.github.netmikey.logunit.api.LogCapturer;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.metrics.Aggregation;
 import io.opentelemetry.sdk.metrics.InstrumentType;
@@ -26,16 +28,23 @@ import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
 import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
 import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import io.opentelemetry.sdk.testing.time.TestClock;
+import java.util.Arrays;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 public class SynchronousMetricStorageTest {
+
+  @RegisterExtension
+  LogCapturer logs = LogCapturer.create().captureForType(DefaultSynchronousMetricStorage.class);
+
   private static final Resource RESOURCE = Resource.empty();
   private static final InstrumentationScopeInfo INSTRUMENTATION_SCOPE_INFO =
       InstrumentationScopeInfo.create("test", "1.0", null);
@@ -119,4 +128,94 @@ public class SynchronousMetricStorageTest {
             accumulator.collectAndReset(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, testClock.now()))
         .isEqualTo(EmptyMetricData.getInstance());
   }
+
+  @Test
+  void sharedAcrossReaders() {
+    Aggregator<Long, LongExemplarData> sumAggregator =
+        ((AggregatorFactory) Aggregation.sum())
+            .createAggregator(DESCRIPTOR, ExemplarFilter.neverSample());
+    RegisteredReader cumulativeReader = RegisteredReader.create(InMemoryMetricReader.create());
+    RegisteredReader deltaReader = RegisteredReader.create(InMemoryMetricReader.createDelta());
+    SynchronousMetricStorage storage =
+        new DefaultSynchronousMetricStorage<>(
+            Arrays.asList(cumulativeReader, deltaReader),
+            METRIC_DESCRIPTOR,
+            sumAggregator,
+            attributesProcessor);
+    SynchronousMetricStorage cumulativeStorage = storage.getReaderStorage(cumulativeReader);
+    SynchronousMetricStorage deltaStorage = storage.getReaderStorage(deltaReader);
+    assertThat(cumulativeStorage.getRegisteredReader()).isSameAs(cumulativeReader);
+    assertThat(deltaStorage.getRegisteredReader()).isSameAs(deltaReader);
+
+    storage.recordDouble(1, Attributes.empty(), Context.root());
+    assertThat(
+            cumulativeStorage.collectAndReset(
+                RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, testClock.now()))
+        .hasDoubleSumSatisfying(
+            sum -> sum.isCumulative().hasPointsSatisfying(point -> point.hasValue(1)));
+
+    // Recording through a reader storage records to the shared storage.
+    deltaStorage.recordDouble(2, Attributes.empty(), Context.root());
+    assertThat(
+            cumulativeStorage.collectAndReset(
+                RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, testClock.now()))
+        .hasDoubleSumSatisfying(
+            sum -> sum.isCumulative().hasPointsSatisfying(point -> point.hasValue(3)));
+    // The delta reader sees everything recorded since it last collected.
+    assertThat(
+            deltaStorage.collectAndReset(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, testClock.now()))
+        .hasDoubleSumSatisfying(
+            sum -> sum.isDelta().hasPointsSatisfying(point -> point.hasValue(3)));
+
+    storage.recordDouble(4, Attributes.empty(), Context.root());
+    assertThat(
+            deltaStorage.collectAndReset(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, testClock.now()))
+        .hasDoubleSumSatisfying(
+            sum -> sum.isDelta().hasPointsSatisfying(point -> point.hasValue(4)));
+    assertThat(
+            deltaStorage.collectAndReset(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, testClock.now()))
+        .isEqualTo(EmptyMetricData.getInstance());
+    assertThat(
+            cumulativeStorage.collectAndReset(
+                RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, testClock.now()))
+        .hasDoubleSumSatisfying(
+            sum -> sum.isCumulative().hasPointsSatisfying(point -> point.hasValue(7)));
+  }
+
+  @Test
+  @SuppressLogger(DefaultSynchronousMetricStorage.class)
+  void sharedAcrossReaders_maxUnreported() {
+    Aggregator<Long, LongExemplarData> sumAggregator =
+        ((AggregatorFactory) Aggregation.sum())
+            .createAggregator(DESCRIPTOR, ExemplarFilter.neverSample());
+    RegisteredReader collectedReader = RegisteredReader.create(InMemoryMetricReader.createDelta());
+    RegisteredReader idleReader = RegisteredReader.create(InMemoryMetricReader.createDelta());
+    SynchronousMetricStorage storage =
+        new DefaultSynchronousMetricStorage<>(
+            Arrays.asList(collectedReader, idleReader),
+            METRIC_DESCRIPTOR,
+            sumAggregator,
+            attributesProcessor);
+    SynchronousMetricStorage collectedStorage = storage.getReaderStorage(collectedReader);
+    SynchronousMetricStorage idleStorage = storage.getReaderStorage(idleReader);
+
+    for (int i = 0; i < MetricStorageUtils.MAX_ACCUMULATIONS; i++) {
+      storage.recordDouble(1, Attributes.builder().put("key", i).build(), Context.root());
+    }
+    collectedStorage.collectAndReset(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, testClock.now());
+    assertThat(logs.size()).isEqualTo(0);
+
+    // The idle reader has not collected the previous series yet, and can't hold any more.
+    storage.recordDouble(1, Attributes.builder().put("key", "new").build(), Context.root());
+    collectedStorage.collectAndReset(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, testClock.now());
+    logs.assertContains(
+        "Instrument name has exceeded the maximum allowed accumulations (2000) not yet collected "
+            + "by a reader, dropping 2000 of them.");
+    assertThat(
+            idleStorage.collectAndReset(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, testClock.now()))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point -> point.hasAttributes(attributeEntry("key", "new"))));
+  }
 }
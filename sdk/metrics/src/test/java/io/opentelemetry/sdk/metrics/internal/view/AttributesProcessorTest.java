@@ -10,6 +10,7 @@ import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.asser
 import io.opentelemetry.api.baggage.Baggage;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.context.Context;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 /** Tests for the {@link AttributesProcessor} DSL-ish library. */
@@ -94,4 +95,48 @@ public class AttributesProcessorTest {
         .containsEntry("baggage", "value")
         .hasSize(1);
   }
+
+  @Test
+  public void memoize_remembersResults() {
+    AtomicInteger calls = new AtomicInteger();
+    AttributesProcessor processor =
+        AttributesProcessor.simple(
+                incoming -> {
+                  calls.incrementAndGet();
+                  return incoming.toBuilder().put("processed", true).build();
+                })
+            .memoize(2);
+    assertThat(processor).isInstanceOf(MemoizingAttributesProcessor.class);
+    assertThat(processor.memoize(2)).isSameAs(processor);
+    MemoizingAttributesProcessor memoizing = (MemoizingAttributesProcessor) processor;
+
+    Attributes first = Attributes.builder().put("key", "first").build();
+    Attributes result = processor.process(first, Context.root());
+    assertThat(result).containsEntry("key", "first").containsEntry("processed", true);
+    assertThat(processor.process(Attributes.builder().put("key", "first").build(), Context.root()))
+        .isSameAs(result);
+    assertThat(calls).hasValue(1);
+    assertThat(memoizing.getHitCount()).isEqualTo(1);
+    assertThat(memoizing.getMissCount()).isEqualTo(1);
+
+    // Once full, further attributes are processed each time without evicting remembered results.
+    Attributes second = Attributes.builder().put("key", "second").build();
+    Attributes secondResult = processor.process(second, Context.root());
+    Attributes third = Attributes.builder().put("key", "third").build();
+    Attributes thirdResult = processor.process(third, Context.root());
+    assertThat(processor.process(third, Context.root())).isNotSameAs(thirdResult);
+    assertThat(calls).hasValue(4);
+    assertThat(processor.process(first, Context.root())).isSameAs(result);
+    assertThat(processor.process(second, Context.root())).isSameAs(secondResult);
+    assertThat(calls).hasValue(4);
+    assertThat(memoizing.getHitCount()).isEqualTo(3);
+    assertThat(memoizing.getMissCount()).isEqualTo(4);
+  }
+
+  @Test
+  public void memoize_notForContext() {
+    AttributesProcessor processor = AttributesProcessor.appendBaggageByKeyName(ignored -> true);
+    assertThat(processor.memoize(10)).isSameAs(processor);
+    assertThat(AttributesProcessor.noop().memoize(10)).isSameAs(AttributesProcessor.noop());
+  }
 }
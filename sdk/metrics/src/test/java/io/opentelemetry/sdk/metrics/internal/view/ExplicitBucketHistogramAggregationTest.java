@@ -9,6 +9,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.opentelemetry.sdk.metrics.Aggregation;
+import io.opentelemetry.sdk.metrics.InstrumentType;
+import io.opentelemetry.sdk.metrics.InstrumentValueType;
+import io.opentelemetry.sdk.metrics.internal.aggregator.AggregatorFactory;
+import io.opentelemetry.sdk.metrics.internal.aggregator.DoubleExplicitBucketHistogramAggregator;
+import io.opentelemetry.sdk.metrics.internal.aggregator.LongExplicitBucketHistogramAggregator;
+import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
+import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import java.util.Arrays;
 import java.util.Collections;
 import org.junit.jupiter.api.Test;
@@ -40,4 +47,29 @@ class ExplicitBucketHistogramAggregationTest {
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("Bucket boundaries must be in increasing order: 2.0 >= 1.0");
   }
+
+  @Test
+  void aggregatorForValueType() {
+    AggregatorFactory aggregation = (AggregatorFactory) Aggregation.explicitBucketHistogram();
+    assertThat(
+            aggregation.createAggregator(
+                InstrumentDescriptor.create(
+                    "histogram",
+                    "description",
+                    "unit",
+                    InstrumentType.HISTOGRAM,
+                    InstrumentValueType.LONG),
+                ExemplarFilter.neverSample()))
+        .isInstanceOf(LongExplicitBucketHistogramAggregator.class);
+    assertThat(
+            aggregation.createAggregator(
+                InstrumentDescriptor.create(
+                    "histogram",
+                    "description",
+                    "unit",
+                    InstrumentType.HISTOGRAM,
+                    InstrumentValueType.DOUBLE),
+                ExemplarFilter.neverSample()))
+        .isInstanceOf(DoubleExplicitBucketHistogramAggregator.class);
+  }
 }
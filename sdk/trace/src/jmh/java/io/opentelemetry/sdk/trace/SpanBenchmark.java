@@ -25,6 +25,7 @@ import org.openjdk.jmh.annotations.Warmup;
 @State(Scope.Benchmark)
 public class SpanBenchmark {
   private static SdkSpanBuilder sdkSpanBuilder;
+  private static Tracer droppingTracer;
   private final Resource serviceResource =
       Resource.create(
           Attributes.builder()
@@ -45,6 +46,13 @@ public class SpanBenchmark {
     sdkSpanBuilder =
         (SdkSpanBuilder)
             tracerSdk.spanBuilder("benchmarkSpanBuilder").setAttribute("longAttribute", 33L);
+
+    droppingTracer =
+        SdkTracerProvider.builder()
+            .setResource(serviceResource)
+            .setSampler(Sampler.alwaysOff())
+            .build()
+            .get("benchmarkTracer");
   }
 
   @Benchmark
@@ -87,6 +95,25 @@ public class SpanBenchmark {
     doSpanWork();
   }
 
+  /** Measures the cost of a span which is dropped by the sampler. */
+  @Benchmark
+  @Threads(value = 1)
+  @Fork(1)
+  @Warmup(iterations = 5, time = 1)
+  @Measurement(iterations = 10, time = 1)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public void droppedSpanWithAttributes_01Thread() {
+    Span span =
+        droppingTracer
+            .spanBuilder("droppedSpan")
+            .setAttribute("http.method", "GET")
+            .setAttribute("http.url", "https://opentelemetry.io")
+            .setAttribute("http.status_code", 200L)
+            .startSpan();
+    span.addEvent("testEvent");
+    span.end();
+  }
+
   private static void doSpanWork() {
     Span span = sdkSpanBuilder.startSpan();
     span.addEvent("testEvent");
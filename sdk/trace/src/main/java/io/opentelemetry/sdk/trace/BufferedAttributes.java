@@ -0,0 +1,115 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+
+/**
+ * The attributes added to a {@link SdkSpanBuilder}, which are only put into an {@link
+ * AttributesMap} once they are read, e.g. by the {@link
+ * io.opentelemetry.sdk.trace.samplers.Sampler}, or the span is recorded. Most samplers don't read
+ * the attributes, so for spans which are dropped they are never hashed, truncated or copied.
+ */
+final class BufferedAttributes implements Attributes {
+
+  private final SpanLimits spanLimits;
+  // Key/value pairs in the order they were added, until the AttributesMap is created.
+  @Nullable private List<Object> keysAndValues = new ArrayList<>();
+  @Nullable private AttributesMap attributesMap;
+
+  BufferedAttributes(SpanLimits spanLimits) {
+    this.spanLimits = spanLimits;
+  }
+
+  <T> void put(AttributeKey<T> key, T value) {
+    List<Object> keysAndValues = this.keysAndValues;
+    if (keysAndValues != null) {
+      keysAndValues.add(key);
+      keysAndValues.add(value);
+    } else {
+      toAttributesMap().put(key, value);
+    }
+  }
+
+  /**
+   * Returns the {@link AttributesMap} with all the attributes added so far, applying the span
+   * limits as if they were added to it directly.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  AttributesMap toAttributesMap() {
+    AttributesMap attributesMap = this.attributesMap;
+    if (attributesMap == null) {
+      attributesMap =
+          new AttributesMap(
+              spanLimits.getMaxNumberOfAttributes(), spanLimits.getMaxAttributeValueLength());
+      List<Object> keysAndValues = this.keysAndValues;
+      if (keysAndValues != null) {
+        for (int i = 0; i < keysAndValues.size(); i += 2) {
+          attributesMap.put((AttributeKey) keysAndValues.get(i), keysAndValues.get(i + 1));
+        }
+      }
+      this.keysAndValues = null;
+      this.attributesMap = attributesMap;
+    }
+    return attributesMap;
+  }
+
+  @Override
+  @Nullable
+  public <T> T get(AttributeKey<T> key) {
+    return toAttributesMap().get(key);
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super AttributeKey<?>, ? super Object> consumer) {
+    toAttributesMap().forEach(consumer);
+  }
+
+  @Override
+  public int size() {
+    return toAttributesMap().size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return toAttributesMap().isEmpty();
+  }
+
+  @Override
+  public Map<AttributeKey<?>, Object> asMap() {
+    return toAttributesMap().asMap();
+  }
+
+  @Override
+  public AttributesBuilder toBuilder() {
+    return toAttributesMap().toBuilder();
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (o instanceof BufferedAttributes) {
+      o = ((BufferedAttributes) o).toAttributesMap();
+    }
+    return toAttributesMap().equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    return toAttributesMap().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return toAttributesMap().toString();
+  }
+}
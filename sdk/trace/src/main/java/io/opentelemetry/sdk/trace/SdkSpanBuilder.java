@@ -16,6 +16,7 @@ import io.opentelemetry.api.internal.ImmutableSpanContext;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanBuilder;
 import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanId;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceState;
@@ -41,7 +42,7 @@ final class SdkSpanBuilder implements SpanBuilder {
 
   @Nullable private Context parent; // null means: Use current context.
   private SpanKind spanKind = SpanKind.INTERNAL;
-  @Nullable private AttributesMap attributes;
+  @Nullable private BufferedAttributes attributes;
   @Nullable private List<LinkData> links;
   private int totalNumberOfLinksAdded = 0;
   private long startEpochNanos = 0;
@@ -171,12 +172,14 @@ final class SdkSpanBuilder implements SpanBuilder {
     String traceId;
     IdGenerator idGenerator = tracerSharedState.getIdGenerator();
     String spanId = idGenerator.generateSpanId();
+    boolean skipIdValidation = tracerSharedState.isIdGeneratorSafeToSkipIdValidation();
     if (!parentSpanContext.isValid()) {
       // New root span.
       traceId = idGenerator.generateTraceId();
     } else {
-      // New child span.
+      // New child span, reusing the trace ID which was validated with the parent.
       traceId = parentSpanContext.getTraceId();
+      skipIdValidation = skipIdValidation || SpanId.isValid(spanId);
     }
     List<LinkData> immutableLinks =
         links == null ? Collections.emptyList() : Collections.unmodifiableList(links);
@@ -200,7 +203,7 @@ final class SdkSpanBuilder implements SpanBuilder {
             isSampled(samplingDecision) ? TraceFlags.getSampled() : TraceFlags.getDefault(),
             samplingResultTraceState,
             /* remote= */ false,
-            tracerSharedState.isIdGeneratorSafeToSkipIdValidation());
+            skipIdValidation);
 
     if (!isRecording(samplingDecision)) {
       return Span.wrap(spanContext);
@@ -212,7 +215,7 @@ final class SdkSpanBuilder implements SpanBuilder {
 
     // Avoid any possibility to modify the attributes by adding attributes to the Builder after the
     // startSpan is called. If that happens all the attributes will be added in a new map.
-    AttributesMap recordedAttributes = attributes;
+    AttributesMap recordedAttributes = attributes == null ? null : attributes.toAttributesMap();
     attributes = null;
 
     return SdkSpan.startSpan(
@@ -232,13 +235,11 @@ final class SdkSpanBuilder implements SpanBuilder {
         startEpochNanos);
   }
 
-  private AttributesMap attributes() {
-    AttributesMap attributes = this.attributes;
+  private BufferedAttributes attributes() {
+    BufferedAttributes attributes = this.attributes;
     if (attributes == null) {
-      this.attributes =
-          new AttributesMap(
-              spanLimits.getMaxNumberOfAttributes(), spanLimits.getMaxAttributeValueLength());
-      attributes = this.attributes;
+      attributes = new BufferedAttributes(spanLimits);
+      this.attributes = attributes;
     }
     return attributes;
   }
@@ -0,0 +1,38 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import static io.opentelemetry.api.common.AttributeKey.longKey;
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import org.junit.jupiter.api.Test;
+
+class BufferedAttributesTest {
+
+  @Test
+  void appliesLimitsWhenRead() {
+    BufferedAttributes attributes =
+        new BufferedAttributes(
+            SpanLimits.builder().setMaxNumberOfAttributes(2).setMaxAttributeValueLength(3).build());
+    attributes.put(longKey("one"), 1L);
+    attributes.put(stringKey("two"), "value");
+    attributes.put(longKey("three"), 3L);
+    attributes.put(longKey("one"), 11L);
+
+    assertThat(attributes.asMap())
+        .containsOnly(entry(longKey("one"), 11L), entry(stringKey("two"), "val"));
+
+    // Added to the map directly once it was read.
+    attributes.put(stringKey("two"), "other");
+    AttributesMap attributesMap = attributes.toAttributesMap();
+    assertThat(attributesMap.asMap())
+        .containsOnly(entry(longKey("one"), 11L), entry(stringKey("two"), "oth"));
+    assertThat(attributesMap.getTotalAddedValues()).isEqualTo(5);
+    assertThat(attributes.toAttributesMap()).isSameAs(attributesMap);
+  }
+}